@@ -0,0 +1,219 @@
+package com.oroplatform.idea.oroplatform;
+
+import java.util.*;
+
+//Matches path suffixes against many glob patterns ("*" - any chars except "/", "**" - any chars) in a single pass. Patterns
+//are reversed and merged into a trie which is compiled to deterministic automaton, path is read from the end.
+public class MultiSuffixMatcher<T> {
+    private static final char STAR = '*';
+
+    private final List<Node<T>> nodes = new ArrayList<>();
+    private final Node<T> root;
+    private volatile Automaton<T> automaton;
+
+    public MultiSuffixMatcher() {
+        root = newNode(Token.LITERAL);
+    }
+
+    public static MultiSuffixMatcher<String> of(Collection<String> patterns) {
+        final MultiSuffixMatcher<String> matcher = new MultiSuffixMatcher<>();
+        patterns.forEach(pattern -> matcher.add(pattern, pattern));
+        return matcher;
+    }
+
+    public MultiSuffixMatcher<T> add(String pattern, T value) {
+        Node<T> node = root;
+
+        for (int i = pattern.length() - 1; i >= 0; i--) {
+            final char c = pattern.charAt(i);
+
+            if(c == STAR && i > 0 && pattern.charAt(i - 1) == STAR) {
+                node = node.child(this, Token.DOUBLE_STAR, c);
+                i--;
+            } else if(c == STAR) {
+                node = node.child(this, Token.STAR, c);
+            } else {
+                node = node.child(this, Token.LITERAL, c);
+            }
+        }
+
+        node.values.add(value);
+        automaton = null;
+
+        return this;
+    }
+
+    public Collection<T> match(String path) {
+        final Automaton<T> automaton = compile();
+        final Collection<T> result = new LinkedHashSet<>();
+
+        int state = 0;
+        for (int i = path.length(); state >= 0; i--) {
+            result.addAll(automaton.values.get(state));
+
+            if(i == 0) break;
+
+            state = automaton.next(state, path.charAt(i - 1));
+        }
+
+        return result;
+    }
+
+    public boolean matchesAny(String path) {
+        final Automaton<T> automaton = compile();
+
+        int state = 0;
+        for (int i = path.length(); state >= 0; i--) {
+            if(!automaton.values.get(state).isEmpty()) return true;
+
+            if(i == 0) break;
+
+            state = automaton.next(state, path.charAt(i - 1));
+        }
+
+        return false;
+    }
+
+    private Automaton<T> compile() {
+        Automaton<T> automaton = this.automaton;
+
+        if(automaton == null) {
+            synchronized (this) {
+                automaton = this.automaton;
+                if(automaton == null) {
+                    automaton = new Automaton<>(this);
+                    this.automaton = automaton;
+                }
+            }
+        }
+
+        return automaton;
+    }
+
+    //wildcards match empty string, so they are active together with their parent
+    private void activate(Node<T> node, BitSet active) {
+        if(active.get(node.id)) return;
+
+        active.set(node.id);
+
+        if(node.star != null) activate(node.star, active);
+        if(node.doubleStar != null) activate(node.doubleStar, active);
+    }
+
+    private Node<T> newNode(Token token) {
+        final Node<T> node = new Node<>(nodes.size(), token);
+        nodes.add(node);
+        return node;
+    }
+
+    private enum Token { LITERAL, STAR, DOUBLE_STAR }
+
+    //deterministic automaton built from the trie by subset construction, chars not used in patterns (which are expected
+    //to be ascii) share one transition
+    private static class Automaton<T> {
+        private static final int ASCII = 128;
+
+        private final int[] charClasses = new int[ASCII];
+        private final int otherCharClass;
+        private final List<int[]> transitions = new ArrayList<>();
+        private final List<Collection<T>> values = new ArrayList<>();
+
+        private Automaton(MultiSuffixMatcher<T> matcher) {
+            final List<Character> classChars = new ArrayList<>();
+            classChars.add('/');
+            for (Node<T> node : matcher.nodes) {
+                for (Character c : node.literals.keySet()) {
+                    if(c < ASCII && !classChars.contains(c)) classChars.add(c);
+                }
+            }
+
+            otherCharClass = classChars.size();
+            Arrays.fill(charClasses, otherCharClass);
+            for (int i = 0; i < classChars.size(); i++) {
+                charClasses[classChars.get(i)] = i;
+            }
+
+            final Map<BitSet, Integer> states = new HashMap<>();
+            final List<BitSet> queue = new ArrayList<>();
+            final BitSet initial = new BitSet();
+            matcher.activate(matcher.root, initial);
+            states.put(initial, 0);
+            queue.add(initial);
+
+            for (int state = 0; state < queue.size(); state++) {
+                final BitSet nodes = queue.get(state);
+                final int[] stateTransitions = new int[otherCharClass + 1];
+                final Collection<T> stateValues = new LinkedList<>();
+
+                for (int id = nodes.nextSetBit(0); id >= 0; id = nodes.nextSetBit(id + 1)) {
+                    stateValues.addAll(matcher.nodes.get(id).values);
+                }
+
+                for (int charClass = 0; charClass <= otherCharClass; charClass++) {
+                    final Character c = charClass < otherCharClass ? classChars.get(charClass) : null;
+                    final BitSet next = new BitSet();
+
+                    for (int id = nodes.nextSetBit(0); id >= 0; id = nodes.nextSetBit(id + 1)) {
+                        final Node<T> node = matcher.nodes.get(id);
+
+                        //wildcard consumes the char and stays active together with wildcards following it
+                        if(node.token == Token.DOUBLE_STAR || node.token == Token.STAR && (c == null || c != '/')) {
+                            matcher.activate(node, next);
+                        }
+
+                        final Node<T> child = c == null ? null : node.literals.get(c);
+                        if(child != null) {
+                            matcher.activate(child, next);
+                        }
+                    }
+
+                    if(next.isEmpty()) {
+                        stateTransitions[charClass] = -1;
+                    } else {
+                        Integer nextState = states.get(next);
+                        if(nextState == null) {
+                            nextState = queue.size();
+                            states.put(next, nextState);
+                            queue.add(next);
+                        }
+                        stateTransitions[charClass] = nextState;
+                    }
+                }
+
+                transitions.add(stateTransitions);
+                values.add(stateValues);
+            }
+        }
+
+        private int next(int state, char c) {
+            return transitions.get(state)[c < ASCII ? charClasses[c] : otherCharClass];
+        }
+    }
+
+    private static class Node<T> {
+        private final int id;
+        private final Token token;
+        private final Map<Character, Node<T>> literals = new HashMap<>();
+        private Node<T> star;
+        private Node<T> doubleStar;
+        private final Collection<T> values = new LinkedList<>();
+
+        private Node(int id, Token token) {
+            this.id = id;
+            this.token = token;
+        }
+
+        private Node<T> child(MultiSuffixMatcher<T> matcher, Token token, char c) {
+            switch (token) {
+                case STAR:
+                    if(star == null) star = matcher.newNode(Token.STAR);
+                    return star;
+                case DOUBLE_STAR:
+                    if(doubleStar == null) doubleStar = matcher.newNode(Token.DOUBLE_STAR);
+                    return doubleStar;
+                default:
+                    return literals.computeIfAbsent(c, k -> matcher.newNode(Token.LITERAL));
+            }
+        }
+    }
+}
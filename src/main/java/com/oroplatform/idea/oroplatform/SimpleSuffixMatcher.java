@@ -1,16 +1,14 @@
 package com.oroplatform.idea.oroplatform;
 
-import java.util.regex.Pattern;
-
 public class SimpleSuffixMatcher {
 
-    private final Pattern pattern;
+    private final MultiSuffixMatcher<String> matcher;
 
     public SimpleSuffixMatcher(String pattern) {
-        this.pattern = Pattern.compile(pattern.replaceAll("\\.", "\\\\.").replaceAll("\\*\\*", ".{0,}").replaceAll("\\*", "[^/\\]*")+"$");
+        this.matcher = new MultiSuffixMatcher<String>().add(pattern, pattern);
     }
 
     public boolean matches(String s) {
-        return this.pattern.matcher(s).find();
+        return matcher.matchesAny(s);
     }
 }
@@ -0,0 +1,74 @@
+package com.oroplatform.idea.oroplatform.intellij.actions;
+
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.fileEditor.FileEditorManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.testFramework.LightVirtualFile;
+import com.oroplatform.idea.oroplatform.intellij.indexes.TranslationCoverage;
+import com.oroplatform.idea.oroplatform.intellij.indexes.TranslationIndex;
+import com.oroplatform.idea.oroplatform.settings.OroPlatformSettings;
+
+import java.util.List;
+import java.util.Map;
+
+//Opens report of translation keys missing in every locale, and keys of locales missing in the base locale, by domains
+public class TranslationCoverageReportAction extends AnAction {
+    @Override
+    public void update(AnActionEvent e) {
+        final Project project = e.getProject();
+
+        e.getPresentation().setEnabledAndVisible(project != null && OroPlatformSettings.getInstance(project).isPluginEnabled());
+    }
+
+    @Override
+    public void actionPerformed(AnActionEvent e) {
+        final Project project = e.getProject();
+        if(project == null) return;
+
+        final String report = buildReport(TranslationIndex.instance(project).getTranslationCoverages());
+
+        FileEditorManager.getInstance(project).openFile(new LightVirtualFile("translation-coverage.txt", report), true);
+    }
+
+    static String buildReport(Map<String, TranslationCoverage> coverages) {
+        final StringBuilder report = new StringBuilder()
+            .append("Translation coverage, base locale: ").append(TranslationCoverage.BASE_LOCALE).append("\n");
+
+        coverages.forEach((domain, coverage) -> appendDomain(report, domain, coverage));
+
+        return report.toString();
+    }
+
+    private static void appendDomain(StringBuilder report, String domain, TranslationCoverage coverage) {
+        final String baseLocale = TranslationCoverage.BASE_LOCALE;
+        final int baseKeys = coverage.countKeys(baseLocale);
+        report.append("\n").append(domain).append(", ").append(baseKeys).append(" keys\n");
+
+        for (String locale : coverage.getLocales()) {
+            if(locale.equals(baseLocale)) continue;
+
+            final int missing = coverage.getMissingKeys(locale).size();
+            report.append(locale).append(": ").append(baseKeys - missing).append(" of ").append(baseKeys).append(" keys");
+            if(baseKeys > 0) {
+                report.append(" (").append((baseKeys - missing) * 100 / baseKeys).append("%)");
+            }
+            report.append(", ").append(missing).append(" missing, ")
+                .append(coverage.getUnusedKeys(locale).size()).append(" not in ").append(baseLocale).append("\n");
+        }
+
+        for (String locale : coverage.getLocales()) {
+            if(locale.equals(baseLocale)) continue;
+
+            appendKeys(report, "Missing in " + domain + "." + locale, coverage.getMissingKeys(locale));
+            appendKeys(report, "Defined in " + domain + "." + locale + ", not in " + domain + "." + baseLocale, coverage.getUnusedKeys(locale));
+        }
+    }
+
+    private static void appendKeys(StringBuilder report, String title, List<String> keys) {
+        if(keys.isEmpty()) return;
+
+        report.append("\n").append(title).append(":\n");
+        keys.forEach(key -> report.append("    ").append(key).append("\n"));
+    }
+}
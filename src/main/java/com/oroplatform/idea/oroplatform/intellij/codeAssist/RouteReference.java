@@ -10,6 +10,8 @@ import com.oroplatform.idea.oroplatform.Icons;
 import com.oroplatform.idea.oroplatform.intellij.indexes.RouteIndex;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Objects;
+
 public class RouteReference extends PsiPolyVariantReferenceBase<PsiElement> {
     private final String name;
     private final RouteIndex routeIndex;
@@ -27,8 +29,8 @@ public class RouteReference extends PsiPolyVariantReferenceBase<PsiElement> {
     public ResolveResult[] multiResolve(boolean incompleteCode) {
         return routeIndex.findRoute(name).map(route ->
             phpIndex.getClassesByFQN(route.getControllerName()).stream()
-                .flatMap(phpClass -> phpClass.getMethods().stream())
-                .filter(method -> method.getName().equals(route.getAction()))
+                .map(phpClass -> phpClass.findMethodByName(route.getAction()))
+                .filter(Objects::nonNull)
                 .map(PsiElementResolveResult::new)
                 .toArray(ResolveResult[]::new)
         ).orElseGet(() -> new ResolveResult[0]);
@@ -0,0 +1,70 @@
+package com.oroplatform.idea.oroplatform.intellij.codeAssist;
+
+import com.intellij.codeInsight.completion.*;
+import com.intellij.codeInsight.lookup.LookupElement;
+import com.intellij.codeInsight.lookup.LookupElementBuilder;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiReference;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+//Completes translation references with keys starting with typed prefix. Only first LIMIT keys are shown, "more…" item
+//(or next invocation) shows more of them, and completion restarts on prefix change so longer prefix gets its own keys.
+public class TranslationCompletionContributor extends CompletionContributor {
+    static final int LIMIT = 500;
+    //translation keys have no ellipsis, so "more…" item can't be taken for a key
+    static final String MORE = "more\u2026";
+    private static final Object MORE_LOOKUP_OBJECT = new Object();
+
+    @Override
+    public void fillCompletionVariants(@NotNull CompletionParameters parameters, @NotNull CompletionResultSet result) {
+        if(parameters.getCompletionType() != CompletionType.BASIC) return;
+
+        final PsiElement element = parameters.getPosition().getParent();
+        if(element == null) return;
+
+        for (PsiReference reference : element.getReferences()) {
+            if(reference instanceof TranslationReference) {
+                addVariants(parameters, result, (TranslationReference) reference);
+                return;
+            }
+        }
+    }
+
+    private void addVariants(CompletionParameters parameters, CompletionResultSet result, TranslationReference reference) {
+        final int start = reference.getElement().getTextRange().getStartOffset() + reference.getRangeInElement().getStartOffset();
+        if(parameters.getOffset() < start) return;
+
+        final String prefix = reference.getElement().getText().substring(start - reference.getElement().getTextRange().getStartOffset(),
+            parameters.getOffset() - reference.getElement().getTextRange().getStartOffset());
+        final int invocationCount = Math.max(1, parameters.getInvocationCount());
+        final int limit = LIMIT * invocationCount;
+        final List<LookupElement> variants = reference.getVariants(prefix, limit + 1);
+        final CompletionResultSet prefixResult = result.withPrefixMatcher(new PlainPrefixMatcher(prefix));
+
+        if(variants.size() > limit) {
+            prefixResult.addAllElements(variants.subList(0, limit));
+            //it doesn't start with the prefix, so it gets its own matcher
+            result.withPrefixMatcher(new PlainPrefixMatcher("")).addElement(more(invocationCount + 1));
+            prefixResult.restartCompletionOnAnyPrefixChange();
+        } else {
+            prefixResult.addAllElements(variants);
+        }
+    }
+
+    //restarts completion with next invocation count, nothing is inserted
+    private static LookupElement more(int nextInvocationCount) {
+        return PrioritizedLookupElement.withPriority(
+            LookupElementBuilder.create(MORE_LOOKUP_OBJECT, MORE)
+                .withInsertHandler((context, item) -> {
+                    context.getDocument().deleteString(context.getStartOffset(), context.getTailOffset());
+                    context.getEditor().getCaretModel().moveToOffset(context.getStartOffset());
+                    context.setLaterRunnable(() ->
+                        new CodeCompletionHandlerBase(CompletionType.BASIC).invokeCompletion(context.getProject(), context.getEditor(), nextInvocationCount)
+                    );
+                }),
+            -1
+        );
+    }
+}
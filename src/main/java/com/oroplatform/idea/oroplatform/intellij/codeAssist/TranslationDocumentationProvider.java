@@ -0,0 +1,42 @@
+package com.oroplatform.idea.oroplatform.intellij.codeAssist;
+
+import com.intellij.lang.documentation.AbstractDocumentationProvider;
+import com.intellij.openapi.editor.Editor;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiReference;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+//Shows translated values of translation references. Documentation is generated for the element with reference instead
+//of resolved one, so translation files are not loaded.
+public class TranslationDocumentationProvider extends AbstractDocumentationProvider {
+    @Nullable
+    @Override
+    public PsiElement getCustomDocumentationElement(@NotNull Editor editor, @NotNull PsiFile file, @Nullable PsiElement contextElement) {
+        final PsiElement element = contextElement == null ? null : contextElement.getParent();
+
+        return findReference(element) == null ? null : element;
+    }
+
+    @Nullable
+    @Override
+    public String generateDoc(PsiElement element, @Nullable PsiElement originalElement) {
+        final TranslationReference reference = findReference(element);
+
+        return reference == null ? null : new TranslationPreview(element.getProject()).getDocumentation(reference.getTranslation());
+    }
+
+    @Nullable
+    private static TranslationReference findReference(@Nullable PsiElement element) {
+        if(element == null) return null;
+
+        for (PsiReference reference : element.getReferences()) {
+            if(reference instanceof TranslationReference) {
+                return (TranslationReference) reference;
+            }
+        }
+
+        return null;
+    }
+}
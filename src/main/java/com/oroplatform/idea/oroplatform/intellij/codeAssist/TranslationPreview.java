@@ -0,0 +1,71 @@
+package com.oroplatform.idea.oroplatform.intellij.codeAssist;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.text.StringUtil;
+import com.oroplatform.idea.oroplatform.intellij.indexes.TranslationIndex;
+import com.oroplatform.idea.oroplatform.settings.OroPlatformSettings;
+import com.oroplatform.idea.oroplatform.symfony.TranslatedMessage;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+//Translated values taken from index of compiled catalogues, so translation files are not loaded to show them. English
+//values are shown together with values in locale configured in settings.
+class TranslationPreview {
+    private static final String DEFAULT_LOCALE = "en";
+    private static final int MAX_SHORT_TEXT_LENGTH = 60;
+
+    private final TranslationIndex translationIndex;
+    private final List<String> locales = new ArrayList<>();
+
+    TranslationPreview(Project project) {
+        this.translationIndex = TranslationIndex.instance(project);
+        final String translationLocale = OroPlatformSettings.getInstance(project).getTranslationLocale();
+
+        locales.add(DEFAULT_LOCALE);
+        if(!translationLocale.isEmpty() && !translationLocale.equals(DEFAULT_LOCALE)) {
+            locales.add(translationLocale);
+        }
+    }
+
+    //messages in previewed locales, ordered by locale
+    List<TranslatedMessage> findMessages(String translation) {
+        final Collection<TranslatedMessage> messages = translationIndex.findTranslatedMessages(translation);
+
+        return locales.stream()
+            .flatMap(locale -> messages.stream().filter(message -> locale.equals(message.getLocale())))
+            .collect(Collectors.toList());
+    }
+
+    //single line text for lookup elements
+    @Nullable
+    String getShortText(String translation) {
+        final List<TranslatedMessage> messages = findMessages(translation);
+
+        if(messages.isEmpty()) return null;
+
+        final String text = messages.stream().map(TranslatedMessage::getText).distinct().collect(Collectors.joining(" / "));
+
+        return StringUtil.shortenTextWithEllipsis(text.replaceAll("\\s+", " "), MAX_SHORT_TEXT_LENGTH, 0);
+    }
+
+    @Nullable
+    String getDocumentation(String translation) {
+        final List<TranslatedMessage> messages = findMessages(translation);
+
+        if(messages.isEmpty()) return null;
+
+        final StringBuilder documentation = new StringBuilder("<b>").append(StringUtil.escapeXml(translation)).append("</b>");
+
+        for (TranslatedMessage message : messages) {
+            documentation.append("<p><i>").append(StringUtil.escapeXml(message.getLocale() + ", " + message.getDomain())).append("</i><br/>")
+                .append(StringUtil.escapeXml(message.getText()).replace("\n", "<br/>"))
+                .append("</p>");
+        }
+
+        return documentation.toString();
+    }
+}
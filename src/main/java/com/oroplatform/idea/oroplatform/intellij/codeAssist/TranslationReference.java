@@ -3,17 +3,14 @@ package com.oroplatform.idea.oroplatform.intellij.codeAssist;
 import com.intellij.codeInsight.completion.InsertHandler;
 import com.intellij.codeInsight.lookup.LookupElement;
 import com.intellij.codeInsight.lookup.LookupElementBuilder;
+import com.intellij.codeInsight.lookup.LookupElementPresentation;
+import com.intellij.codeInsight.lookup.LookupElementRenderer;
 import com.intellij.psi.*;
-import com.oroplatform.idea.oroplatform.intellij.codeAssist.yml.YamlScalarVisitor;
 import com.oroplatform.idea.oroplatform.intellij.indexes.TranslationIndex;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.yaml.psi.YAMLFile;
 
-import java.util.Collection;
-import java.util.LinkedList;
-
-import static com.oroplatform.idea.oroplatform.Functions.toStream;
-import static com.oroplatform.idea.oroplatform.intellij.codeAssist.PsiElements.elementFilter;
+import java.util.List;
+import java.util.stream.Collectors;
 
 public class TranslationReference extends PsiPolyVariantReferenceBase<PsiElement> {
     private final String text;
@@ -30,30 +27,36 @@ public class TranslationReference extends PsiPolyVariantReferenceBase<PsiElement
     @NotNull
     @Override
     public ResolveResult[] multiResolve(boolean incompleteCode) {
-        return translationIndex.findFilesContaining(text).stream()
-            .flatMap(file -> toStream(PsiManager.getInstance(myElement.getProject()).findFile(file)))
-            .flatMap(elementFilter(YAMLFile.class))
-            .flatMap(file -> {
-                final Collection<PsiElement> elements = new LinkedList<>();
-                file.accept(new YamlScalarVisitor((trans, element) -> {
-                    if (trans.equals(text)) {
-                        elements.add(element);
-                    }
-
-                    return null;
-                }));
-
-                return elements.stream();
-            })
+        return translationIndex.findTranslationElements(text).stream()
             .map(PsiElementResolveResult::new)
             .toArray(ResolveResult[]::new);
     }
 
+    String getTranslation() {
+        return text;
+    }
+
+    //there are too many translations to give them all, TranslationCompletionContributor adds variants for typed prefix
     @NotNull
     @Override
     public Object[] getVariants() {
-        return translationIndex.findTranslations().stream()
-            .map(element -> LookupElementBuilder.create(element).withInsertHandler(insertHandler))
-            .toArray();
+        return EMPTY_ARRAY;
+    }
+
+    //at most limit variants starting with prefix, translated values are looked up only when variants are rendered
+    List<LookupElement> getVariants(String prefix, int limit) {
+        final TranslationPreview preview = new TranslationPreview(myElement.getProject());
+        final LookupElementRenderer<LookupElement> renderer = new LookupElementRenderer<LookupElement>() {
+            @Override
+            public void renderElement(LookupElement element, LookupElementPresentation presentation) {
+                presentation.setItemText(element.getLookupString());
+                presentation.setTypeText(preview.getShortText(element.getLookupString()));
+                presentation.setTypeGrayed(true);
+            }
+        };
+
+        return translationIndex.getTranslationKeys().withPrefix(prefix, limit).stream()
+            .map(translation -> LookupElementBuilder.create(translation).withInsertHandler(insertHandler).withRenderer(renderer))
+            .collect(Collectors.toList());
     }
 }
@@ -1,25 +1,37 @@
 package com.oroplatform.idea.oroplatform.intellij.codeAssist.javascript;
 
+import com.google.common.base.Objects;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Optional;
+import java.util.*;
 
+//Immutable, so the same merged config can be read by many threads
 public class RequireJsConfig {
-    private final Map<String, String> pathAliases = new HashMap<>();
-    private Map<String, String> reversedPathAliases;
-    private final Map<String, Map<String, String>> mappings = new HashMap<>();
-    private Map<String, Map<String, String>> reversedMappings;
+    private final Map<String, String> pathAliases;
+    private final Map<String, String> reversedPathAliases;
+    private final Map<String, Map<String, String>> mappings;
+    private final Map<String, Map<String, String>> reversedMappings;
 
     public RequireJsConfig(Map<String, String> pathAliases, Map<String, Map<String, String>> mappings) {
-        this.pathAliases.putAll(pathAliases);
-        this.mappings.putAll(mappings);
+        this.pathAliases = Collections.unmodifiableMap(new HashMap<>(pathAliases));
+        this.reversedPathAliases = reverseMap(pathAliases);
+
+        final Map<String, Map<String, String>> copiedMappings = new HashMap<>();
+        final Map<String, Map<String, String>> reversedMappings = new HashMap<>();
+        mappings.forEach((key, value) -> {
+            copiedMappings.put(key, Collections.unmodifiableMap(new HashMap<>(value)));
+            reversedMappings.put(key, reverseMap(value));
+        });
+        this.mappings = Collections.unmodifiableMap(copiedMappings);
+        this.reversedMappings = Collections.unmodifiableMap(reversedMappings);
     }
 
-    RequireJsConfig() {
-        this(new HashMap<>(), new HashMap<>());
+    public Map<String, String> getPathAliases() {
+        return pathAliases;
+    }
+
+    public Map<String, Map<String, String>> getMappings() {
+        return mappings;
     }
 
     public Optional<String> getPathForAlias(String alias) {
@@ -27,28 +39,29 @@ public class RequireJsConfig {
     }
 
     public Optional<String> getAliasForPath(String path) {
-        synchronized (this) {
-            if(reversedPathAliases == null) {
-                reversedPathAliases = reverseMap(pathAliases);
-            }
-        }
-
         return Optional.ofNullable(reversedPathAliases.get(path));
     }
 
     @NotNull
-    private Map<String, String> reverseMap(Map<String, String> map) {
+    private static Map<String, String> reverseMap(Map<String, String> map) {
         final Map<String, String> reversedMap = new HashMap<>();
         map.forEach((key, value) -> reversedMap.put(value, key));
-        return reversedMap;
+        return Collections.unmodifiableMap(reversedMap);
     }
 
     public RequireJsConfig merge(RequireJsConfig config) {
-        final Map<String, String> mergedPaths = new HashMap<>(pathAliases);
-        mergedPaths.putAll(config.pathAliases);
+        return merge(Arrays.asList(this, config));
+    }
 
-        final Map<String, Map<String, String>> mergedMappings = new HashMap<>(mappings);
-        config.mappings.forEach((key, value) -> mergedMappings.merge(key, value, RequireJsConfig::merge));
+    //later configs override earlier ones
+    public static RequireJsConfig merge(Collection<RequireJsConfig> configs) {
+        final Map<String, String> mergedPaths = new HashMap<>();
+        final Map<String, Map<String, String>> mergedMappings = new HashMap<>();
+
+        for (RequireJsConfig config : configs) {
+            mergedPaths.putAll(config.pathAliases);
+            config.mappings.forEach((key, value) -> mergedMappings.computeIfAbsent(key, k -> new HashMap<>()).putAll(value));
+        }
 
         return new RequireJsConfig(mergedPaths, mergedMappings);
     }
@@ -64,20 +77,20 @@ public class RequireJsConfig {
     }
 
     public Optional<String> getPackageForAlias(String pkg, String pkgAlias) {
-        synchronized (this) {
-            if(reversedMappings == null) {
-                reversedMappings = new HashMap<>();
-                mappings.forEach((key, value) -> reversedMappings.put(key, reverseMap(value)));
-            }
-        }
-
         return getValueFromMapOfMaps(reversedMappings, pkg, pkgAlias);
     }
 
-    private static <K,V> Map<K, V> merge(Map<K, V> map1, Map<K, V> map2) {
-        final Map<K, V> result = new HashMap<>(map1);
-        result.putAll(map2);
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RequireJsConfig config = (RequireJsConfig) o;
+        return Objects.equal(pathAliases, config.pathAliases) &&
+            Objects.equal(mappings, config.mappings);
+    }
 
-        return result;
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(pathAliases, mappings);
     }
 }
@@ -13,6 +13,7 @@ import com.jetbrains.php.lang.lexer.PhpTokenTypes;
 import com.jetbrains.php.lang.psi.elements.MemberReference;
 import com.jetbrains.php.lang.psi.resolve.types.PhpType;
 import com.oroplatform.idea.oroplatform.Icons;
+import com.oroplatform.idea.oroplatform.intellij.indexes.EntityExtensionFileBasedIndex;
 import com.oroplatform.idea.oroplatform.settings.OroPlatformSettings;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -39,7 +40,7 @@ public class EntityExtensionCompletion extends CompletionContributor {
                 final VirtualFile appDir = settings.getAppVirtualDir();
                 if (appDir == null) return;
 
-                final String extensionsPath = appDir.getPath() + "/" + EntityExtensions.EXTENSIONS_DIR_RELATIVE_PATH;
+                final String extensionsPath = appDir.getPath() + "/" + EntityExtensionFileBasedIndex.EXTENSIONS_DIR_RELATIVE_PATH;
                 if(!excluded(project, extensionsPath)) return;
 
                 final EntityExtensions extensions = EntityExtensions.instance(project);
@@ -48,7 +49,11 @@ public class EntityExtensionCompletion extends CompletionContributor {
                 type.getTypes().stream()
                     .flatMap(t -> entities.findEntities(t).stream())
                     .flatMap(entity -> extensions.getMethods(entity).stream())
-                    .map(method -> LookupElementBuilder.create(method.name+"()").withIcon(Icons.PUBLIC_METHOD))
+                    .map(method -> LookupElementBuilder.create(method.getName()+"()")
+                        .withPresentableText(method.getName())
+                        .withTailText("(" + method.getParameters() + ")", true)
+                        .withTypeText(method.getReturnType())
+                        .withIcon(Icons.PUBLIC_METHOD))
                     .forEach(result::addElement);
             }
 
@@ -9,7 +9,6 @@ import com.jetbrains.php.lang.psi.elements.*;
 import com.jetbrains.php.lang.psi.resolve.types.PhpType;
 import com.jetbrains.php.lang.psi.resolve.types.PhpTypeProvider3;
 import com.oroplatform.idea.oroplatform.settings.OroPlatformSettings;
-import com.oroplatform.idea.oroplatform.symfony.Entity;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
@@ -44,10 +43,10 @@ public class EntityExtensionTypeProvider implements PhpTypeProvider3 {
             final PhpType phpType = new PhpType();
 
             for (String localType : method.getLocalType(false).getTypes()) {
-                phpType.add(getType(project, localType));
+                addType(phpType, getType(project, localType));
             }
 
-            return phpType;
+            return nullIfEmpty(phpType);
         }
 
         if(psiElement instanceof Field) {
@@ -56,18 +55,18 @@ public class EntityExtensionTypeProvider implements PhpTypeProvider3 {
             final PhpType phpType = new PhpType();
 
             for (String type : field.getType().getTypes()) {
-                phpType.add(getType(project, type));
+                addType(phpType, getType(project, type));
             }
 
-            if(field.getDocComment() == null || field.getDocComment().getVarTag() == null) return phpType;
+            if(field.getDocComment() == null || field.getDocComment().getVarTag() == null) return nullIfEmpty(phpType);
 
             final PhpDocParamTag varTag = field.getDocComment().getVarTag();
 
             for (String type : varTag.getType().getTypes()) {
-                phpType.add(getType(project, type));
+                addType(phpType, getType(project, type));
             }
 
-            return phpType;
+            return nullIfEmpty(phpType);
         }
 
         if(psiElement instanceof AssignmentExpression) {
@@ -85,18 +84,20 @@ public class EntityExtensionTypeProvider implements PhpTypeProvider3 {
         return null;
     }
 
-    private PhpType getType(Project project, String className) {
-        final PhpType outputType = new PhpType();
-
-        for (Entity entity : Entities.instance(project).findEntities(className)) {
-            final String bundleName = entity.getBundle().getName();
+    @Nullable
+    private static PhpType nullIfEmpty(PhpType phpType) {
+        return phpType.isEmpty() ? null : phpType;
+    }
 
-            final String extensionClassName = "\\Extend\\Entity\\EX_" + bundleName + "_" + entity.getSimpleName();
+    private static void addType(PhpType phpType, @Nullable PhpType type) {
+        if(type != null) phpType.add(type);
+    }
 
-            outputType.add("#C" + extensionClassName);
-        }
+    @Nullable
+    private PhpType getType(Project project, String className) {
+        final String extensionClassName = EntityExtensions.instance(project).findExtensionClassName(className);
 
-        return outputType;
+        return extensionClassName == null ? null : new PhpType().add("#C" + extensionClassName);
     }
 
     @SuppressWarnings("unused")
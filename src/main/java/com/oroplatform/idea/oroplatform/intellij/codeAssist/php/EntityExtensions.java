@@ -2,104 +2,135 @@ package com.oroplatform.idea.oroplatform.intellij.codeAssist.php;
 
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.util.Key;
-import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.search.GlobalSearchScope;
 import com.intellij.psi.util.CachedValue;
 import com.intellij.psi.util.CachedValueProvider;
 import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.jetbrains.php.PhpIndex;
+import com.oroplatform.idea.oroplatform.intellij.indexes.EntityExtensionFileBasedIndex;
+import com.oroplatform.idea.oroplatform.intellij.indexes.EntityExtensionsModificationTracker;
 import com.oroplatform.idea.oroplatform.settings.OroPlatformSettings;
 import com.oroplatform.idea.oroplatform.symfony.Entity;
-import gnu.trove.THashMap;
+import com.oroplatform.idea.oroplatform.symfony.EntityExtensionMethod;
+import gnu.trove.THashSet;
+import org.jetbrains.annotations.Nullable;
 
-import java.io.IOException;
-import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 class EntityExtensions {
 
-    static final String EXTENSIONS_DIR_RELATIVE_PATH = "cache/dev/oro_entities/Extend/Entity";
+    private static final String EXTENSIONS_NAMESPACE = "\\Extend\\Entity\\";
+    private static final String NOT_EXTENDED = "";
 
-    private static final Key<CachedValue<Map<String, Collection<String>>>> CACHE_KEY =
+    private static final Key<CachedValue<Set<String>>> EXTENSIONS_CACHE_KEY =
         new Key<>("com.oroplatform.idea.oroplatform.cache.entity_extensions");
+    private static final Key<CachedValue<ConcurrentMap<String, String>>> EXTENDED_ENTITIES_CACHE_KEY =
+        new Key<>("com.oroplatform.idea.oroplatform.cache.extended_entities");
 
     private final Project project;
-    private static final Pattern METHOD_PATTERN = Pattern.compile("public function ([a-z-A-Z0-9][a-z-A-Z0-9_]*)");
+    //extension classes are usually excluded, so they are out of allScope
+    private final GlobalSearchScope searchScope;
 
     private EntityExtensions(Project project) {
         this.project = project;
+        this.searchScope = GlobalSearchScope.everythingScope(project);
     }
 
     public static EntityExtensions instance(Project project) {
         return new EntityExtensions(project);
     }
 
-    Collection<ExtensionMethod> getMethods(Entity entity) {
-        final String filename = "EX_" + entity.getBundle().getName() + "_" + entity.getSimpleName()+".php";
+    static String getExtensionClassName(Entity entity) {
+        return "EX_" + entity.getBundle().getName() + "_" + entity.getSimpleName();
+    }
 
-        final Collection<String> methodNames = getEntityExtensions().get(filename);
+    Collection<EntityExtensionMethod> getMethods(Entity entity) {
+        final Collection<EntityExtensionMethod> methods = new LinkedHashSet<>();
 
-        if(methodNames == null) return Collections.emptyList();
+        FileBasedIndex.getInstance()
+            .getValues(EntityExtensionFileBasedIndex.KEY, getExtensionClassName(entity), searchScope)
+            .forEach(methods::addAll);
 
-        return methodNames.stream().map(ExtensionMethod::new).collect(Collectors.toList());
+        return methods;
     }
 
-    private Map<String, Collection<String>> getEntityExtensions() {
-        CachedValue<Map<String, Collection<String>>> cachedExtensions = project.getUserData(CACHE_KEY);
+    //fully qualified name of extension class of given class, null when it isn't an extended entity. Results are
+    //remembered for every asked class, so most of calls are a single lookup
+    @Nullable
+    String findExtensionClassName(String className) {
+        final ConcurrentMap<String, String> extendedEntities = getExtendedEntities();
+        String extensionClassName = extendedEntities.get(className);
+
+        //indexes are looked up outside of the map lock
+        if(extensionClassName == null) {
+            final String resolvedClassName = resolveExtensionClassName(className);
+            final String previousClassName = extendedEntities.putIfAbsent(className, resolvedClassName);
+            extensionClassName = previousClassName != null ? previousClassName : resolvedClassName;
+        }
+
+        return NOT_EXTENDED.equals(extensionClassName) ? null : extensionClassName;
+    }
 
-        if(cachedExtensions == null) {
-            cachedExtensions = CachedValuesManager.getManager(project).createCachedValue(() -> {
-                final OroPlatformSettings settings = OroPlatformSettings.getInstance(project);
-                final VirtualFile appDir = settings.getAppVirtualDir();
+    private String resolveExtensionClassName(String className) {
+        final Set<String> extensionClassNames = getExtensionClassNames();
+        final PhpIndex phpIndex = PhpIndex.getInstance(project);
 
-                if(appDir == null) return null;
-                final VirtualFile extensionsDir = appDir.findFileByRelativePath(EXTENSIONS_DIR_RELATIVE_PATH);
-                if(extensionsDir == null) return null;
+        return Entities.instance(project).findEntities(className).stream()
+            .map(EntityExtensions::getExtensionClassName)
+            .filter(name -> extensionClassNames.contains(name) || !phpIndex.getClassesByFQN(EXTENSIONS_NAMESPACE + name).isEmpty())
+            .map(name -> EXTENSIONS_NAMESPACE + name)
+            .findFirst()
+            .orElse(NOT_EXTENDED);
+    }
 
-                final Map<String, Collection<String>> extensions = loadEntityExtensions(extensionsDir);
-                final Collection<Object> dependencies = new LinkedList<>();
-                dependencies.add(settings);
-                dependencies.add(extensionsDir);
-                dependencies.addAll(Arrays.asList(extensionsDir.getChildren()));
+    //extension classes declared in the project are tracked by EntityExtensionsModificationTracker as well
+    private ConcurrentMap<String, String> getExtendedEntities() {
+        CachedValue<ConcurrentMap<String, String>> cachedValue = project.getUserData(EXTENDED_ENTITIES_CACHE_KEY);
 
-                return CachedValueProvider.Result.create(extensions, dependencies);
-            }, false);
+        if(cachedValue == null) {
+            final OroPlatformSettings settings = OroPlatformSettings.getInstance(project);
+            cachedValue = CachedValuesManager.getManager(project).createCachedValue(() -> CachedValueProvider.Result.create(
+                new ConcurrentHashMap<String, String>(), EntityExtensionsModificationTracker.getInstance(project), settings
+            ), false);
 
-            project.putUserData(CACHE_KEY, cachedExtensions);
+            project.putUserData(EXTENDED_ENTITIES_CACHE_KEY, cachedValue);
         }
 
-        final Map<String, Collection<String>> value = cachedExtensions.getValue();
-        return value == null ? Collections.emptyMap() : value;
+        return cachedValue.getValue();
     }
 
-    private Map<String, Collection<String>> loadEntityExtensions(VirtualFile extensionsDir) {
-        final Map<String, Collection<String>> extensions = new THashMap<>();
-        for (VirtualFile file : extensionsDir.getChildren()) {
-            extensions.put(file.getName(), getExtensionMethodsFromFile(file));
-        }
+    private Set<String> getExtensionClassNames() {
+        CachedValue<Set<String>> cachedValue = project.getUserData(EXTENSIONS_CACHE_KEY);
 
-        return extensions;
-    }
+        if(cachedValue == null) {
+            final OroPlatformSettings settings = OroPlatformSettings.getInstance(project);
+            cachedValue = CachedValuesManager.getManager(project).createCachedValue(() -> CachedValueProvider.Result.create(
+                findExtensionClassNames(), EntityExtensionsModificationTracker.getInstance(project), settings
+            ), false);
 
-    private Collection<String> getExtensionMethodsFromFile(VirtualFile classFile) {
-        try {
-            final String contents = new String(classFile.contentsToByteArray(), classFile.getCharset());
-            final Collection<String> methods = new LinkedList<>();
-            final Matcher matcher = METHOD_PATTERN.matcher(contents);
-            while(matcher.find()) {
-                methods.add(matcher.group(1));
-            }
-            return methods;
-        } catch (IOException e) {
-            return Collections.emptyList();
+            project.putUserData(EXTENSIONS_CACHE_KEY, cachedValue);
         }
+
+        return cachedValue.getValue();
     }
 
-    static class ExtensionMethod {
-        final String name;
+    private Set<String> findExtensionClassNames() {
+        final FileBasedIndex index = FileBasedIndex.getInstance();
+        final Set<String> names = new THashSet<>();
 
-        ExtensionMethod(String name) {
-            this.name = name;
+        //keys of removed files may be still there
+        for (String name : index.getAllKeys(EntityExtensionFileBasedIndex.KEY, project)) {
+            if(!index.getContainingFiles(EntityExtensionFileBasedIndex.KEY, name, searchScope).isEmpty()) {
+                names.add(name);
+            }
         }
+
+        return Collections.unmodifiableSet(names);
     }
 }
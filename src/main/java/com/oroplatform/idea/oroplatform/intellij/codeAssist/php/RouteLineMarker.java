@@ -0,0 +1,65 @@
+package com.oroplatform.idea.oroplatform.intellij.codeAssist.php;
+
+import com.intellij.codeInsight.daemon.LineMarkerInfo;
+import com.intellij.codeInsight.daemon.LineMarkerProvider;
+import com.intellij.codeInsight.navigation.NavigationGutterIconBuilder;
+import com.intellij.openapi.util.NotNullLazyValue;
+import com.intellij.psi.PsiElement;
+import com.jetbrains.php.lang.psi.elements.Method;
+import com.jetbrains.php.lang.psi.elements.PhpClass;
+import com.oroplatform.idea.oroplatform.Icons;
+import com.oroplatform.idea.oroplatform.OroPlatformBundle;
+import com.oroplatform.idea.oroplatform.intellij.indexes.RouteIndex;
+import com.oroplatform.idea.oroplatform.settings.OroPlatformSettings;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.oroplatform.idea.oroplatform.intellij.codeAssist.PsiElements.elementFilter;
+
+//Routes of controller actions, found by ControllerRouteFileBasedIndex together with offsets of their definitions
+public class RouteLineMarker implements LineMarkerProvider {
+    @Nullable
+    @Override
+    public LineMarkerInfo getLineMarkerInfo(@NotNull PsiElement element) {
+        return null;
+    }
+
+    @Override
+    public void collectSlowLineMarkers(@NotNull List<PsiElement> elements, @NotNull Collection<LineMarkerInfo> result) {
+        if(elements.isEmpty() || !OroPlatformSettings.getInstance(elements.get(0).getProject()).isPluginEnabled()) {
+            return;
+        }
+
+        final RouteIndex routeIndex = RouteIndex.instance(elements.get(0).getProject());
+
+        elements.stream()
+            .flatMap(elementFilter(Method.class))
+            .filter(method -> method.getNameIdentifier() != null && method.getContainingClass() != null)
+            .flatMap(method -> {
+                final PhpClass phpClass = method.getContainingClass();
+                final Collection<String> names = routeIndex.findRouteNames(phpClass.getFQN(), method.getName());
+
+                if(names.isEmpty()) {
+                    return Stream.empty();
+                } else {
+                    return Stream.of(
+                        NavigationGutterIconBuilder.create(Icons.ROUTE)
+                        .setTargets(new NotNullLazyValue<Collection<? extends PsiElement>>() {
+                            @NotNull
+                            @Override
+                            protected Collection<? extends PsiElement> compute() {
+                                return routeIndex.findRouteDefinitions(phpClass.getFQN(), method.getName());
+                            }
+                        })
+                        .setTooltipText(OroPlatformBundle.message("gutter.route", String.join(", ", names)))
+                        .createLineMarkerInfo(method.getNameIdentifier())
+                    );
+                }
+            })
+            .forEach(result::add);
+    }
+}
@@ -0,0 +1,123 @@
+package com.oroplatform.idea.oroplatform.intellij.codeAssist.php;
+
+import com.intellij.codeInsight.daemon.LineMarkerInfo;
+import com.intellij.codeInsight.daemon.LineMarkerProvider;
+import com.intellij.codeInsight.navigation.NavigationGutterIconBuilder;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.NotNullLazyValue;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.psi.xml.XmlFile;
+import com.intellij.psi.xml.XmlTag;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.jetbrains.php.lang.psi.elements.PhpClass;
+import com.oroplatform.idea.oroplatform.Icons;
+import com.oroplatform.idea.oroplatform.OroPlatformBundle;
+import com.oroplatform.idea.oroplatform.intellij.indexes.ServiceTagsFileBasedIndex;
+import com.oroplatform.idea.oroplatform.intellij.indexes.ServicesFileBasedIndex;
+import com.oroplatform.idea.oroplatform.intellij.indexes.ServicesIndex;
+import com.oroplatform.idea.oroplatform.settings.OroPlatformSettings;
+import com.oroplatform.idea.oroplatform.symfony.Service;
+import com.oroplatform.idea.oroplatform.symfony.Tag;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.yaml.YAMLUtil;
+import org.jetbrains.yaml.psi.YAMLFile;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.oroplatform.idea.oroplatform.Functions.toStream;
+import static com.oroplatform.idea.oroplatform.intellij.codeAssist.PsiElements.elementFilter;
+
+public class ServiceLineMarker implements LineMarkerProvider {
+    @Nullable
+    @Override
+    public LineMarkerInfo getLineMarkerInfo(@NotNull PsiElement element) {
+        return null;
+    }
+
+    @Override
+    public void collectSlowLineMarkers(@NotNull List<PsiElement> elements, @NotNull Collection<LineMarkerInfo> result) {
+        if(elements.isEmpty() || !OroPlatformSettings.getInstance(elements.get(0).getProject()).isPluginEnabled()) {
+            return;
+        }
+
+        final ServicesIndex servicesIndex = ServicesIndex.instance(elements.get(0).getProject());
+
+        elements.stream()
+            .flatMap(elementFilter(PhpClass.class))
+            .filter(phpClass -> phpClass.getNameIdentifier() != null)
+            .flatMap(phpClass -> {
+                final Collection<Service> services = servicesIndex.findServicesByClass(phpClass.getFQN());
+
+                if(services.isEmpty()) {
+                    return Stream.empty();
+                } else {
+                    final Project project = phpClass.getProject();
+
+                    return Stream.of(
+                        NavigationGutterIconBuilder.create(Icons.ORO)
+                        .setTargets(new NotNullLazyValue<Collection<? extends PsiElement>>() {
+                            @NotNull
+                            @Override
+                            protected Collection<? extends PsiElement> compute() {
+                                return services.stream()
+                                    .map(Service::getId)
+                                    .distinct()
+                                    .flatMap(id -> findServiceDefinitions(project, id))
+                                    .collect(Collectors.toList());
+                            }
+                        })
+                        .setTooltipText(services.stream().map(this::describe).distinct().collect(Collectors.joining("<br/>", "<html>", "</html>")))
+                        .createLineMarkerInfo(phpClass.getNameIdentifier())
+                    );
+                }
+            })
+            .forEach(result::add);
+    }
+
+    private String describe(Service service) {
+        final String tags = service.getTags().stream()
+            .map(Tag::getName)
+            .filter(Objects::nonNull)
+            .filter(name -> !ServiceTagsFileBasedIndex.SERVICE_LINK_TAG.equals(name))
+            .distinct()
+            .sorted()
+            .map(StringUtil::escapeXml)
+            .collect(Collectors.joining(", "));
+        final String id = StringUtil.escapeXml(service.getId());
+
+        return tags.isEmpty()
+            ? OroPlatformBundle.message("gutter.service", id)
+            : OroPlatformBundle.message("gutter.serviceWithTags", id, tags);
+    }
+
+    private Stream<PsiElement> findServiceDefinitions(Project project, String id) {
+        return FileBasedIndex.getInstance().getContainingFiles(ServicesFileBasedIndex.KEY, id, GlobalSearchScope.allScope(project)).stream()
+            .flatMap(file -> toStream(PsiManager.getInstance(project).findFile(file)))
+            .map(file -> findServiceDefinition(file, id));
+    }
+
+    private PsiElement findServiceDefinition(PsiFile file, String id) {
+        if(file instanceof YAMLFile) {
+            final PsiElement definition = YAMLUtil.getQualifiedKeyInFile((YAMLFile) file, "services", id);
+            return definition == null ? file : definition;
+        } else if(file instanceof XmlFile) {
+            return PsiTreeUtil.findChildrenOfType(file, XmlTag.class).stream()
+                .filter(tag -> "service".equals(tag.getName()) && id.equals(tag.getAttributeValue("id")))
+                .<PsiElement>map(tag -> tag)
+                .findFirst()
+                .orElse(file);
+        } else {
+            return file;
+        }
+    }
+}
@@ -5,18 +5,16 @@ import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.openapi.vfs.VfsUtil;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiElement;
-import com.intellij.psi.PsiManager;
 import com.intellij.psi.PsiReferenceProvider;
-import com.jetbrains.php.PhpIndex;
-import com.jetbrains.php.lang.psi.elements.PhpClass;
 import com.oroplatform.idea.oroplatform.StringWrapper;
 import com.oroplatform.idea.oroplatform.intellij.ExtensionFileFilter;
 import com.oroplatform.idea.oroplatform.intellij.codeAssist.*;
-import com.oroplatform.idea.oroplatform.intellij.codeAssist.javascript.RequireJsComponent;
 import com.oroplatform.idea.oroplatform.intellij.codeAssist.javascript.RequireJsConfig;
+import com.oroplatform.idea.oroplatform.intellij.indexes.RequireJsIndex;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -24,27 +22,34 @@ import static com.oroplatform.idea.oroplatform.Functions.toStream;
 
 public class RequirejsReferenceProvider {
     public static PsiReferenceProvider instance() {
+        final RequireJsFilePathTransformer filePathTransformer = new RequireJsFilePathTransformer();
+
         return new WrappedFileReferenceProvider(
             new BundleJsModuleWrappedStringFactory(),
-            new BundleJsRootDirsFinder(),
+            new BundleJsRootDirsFinder(filePathTransformer),
             new ExtensionFileFilter("js"),
-            new RequireJsFilePathTransformer()
+            filePathTransformer
         );
     }
 
+    //module prefix of bundle comes from index, so bundle class doesn't have to be parsed
     private static class BundleJsModuleWrappedStringFactory implements StringWrapperProvider {
-        private final StringWrapperProvider stringWrapperProvider = new PublicResourceWrappedStringFactory();
-
         @Override
         public StringWrapper getStringWrapperFor(@NotNull PsiElement requestElement, @NotNull VirtualFile sourceDir) {
-            return Optional.ofNullable(PsiManager.getInstance(requestElement.getProject()).findDirectory(sourceDir))
-                //dir is used for StringWrapper building, because in this case not important is from which file completion
-                //is triggered (requestElement) as in cases assets in config files, but source dir of completed element (eg. js module).
-                .map(dir -> stringWrapperProvider.getStringWrapperFor(dir, sourceDir))
-                .map(wrapper -> wrapper
-                    .mapPrefix(prefix -> prefix.replace("bundles/", "")+"js/")
-                    .mapSuffix(suffix -> ".js")
-                ).orElse(new StringWrapper("", ""));
+            //dir is used for StringWrapper building, because in this case not important is from which file completion
+            //is triggered (requestElement) as in cases assets in config files, but source dir of completed element (eg. js module).
+            return getBundleDir(sourceDir)
+                .flatMap(bundleDir -> RequireJsIndex.instance(requestElement.getProject()).findModulePrefix(bundleDir))
+                .map(prefix -> new StringWrapper(prefix + "/js/", ".js"))
+                .orElse(new StringWrapper("", ""));
+        }
+
+        private Optional<VirtualFile> getBundleDir(VirtualFile dir) {
+            while(dir != null && !dir.getName().equals("Resources")) {
+                dir = dir.getParent();
+            }
+
+            return Optional.ofNullable(dir).map(VirtualFile::getParent);
         }
     }
 
@@ -56,7 +61,7 @@ public class RequirejsReferenceProvider {
         @Override
         public String referenceFilePath(PsiElement element, String text) {
             final Project project = element.getProject();
-            final RequireJsConfig config = project.getComponent(RequireJsComponent.class).getRequireJsConfig();
+            final RequireJsConfig config = RequireJsIndex.instance(project).getRequireJsConfig();
 
             return config.getPathForAlias(text).map(t -> StringUtil.trimEnd(StringUtil.trimStart(t, "bundles/"), ".js"))
                 .map(Optional::of)
@@ -67,7 +72,7 @@ public class RequirejsReferenceProvider {
         @Override
         public String variantLookupString(PsiElement element, String text) {
             final Project project = element.getProject();
-            final RequireJsConfig config = project.getComponent(RequireJsComponent.class).getRequireJsConfig();
+            final RequireJsConfig config = RequireJsIndex.instance(project).getRequireJsConfig();
 
             return config.getAliasForPath("bundles/"+text+".js")
                 .map(Optional::of)
@@ -88,17 +93,31 @@ public class RequirejsReferenceProvider {
     }
 
     private static class BundleJsRootDirsFinder implements RootDirsFinder {
+        private final WrappedFileReferenceProvider.FilePathTransformer filePathTransformer;
+
+        private BundleJsRootDirsFinder(WrappedFileReferenceProvider.FilePathTransformer filePathTransformer) {
+            this.filePathTransformer = filePathTransformer;
+        }
+
         public Collection<VirtualFile> getRootDirs(PsiElement element) {
-            return getBundleClasses(element.getProject()).stream()
-                .flatMap(phpClass -> toStream(phpClass.getContainingFile().getVirtualFile().getParent()))
-                .flatMap(file -> toStream(VfsUtil.findRelativeFile(file, "Resources", "public", "js")))
+            return getBundleDirs(element).stream()
+                .flatMap(dir -> toStream(VfsUtil.findRelativeFile(dir, "Resources", "public", "js")))
                 .collect(Collectors.toList());
         }
 
-        private Collection<PhpClass> getBundleClasses(Project project) {
-            final PhpIndex phpIndex = PhpIndex.getInstance(project);
+        //resolved module is looked up by its prefix only, all bundles are needed for completion
+        private Collection<VirtualFile> getBundleDirs(PsiElement element) {
+            final RequireJsIndex index = RequireJsIndex.instance(element.getProject());
+            final String text = StringUtil.unquoteString(element.getText().trim());
+
+            if(text.contains(PsiElements.IN_PROGRESS_VALUE)) {
+                return index.findAllBundleDirs();
+            }
+
+            final String modulePath = filePathTransformer.referenceFilePath(element, text);
+            final int prefixEnd = modulePath.indexOf('/');
 
-            return phpIndex.getAllSubclasses("\\Symfony\\Component\\HttpKernel\\Bundle\\Bundle");
+            return prefixEnd < 0 ? Collections.emptyList() : index.findBundleDirs(modulePath.substring(0, prefixEnd));
         }
     }
 }
@@ -1,7 +1,7 @@
 package com.oroplatform.idea.oroplatform.intellij.codeAssist.yml;
 
-import com.intellij.codeInsight.completion.CompletionContributor;
-import com.intellij.codeInsight.completion.CompletionType;
+import com.intellij.codeInsight.completion.CompletionParameters;
+import com.intellij.codeInsight.completion.CompletionProvider;
 import com.intellij.patterns.ElementPattern;
 import com.intellij.psi.PsiElement;
 import com.oroplatform.idea.oroplatform.intellij.codeAssist.ChoicesProvider;
@@ -15,18 +15,18 @@ import java.util.stream.Collectors;
 
 class CompletionSchemaVisitor extends YamlVisitor {
     private final CompletionProviders completionProviders;
-    private final CompletionContributor completion;
+    private final SchemaPathIndex<CompletionProvider<CompletionParameters>> completion;
     private final PropertyDescriptionProvider propertyDescriptionProvider = new TypePropertyDescriptionProvider();
 
-    CompletionSchemaVisitor(CompletionProviders completionProviders, CompletionContributor completion, ElementPattern<? extends PsiElement> capture, VisitingContext context) {
-        super(capture, context);
+    CompletionSchemaVisitor(CompletionProviders completionProviders, SchemaPathIndex<CompletionProvider<CompletionParameters>> completion, ElementPattern<? extends PsiElement> capture, SchemaPath path, VisitingContext context) {
+        super(capture, path, context);
         this.completionProviders = completionProviders;
         this.completion = completion;
     }
 
     @Override
-    protected Visitor nextVisitor(ElementPattern<? extends PsiElement> capture, VisitingContext context) {
-        return new CompletionSchemaVisitor(completionProviders, completion, capture, context);
+    protected Visitor nextVisitor(ElementPattern<? extends PsiElement> capture, SchemaPath path, VisitingContext context) {
+        return new CompletionSchemaVisitor(completionProviders, completion, capture, path, context);
     }
 
     @Override
@@ -37,8 +37,8 @@ class CompletionSchemaVisitor extends YamlVisitor {
             )
             .collect(Collectors.toList());
 
-        completion.extend(
-            CompletionType.BASIC,
+        completion.add(
+            path,
             captureElement,
             new ChoiceCompletionProvider(new StaticChoicesProvider(choices), KeyInsertHandler.INSTANCE)
         );
@@ -54,8 +54,8 @@ class CompletionSchemaVisitor extends YamlVisitor {
     @Override
     public void visitScalar(Scalar scalar) {
         scalar.getProvider(completionProviders, insertHandler).ifPresent(provider -> {
-            completion.extend(
-                CompletionType.BASIC,
+            completion.add(
+                path,
                 context == VisitingContext.PROPERTY_VALUE ? YamlPatterns.scalarValue().withSuperParent(2, capture) : capture,
                 provider
             );
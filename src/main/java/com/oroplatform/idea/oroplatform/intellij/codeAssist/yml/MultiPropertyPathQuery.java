@@ -0,0 +1,105 @@
+package com.oroplatform.idea.oroplatform.intellij.codeAssist.yml;
+
+import com.intellij.psi.PsiElement;
+import com.oroplatform.idea.oroplatform.intellij.indexes.yaml.YamlNode;
+import com.oroplatform.idea.oroplatform.schema.PropertyPath;
+import org.jetbrains.yaml.psi.YAMLPsiElement;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+
+//Many property paths merged into a trie by their properties, so common prefixes are evaluated only once and all paths
+//are answered in a single walk of the yaml tree
+public class MultiPropertyPathQuery<T> {
+    private final Node<T> root = new Node<>(null);
+
+    public MultiPropertyPathQuery<T> add(PropertyPath path, T value) {
+        Node<T> node = root;
+        node.values.add(value);
+
+        for (PropertyPath.Property property : path.getProperties()) {
+            node = node.child(property);
+            node.values.add(value);
+        }
+
+        node.queries.add(new Query<>(PropertyPathQuery.compile(path), value));
+
+        return this;
+    }
+
+    //only paths of given values are evaluated, consumer gets value of the path and property found for it
+    public void getPropertiesFrom(Collection<? extends YAMLPsiElement> roots, Collection<T> values, BiConsumer<T, String> consumer) {
+        collect(root, new ArrayList<>(roots), values, consumer);
+    }
+
+    //the same as above for nodes read without psi
+    public void getPropertiesFromNodes(List<YamlNode> roots, Collection<T> values, BiConsumer<T, String> consumer) {
+        collectNodes(root, roots, values, consumer);
+    }
+
+    private void collect(Node<T> node, List<YAMLPsiElement> elements, Collection<T> values, BiConsumer<T, String> consumer) {
+        for (Query<T> query : node.queries) {
+            if(values.contains(query.value)) {
+                for (String property : query.query.getPropertiesOf(elements)) {
+                    consumer.accept(query.value, property);
+                }
+            }
+        }
+
+        for (Node<T> child : node.children.values()) {
+            if(child.values.stream().anyMatch(values::contains)) {
+                final List<YAMLPsiElement> selected = child.step.select(elements, Collections.<PsiElement>emptySet());
+
+                if(!selected.isEmpty()) {
+                    collect(child, selected, values, consumer);
+                }
+            }
+        }
+    }
+
+    private void collectNodes(Node<T> node, List<YamlNode> nodes, Collection<T> values, BiConsumer<T, String> consumer) {
+        for (Query<T> query : node.queries) {
+            if(values.contains(query.value)) {
+                for (String property : query.query.getPropertiesOfNodes(nodes)) {
+                    consumer.accept(query.value, property);
+                }
+            }
+        }
+
+        for (Node<T> child : node.children.values()) {
+            if(child.values.stream().anyMatch(values::contains)) {
+                final List<YamlNode> selected = child.step.selectNodes(nodes);
+
+                if(!selected.isEmpty()) {
+                    collectNodes(child, selected, values, consumer);
+                }
+            }
+        }
+    }
+
+    private static class Node<T> {
+        private final PropertyPathQuery.Step step;
+        private final Map<PropertyPath.Property, Node<T>> children = new LinkedHashMap<>();
+        private final List<Query<T>> queries = new LinkedList<>();
+        //values of all paths going through this node
+        private final Set<T> values = new HashSet<>();
+
+        private Node(PropertyPathQuery.Step step) {
+            this.step = step;
+        }
+
+        private Node<T> child(PropertyPath.Property property) {
+            return children.computeIfAbsent(property, p -> new Node<>(new PropertyPathQuery.Step(p)));
+        }
+    }
+
+    private static class Query<T> {
+        private final PropertyPathQuery query;
+        private final T value;
+
+        private Query(PropertyPathQuery query, T value) {
+            this.query = query;
+            this.value = value;
+        }
+    }
+}
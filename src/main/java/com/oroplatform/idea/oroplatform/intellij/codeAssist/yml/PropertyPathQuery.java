@@ -0,0 +1,354 @@
+package com.oroplatform.idea.oroplatform.intellij.codeAssist.yml;
+
+import com.intellij.openapi.util.Key;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.oroplatform.idea.oroplatform.intellij.indexes.yaml.YamlNode;
+import com.oroplatform.idea.oroplatform.schema.PropertyPath;
+import org.jetbrains.yaml.psi.*;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+//PropertyPath compiled to array of steps. Results of queries relative to psi element are cached per file until the file is
+//modified - they depend only on parent of the element, and only when the path contains "$this".
+class PropertyPathQuery {
+    private static final Key<CachedValue<Map<CacheKey, Collection<?>>>> CACHE_KEY = Key.create("com.oroplatform.idea.oroplatform.cache.property_path_query");
+    private static final Map<PropertyPath, PropertyPathQuery> COMPILED = new ConcurrentHashMap<>();
+
+    private final Step[] steps;
+    private final boolean pointsToValue;
+    private final PropertyPathQuery condition;
+    private final String conditionExpectedValue;
+    private final boolean dependsOnElement;
+
+    private PropertyPathQuery(PropertyPath path) {
+        this.steps = path.getProperties().stream().map(Step::new).toArray(Step[]::new);
+        this.pointsToValue = path.doesPointToValue();
+        this.condition = path.getCondition().map(condition -> compile(condition.getRelativePropertyPath())).orElse(null);
+        this.conditionExpectedValue = path.getCondition().map(PropertyPath.Condition::getExpectedValue).orElse(null);
+        this.dependsOnElement = Arrays.stream(steps).anyMatch(step -> step.isThis);
+    }
+
+    static PropertyPathQuery compile(PropertyPath path) {
+        return COMPILED.computeIfAbsent(path, PropertyPathQuery::new);
+    }
+
+    @SuppressWarnings("unchecked")
+    Collection<String> getPropertiesFrom(PsiElement element) {
+        return (Collection<String>) getCached(element, false);
+    }
+
+    @SuppressWarnings("unchecked")
+    Collection<YAMLPsiElement> getElementsFrom(PsiElement element) {
+        return (Collection<YAMLPsiElement>) getCached(element, true);
+    }
+
+    Collection<String> getPropertiesFrom(Collection<? extends YAMLPsiElement> roots, Set<PsiElement> ancestors) {
+        return getPropertiesOf(select(roots, ancestors));
+    }
+
+    //properties of elements already selected by steps of this path
+    Collection<String> getPropertiesOf(List<YAMLPsiElement> elements) {
+        return pointsToValue ? getValuesOf(elements) : getParentKeysOf(elements);
+    }
+
+    //properties of nodes already selected by steps of this path, nodes are read without psi so "$this" selects nothing
+    Collection<String> getPropertiesOfNodes(List<YamlNode> nodes) {
+        return pointsToValue ? getValuesOfNodes(nodes) : getParentKeysOfNodes(nodes);
+    }
+
+    Collection<YAMLPsiElement> getElementsFrom(Collection<? extends YAMLPsiElement> roots, Set<PsiElement> ancestors) {
+        final List<YAMLPsiElement> elements = select(roots, ancestors);
+
+        return pointsToValue ? getValueElementsOf(elements) : new ArrayList<>(getParentKeyValuesOf(elements));
+    }
+
+    private Collection<?> getCached(PsiElement element, boolean elements) {
+        final PsiFile file = element.getContainingFile();
+        final Map<CacheKey, Collection<?>> cache = CachedValuesManager.getCachedValue(file, CACHE_KEY,
+            () -> CachedValueProvider.Result.create(new ConcurrentHashMap<>(), file));
+        //ancestors of element are the same as ancestors of its parent plus the parent itself
+        final CacheKey key = new CacheKey(this, dependsOnElement ? element.getParent() : null, elements);
+
+        Collection<?> result = cache.get(key);
+
+        if(result == null) {
+            final List<YAMLMapping> roots = YamlPsiElements.getMappingsFrom(file);
+            final Set<PsiElement> ancestors = dependsOnElement ? YamlPsiElements.getAncestors(element) : Collections.emptySet();
+            result = Collections.unmodifiableCollection(elements ? getElementsFrom(roots, ancestors) : getPropertiesFrom(roots, ancestors));
+            cache.put(key, result);
+        }
+
+        return result;
+    }
+
+    private List<YAMLPsiElement> select(Collection<? extends YAMLPsiElement> roots, Set<PsiElement> ancestors) {
+        List<YAMLPsiElement> elements = new ArrayList<>(roots);
+
+        for (Step step : steps) {
+            elements = step.select(elements, ancestors);
+        }
+
+        return elements;
+    }
+
+    private List<YamlNode> selectNodes(List<YamlNode> roots) {
+        List<YamlNode> nodes = roots;
+
+        for (Step step : steps) {
+            nodes = step.selectNodes(nodes);
+        }
+
+        return nodes;
+    }
+
+    private static List<YAMLPsiElement> selectThis(List<YAMLPsiElement> elements, Set<PsiElement> ancestors) {
+        final List<YAMLPsiElement> selected = new ArrayList<>();
+
+        for (YAMLPsiElement element : elements) {
+            for (PsiElement child : element.getChildren()) {
+                if(child instanceof YAMLKeyValue) {
+                    final YAMLValue value = ((YAMLKeyValue) child).getValue();
+                    if(value != null && ancestors.contains(value)) selected.add(value);
+                }
+            }
+        }
+
+        for (YAMLPsiElement item : getSequenceItemsOf(elements)) {
+            if(ancestors.contains(item)) selected.add(item);
+        }
+
+        return selected;
+    }
+
+    private static List<YAMLPsiElement> selectProperty(Step step, List<YAMLPsiElement> elements) {
+        final List<YAMLPsiElement> selected = new ArrayList<>();
+
+        for (YAMLPsiElement element : elements) {
+            if(element instanceof YAMLMapping) {
+                final YAMLMapping mapping = (YAMLMapping) element;
+
+                if(step.isWildcard) {
+                    for (YAMLKeyValue keyValue : mapping.getKeyValues()) {
+                        addIfNotNull(selected, keyValue.getValue());
+                    }
+                } else {
+                    final YAMLKeyValue keyValue = mapping.getKeyValueByKey(step.name);
+                    if(keyValue != null) addIfNotNull(selected, keyValue.getValue());
+                }
+            }
+        }
+
+        //sequences are transparent for named properties, wildcard selects their items
+        if(step.isWildcard) {
+            selected.addAll(getSequenceItemsOf(elements));
+        } else {
+            for (YAMLPsiElement element : elements) {
+                if(element instanceof YAMLSequence) selected.add(element);
+            }
+        }
+
+        if(step.isParent) {
+            for (YAMLPsiElement element : elements) {
+                final PsiElement parent = element.getParent();
+                final PsiElement grandParent = parent == null ? null : parent.getParent();
+                if(grandParent instanceof YAMLPsiElement) selected.add((YAMLPsiElement) grandParent);
+            }
+        }
+
+        return selected;
+    }
+
+    private static List<YamlNode> selectNodeProperty(Step step, List<YamlNode> nodes) {
+        final List<YamlNode> selected = new ArrayList<>();
+
+        for (YamlNode node : nodes) {
+            if(node.getKind() == YamlNode.Kind.MAPPING) {
+                if(step.isWildcard) {
+                    for (YamlNode.Entry entry : node.getEntries()) {
+                        if(entry.getValue() != null) selected.add(entry.getValue());
+                    }
+                } else {
+                    final YamlNode.Entry entry = node.getEntry(step.name);
+                    if(entry != null && entry.getValue() != null) selected.add(entry.getValue());
+                }
+            }
+        }
+
+        for (YamlNode node : nodes) {
+            if(node.getKind() == YamlNode.Kind.SEQUENCE) {
+                if(step.isWildcard) {
+                    selected.addAll(node.getItems());
+                } else {
+                    selected.add(node);
+                }
+            }
+        }
+
+        if(step.isParent) {
+            for (YamlNode node : nodes) {
+                if(node.getParent() != null) selected.add(node.getParent());
+            }
+        }
+
+        return selected;
+    }
+
+    private static List<YAMLPsiElement> getSequenceItemsOf(List<YAMLPsiElement> elements) {
+        final List<YAMLPsiElement> items = new ArrayList<>();
+
+        for (YAMLPsiElement element : elements) {
+            if(element instanceof YAMLSequence) {
+                for (YAMLSequenceItem item : ((YAMLSequence) element).getItems()) {
+                    addIfNotNull(items, item.getValue());
+                }
+            }
+        }
+
+        return items;
+    }
+
+    private Collection<String> getValuesOf(List<YAMLPsiElement> elements) {
+        final List<String> values = new ArrayList<>();
+
+        //condition is checked against all selected elements at once and always against values
+        if(condition != null && !elements.isEmpty() && !condition.getValuesOf(condition.select(elements, Collections.emptySet())).contains(conditionExpectedValue)) {
+            return values;
+        }
+
+        for (YAMLPsiElement element : elements) {
+            if(element instanceof YAMLScalar) values.add(((YAMLScalar) element).getTextValue());
+        }
+
+        for (YAMLPsiElement element : elements) {
+            if(element instanceof YAMLMapping) {
+                for (YAMLKeyValue keyValue : ((YAMLMapping) element).getKeyValues()) {
+                    values.add(keyValue.getKeyText());
+                }
+            }
+        }
+
+        return values;
+    }
+
+    private Collection<String> getValuesOfNodes(List<YamlNode> nodes) {
+        final List<String> values = new ArrayList<>();
+
+        if(condition != null && !nodes.isEmpty() && !condition.getValuesOfNodes(condition.selectNodes(nodes)).contains(conditionExpectedValue)) {
+            return values;
+        }
+
+        for (YamlNode node : nodes) {
+            if(node.getKind() == YamlNode.Kind.SCALAR) values.add(node.getText());
+        }
+
+        for (YamlNode node : nodes) {
+            for (YamlNode.Entry entry : node.getEntries()) {
+                values.add(entry.getKey());
+            }
+        }
+
+        return values;
+    }
+
+    private static Collection<String> getParentKeysOfNodes(List<YamlNode> nodes) {
+        final List<String> keys = new ArrayList<>();
+
+        for (YamlNode node : nodes) {
+            if(node.getKey() != null) keys.add(node.getKey());
+        }
+
+        return keys;
+    }
+
+    private static Collection<YAMLPsiElement> getValueElementsOf(List<YAMLPsiElement> elements) {
+        final List<YAMLPsiElement> values = new ArrayList<>();
+
+        for (YAMLPsiElement element : elements) {
+            if(element instanceof YAMLScalar) values.add(element);
+        }
+
+        for (YAMLPsiElement element : elements) {
+            if(element instanceof YAMLMapping) values.addAll(((YAMLMapping) element).getKeyValues());
+        }
+
+        return values;
+    }
+
+    private static Collection<String> getParentKeysOf(List<YAMLPsiElement> elements) {
+        final List<String> keys = new ArrayList<>();
+
+        for (YAMLKeyValue keyValue : getParentKeyValuesOf(elements)) {
+            keys.add(keyValue.getKeyText());
+        }
+
+        return keys;
+    }
+
+    private static List<YAMLKeyValue> getParentKeyValuesOf(List<YAMLPsiElement> elements) {
+        final List<YAMLKeyValue> keyValues = new ArrayList<>();
+
+        for (YAMLPsiElement element : elements) {
+            if(element.getParent() instanceof YAMLKeyValue) keyValues.add((YAMLKeyValue) element.getParent());
+        }
+
+        return keyValues;
+    }
+
+    private static void addIfNotNull(List<YAMLPsiElement> elements, YAMLPsiElement element) {
+        if(element != null) elements.add(element);
+    }
+
+    static class Step {
+        private final String name;
+        private final boolean isThis;
+        private final boolean isWildcard;
+        private final boolean isParent;
+
+        Step(PropertyPath.Property property) {
+            this.name = property.getName();
+            this.isThis = property.isThis();
+            this.isWildcard = property.isWildcard();
+            this.isParent = "..".equals(property.getName());
+        }
+
+        List<YAMLPsiElement> select(List<YAMLPsiElement> elements, Set<PsiElement> ancestors) {
+            return isThis ? selectThis(elements, ancestors) : selectProperty(this, elements);
+        }
+
+        List<YamlNode> selectNodes(List<YamlNode> nodes) {
+            return isThis ? new ArrayList<>() : selectNodeProperty(this, nodes);
+        }
+    }
+
+    private static class CacheKey {
+        private final PropertyPathQuery query;
+        private final PsiElement parent;
+        private final boolean elements;
+
+        private CacheKey(PropertyPathQuery query, PsiElement parent, boolean elements) {
+            this.query = query;
+            this.parent = parent;
+            this.elements = elements;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            CacheKey cacheKey = (CacheKey) o;
+            return elements == cacheKey.elements &&
+                query == cacheKey.query &&
+                Objects.equals(parent, cacheKey.parent);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(query), parent, elements);
+        }
+    }
+}
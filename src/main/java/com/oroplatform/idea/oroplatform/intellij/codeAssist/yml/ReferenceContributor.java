@@ -1,15 +1,21 @@
 package com.oroplatform.idea.oroplatform.intellij.codeAssist.yml;
 
 import com.intellij.patterns.PsiElementPattern;
-import com.intellij.psi.PsiElement;
-import com.intellij.psi.PsiReferenceContributor;
-import com.intellij.psi.PsiReferenceRegistrar;
+import com.intellij.psi.*;
+import com.intellij.util.ProcessingContext;
 import com.oroplatform.idea.oroplatform.intellij.codeAssist.yml.referenceProvider.TranslationReferenceProvider;
 import com.oroplatform.idea.oroplatform.schema.Schema;
 import com.oroplatform.idea.oroplatform.schema.Schemas;
 import com.oroplatform.idea.oroplatform.schema.Visitor;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.yaml.psi.YAMLDocument;
+import org.jetbrains.yaml.psi.YAMLKeyValue;
+import org.jetbrains.yaml.psi.YAMLScalar;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
 
 import static com.intellij.patterns.PlatformPatterns.psiElement;
 import static com.oroplatform.idea.oroplatform.intellij.codeAssist.PsiElements.fileInProjectWithPluginEnabled;
@@ -20,19 +26,28 @@ public class ReferenceContributor extends PsiReferenceContributor {
 
     @Override
     public void registerReferenceProviders(@NotNull PsiReferenceRegistrar registrar) {
+        final Map<Schema, SchemaPathIndex<PsiReferenceProvider>> providers = new LinkedHashMap<>();
+
         for(Schema schema : Schemas.ALL) {
-            final PsiElementPattern.Capture<YAMLDocument> documentPattern = getDocumentPattern(schema.fileMatcher).inFile(fileInProjectWithPluginEnabled());
+            final PsiElementPattern.Capture<YAMLDocument> documentPattern = getDocumentPattern(schema.fileMatcher);
+            final SchemaPathIndex<PsiReferenceProvider> schemaProviders = new SchemaPathIndex<>();
 
             final Visitor[] visitors = {
-                new ReferenceVisitor(new YamlReferenceProviders(), registrar, documentPattern, YamlVisitor.VisitingContext.PROPERTY_VALUE)
+                new ReferenceVisitor(new YamlReferenceProviders(), schemaProviders, documentPattern, SchemaPath.ROOT, YamlVisitor.VisitingContext.PROPERTY_VALUE)
             };
 
             for (Visitor visitor : visitors) {
                 schema.rootElement.accept(visitor);
             }
 
+            providers.put(schema, schemaProviders);
         }
 
+        //schema references are provided for scalars and keys only, so other elements do not reach the provider
+        final SchemaReferenceProvider schemaReferenceProvider = new SchemaReferenceProvider(providers);
+        registrar.registerReferenceProvider(psiElement(YAMLScalar.class).inFile(fileInProjectWithPluginEnabled()), schemaReferenceProvider);
+        registrar.registerReferenceProvider(psiElement(YAMLKeyValue.class).inFile(fileInProjectWithPluginEnabled()), schemaReferenceProvider);
+
         registerGlobalReferenceProviders(registrar);
     }
 
@@ -45,4 +60,36 @@ public class ReferenceContributor extends PsiReferenceContributor {
         registrar.registerReferenceProvider(transPattern, new TranslationReferenceProvider(FixMissingQuoteInsertHandler.INSTANCE));
     }
 
+    //Dispatches to providers of schema scalars by file schema and keys of the element, so only patterns registered for
+    //place of the element are checked
+    private static class SchemaReferenceProvider extends PsiReferenceProvider {
+        private final Map<Schema, SchemaPathIndex<PsiReferenceProvider>> providers;
+
+        private SchemaReferenceProvider(Map<Schema, SchemaPathIndex<PsiReferenceProvider>> providers) {
+            this.providers = providers;
+        }
+
+        @NotNull
+        @Override
+        public PsiReference[] getReferencesByElement(@NotNull PsiElement element, @NotNull ProcessingContext processingContext) {
+            final List<PsiReference> references = new LinkedList<>();
+            final PsiFile file = element.getContainingFile();
+
+            for(Map.Entry<Schema, SchemaPathIndex<PsiReferenceProvider>> schemaProviders : providers.entrySet()) {
+                if(!schemaProviders.getKey().fileMatcher.matches(file)) continue;
+
+                for(SchemaPathIndex.Entry<PsiReferenceProvider> entry : schemaProviders.getValue().getCandidates(element)) {
+                    final ProcessingContext context = new ProcessingContext();
+
+                    if(entry.pattern.accepts(element, context)) {
+                        for(PsiReference reference : entry.value.getReferencesByElement(element, context)) {
+                            references.add(reference);
+                        }
+                    }
+                }
+            }
+
+            return references.toArray(new PsiReference[references.size()]);
+        }
+    }
 }
@@ -2,7 +2,7 @@ package com.oroplatform.idea.oroplatform.intellij.codeAssist.yml;
 
 import com.intellij.patterns.ElementPattern;
 import com.intellij.psi.PsiElement;
-import com.intellij.psi.PsiReferenceRegistrar;
+import com.intellij.psi.PsiReferenceProvider;
 import com.oroplatform.idea.oroplatform.intellij.codeAssist.ReferenceProviders;
 import com.oroplatform.idea.oroplatform.schema.*;
 
@@ -10,18 +10,18 @@ import static com.intellij.patterns.PlatformPatterns.psiElement;
 
 class ReferenceVisitor extends YamlVisitor {
 
-    private final PsiReferenceRegistrar registrar;
+    private final SchemaPathIndex<PsiReferenceProvider> providers;
     private final ReferenceProviders referenceProviders;
 
-    ReferenceVisitor(ReferenceProviders referenceProviders, PsiReferenceRegistrar registrar, ElementPattern<? extends PsiElement> capture, VisitingContext context) {
-        super(capture, context);
+    ReferenceVisitor(ReferenceProviders referenceProviders, SchemaPathIndex<PsiReferenceProvider> providers, ElementPattern<? extends PsiElement> capture, SchemaPath path, VisitingContext context) {
+        super(capture, path, context);
         this.referenceProviders = referenceProviders;
-        this.registrar = registrar;
+        this.providers = providers;
     }
 
     @Override
-    protected Visitor nextVisitor(ElementPattern<? extends PsiElement> capture, VisitingContext context) {
-        return new ReferenceVisitor(referenceProviders, registrar, capture, context);
+    protected Visitor nextVisitor(ElementPattern<? extends PsiElement> capture, SchemaPath path, VisitingContext context) {
+        return new ReferenceVisitor(referenceProviders, providers, capture, path, context);
     }
 
     @Override
@@ -38,7 +38,8 @@ class ReferenceVisitor extends YamlVisitor {
     @Override
     public void visitScalar(Scalar scalar) {
         scalar.getProvider(referenceProviders, insertHandler).ifPresent(provider -> {
-            registrar.registerReferenceProvider(
+            providers.add(
+                path,
                 context == VisitingContext.PROPERTY_VALUE ? YamlPatterns.scalarValue().andOr(capture, psiElement().withParent(capture)) : capture,
                 provider
             );
@@ -1,29 +1,54 @@
 package com.oroplatform.idea.oroplatform.intellij.codeAssist.yml;
 
-import com.intellij.codeInsight.completion.CompletionContributor;
-import com.intellij.codeInsight.completion.CompletionParameters;
-import com.intellij.codeInsight.completion.CompletionResultSet;
+import com.intellij.codeInsight.completion.*;
+import com.intellij.psi.PsiElement;
+import com.intellij.util.ProcessingContext;
 import com.oroplatform.idea.oroplatform.schema.Schema;
 import com.oroplatform.idea.oroplatform.schema.Schemas;
 import com.oroplatform.idea.oroplatform.schema.Visitor;
 import com.oroplatform.idea.oroplatform.settings.OroPlatformSettings;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import static com.oroplatform.idea.oroplatform.intellij.codeAssist.yml.YamlPatterns.getDocumentPattern;
 
+//Providers are not registered by "extend" - they are dispatched by file schema and keys of the completed element, so
+//only patterns of the matching schema and place are checked
 public class SchemaCompletion extends CompletionContributor {
 
+    private final Map<Schema, SchemaPathIndex<CompletionProvider<CompletionParameters>>> providers = new LinkedHashMap<>();
+
     public SchemaCompletion() {
         for(Schema schema : Schemas.ALL) {
-            Visitor visitor = new CompletionSchemaVisitor(new YamlCompletionProviders(), this, getDocumentPattern(schema.fileMatcher), YamlVisitor.VisitingContext.PROPERTY_VALUE);
+            final SchemaPathIndex<CompletionProvider<CompletionParameters>> schemaProviders = new SchemaPathIndex<>();
+            Visitor visitor = new CompletionSchemaVisitor(new YamlCompletionProviders(), schemaProviders, getDocumentPattern(schema.fileMatcher), SchemaPath.ROOT, YamlVisitor.VisitingContext.PROPERTY_VALUE);
             schema.rootElement.accept(visitor);
+            providers.put(schema, schemaProviders);
         }
     }
 
     @Override
     public void fillCompletionVariants(@NotNull CompletionParameters parameters, @NotNull CompletionResultSet result) {
-        if(OroPlatformSettings.getInstance(parameters.getOriginalFile().getProject()).isPluginEnabled()) {
-            super.fillCompletionVariants(parameters, result);
+        if(parameters.getCompletionType() != CompletionType.BASIC || !OroPlatformSettings.getInstance(parameters.getOriginalFile().getProject()).isPluginEnabled()) {
+            return;
+        }
+
+        final PsiElement position = parameters.getPosition();
+
+        for(Map.Entry<Schema, SchemaPathIndex<CompletionProvider<CompletionParameters>>> schemaProviders : providers.entrySet()) {
+            if(!schemaProviders.getKey().fileMatcher.matches(position.getContainingFile())) continue;
+
+            for(SchemaPathIndex.Entry<CompletionProvider<CompletionParameters>> entry : schemaProviders.getValue().getCandidates(position)) {
+                final ProcessingContext context = new ProcessingContext();
+
+                if(entry.pattern.accepts(position, context)) {
+                    entry.value.addCompletionVariants(parameters, context, result);
+
+                    if(result.isStopped()) return;
+                }
+            }
         }
     }
 }
@@ -0,0 +1,45 @@
+package com.oroplatform.idea.oroplatform.intellij.codeAssist.yml;
+
+import com.oroplatform.idea.oroplatform.schema.Property;
+
+import java.util.LinkedList;
+import java.util.List;
+
+//Path of properties from schema root to element being visited, "any level" step is used for elements repeated at any depth
+class SchemaPath {
+    static final SchemaPath ROOT = new SchemaPath(null, null);
+
+    private final SchemaPath parent;
+    private final Property property;
+
+    private SchemaPath(SchemaPath parent, Property property) {
+        this.parent = parent;
+        this.property = property;
+    }
+
+    SchemaPath property(Property property) {
+        return new SchemaPath(this, property);
+    }
+
+    SchemaPath anyLevel() {
+        return new SchemaPath(this, null);
+    }
+
+    Property getProperty() {
+        return property;
+    }
+
+    boolean isAnyLevel() {
+        return parent != null && property == null;
+    }
+
+    List<SchemaPath> steps() {
+        final LinkedList<SchemaPath> steps = new LinkedList<>();
+
+        for(SchemaPath path = this; path.parent != null; path = path.parent) {
+            steps.addFirst(path);
+        }
+
+        return steps;
+    }
+}
@@ -0,0 +1,97 @@
+package com.oroplatform.idea.oroplatform.intellij.codeAssist.yml;
+
+import com.intellij.patterns.ElementPattern;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.util.PsiTreeUtil;
+import org.jetbrains.yaml.psi.YAMLKeyValue;
+
+import java.util.*;
+
+//Patterns registered for schema elements grouped in a trie by property paths. Candidates for psi element are found by
+//walking the trie along keys of the element, so only patterns registered for given place have to be checked.
+class SchemaPathIndex<T> {
+    private final Node<T> root = new Node<>(null);
+    private int size = 0;
+
+    void add(SchemaPath path, ElementPattern<? extends PsiElement> pattern, T value) {
+        Node<T> node = root;
+
+        for(SchemaPath step : path.steps()) {
+            node = node.child(step);
+        }
+
+        node.entries.add(new Entry<>(size++, pattern, value));
+    }
+
+    Collection<Entry<T>> getCandidates(PsiElement element) {
+        final List<String> keys = getKeys(element);
+        final SortedMap<Integer, Entry<T>> candidates = new TreeMap<>();
+
+        collect(root, keys, 0, candidates);
+
+        return candidates.values();
+    }
+
+    //patterns of element registered for path with n keys match psi element with n keys or n + 1 keys (key in progress)
+    private void collect(Node<T> node, List<String> keys, int depth, Map<Integer, Entry<T>> candidates) {
+        if(node.isAnyLevel() || depth == keys.size() || depth + 1 == keys.size()) {
+            node.entries.forEach(entry -> candidates.put(entry.order, entry));
+        }
+
+        for(Node<T> child : node.children) {
+            if(child.isAnyLevel()) {
+                for(int childDepth = depth; childDepth <= keys.size(); childDepth++) {
+                    collect(child, keys, childDepth, candidates);
+                }
+            } else if(depth < keys.size() && child.step.getProperty().nameMatches(keys.get(depth))) {
+                collect(child, keys, depth + 1, candidates);
+            }
+        }
+    }
+
+    private static List<String> getKeys(PsiElement element) {
+        final LinkedList<String> keys = new LinkedList<>();
+
+        for(YAMLKeyValue keyValue = PsiTreeUtil.getParentOfType(element, YAMLKeyValue.class, false); keyValue != null; keyValue = PsiTreeUtil.getParentOfType(keyValue, YAMLKeyValue.class)) {
+            keys.addFirst(keyValue.getName());
+        }
+
+        return keys;
+    }
+
+    static class Entry<T> {
+        private final int order;
+        final ElementPattern<? extends PsiElement> pattern;
+        final T value;
+
+        private Entry(int order, ElementPattern<? extends PsiElement> pattern, T value) {
+            this.order = order;
+            this.pattern = pattern;
+            this.value = value;
+        }
+    }
+
+    private static class Node<T> {
+        private final SchemaPath step;
+        private final List<Node<T>> children = new LinkedList<>();
+        private final List<Entry<T>> entries = new LinkedList<>();
+
+        private Node(SchemaPath step) {
+            this.step = step;
+        }
+
+        private boolean isAnyLevel() {
+            return step != null && step.isAnyLevel();
+        }
+
+        private Node<T> child(SchemaPath step) {
+            for(Node<T> child : children) {
+                if(child.step.getProperty() == step.getProperty() && child.isAnyLevel() == step.isAnyLevel()) return child;
+            }
+
+            final Node<T> child = new Node<>(step);
+            children.add(child);
+            return child;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.oroplatform.idea.oroplatform.intellij.codeAssist.yml;
+
+import com.intellij.codeInspection.InspectionManager;
+import com.intellij.codeInspection.LocalInspectionTool;
+import com.intellij.codeInspection.ProblemDescriptor;
+import com.intellij.codeInspection.ProblemsHolder;
+import com.intellij.psi.PsiFile;
+import com.oroplatform.idea.oroplatform.OroPlatformBundle;
+import com.oroplatform.idea.oroplatform.SimpleSuffixMatcher;
+import com.oroplatform.idea.oroplatform.intellij.indexes.TranslationCoverage;
+import com.oroplatform.idea.oroplatform.intellij.indexes.TranslationFileBasedIndex;
+import com.oroplatform.idea.oroplatform.intellij.indexes.TranslationIndex;
+import com.oroplatform.idea.oroplatform.settings.OroPlatformSettings;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.yaml.psi.YAMLFile;
+
+import java.util.List;
+
+//Translations of the base locale missing in other locales, and translations of other locales missing in the base one.
+//Locales are compared within the domain of the file.
+public class TranslationCoverageInspection extends LocalInspectionTool {
+    private static final SimpleSuffixMatcher TRANSLATION_FILES = new SimpleSuffixMatcher("Resources/translations/*.yml");
+
+    @Nullable
+    @Override
+    public ProblemDescriptor[] checkFile(@NotNull PsiFile file, @NotNull InspectionManager manager, boolean isOnTheFly) {
+        if(!OroPlatformSettings.getInstance(file.getProject()).isPluginEnabled() || !isTranslationFile(file)) {
+            return new ProblemDescriptor[0];
+        }
+
+        final TranslationCoverage coverage = TranslationIndex.instance(file.getProject()).getTranslationCoverage(TranslationFileBasedIndex.getDomain(file.getVirtualFile()));
+        final String locale = TranslationFileBasedIndex.getLocale(file.getVirtualFile());
+        final ProblemsHolder problems = new ProblemsHolder(manager, file, isOnTheFly);
+
+        file.accept(new YamlScalarVisitor((trans, element) -> {
+            if(locale.equals(TranslationCoverage.BASE_LOCALE)) {
+                final List<String> missingLocales = coverage.getMissingLocales(trans);
+
+                if(!missingLocales.isEmpty()) {
+                    problems.registerProblem(element, OroPlatformBundle.message("inspection.translation.missingInLocales", trans, String.join(", ", missingLocales)));
+                }
+            } else if(coverage.hasLocale(TranslationCoverage.BASE_LOCALE) && !coverage.hasKey(TranslationCoverage.BASE_LOCALE, trans)) {
+                problems.registerProblem(element, OroPlatformBundle.message("inspection.translation.missingInBaseLocale", trans, TranslationCoverage.BASE_LOCALE));
+            }
+            return null;
+        }));
+
+        return problems.getResultsArray();
+    }
+
+    private static boolean isTranslationFile(PsiFile file) {
+        return file instanceof YAMLFile && file.getVirtualFile() != null && TRANSLATION_FILES.matches(file.getVirtualFile().getPath());
+    }
+}
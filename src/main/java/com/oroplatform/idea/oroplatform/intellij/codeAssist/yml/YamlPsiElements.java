@@ -27,13 +27,6 @@ public class YamlPsiElements {
             .collect(Collectors.toList());
     }
 
-    private static Collection<YAMLKeyValue> getKeyValuesFrom(Collection<? extends PsiElement> elements) {
-        return elements.stream()
-            .flatMap(element -> Stream.of(element.getChildren()))
-            .flatMap(elementFilter(YAMLKeyValue.class))
-            .collect(Collectors.toList());
-    }
-
     static Collection<YAMLScalar> filterScalars(Collection<? extends PsiElement> elements) {
         return elements.stream()
             .flatMap(elementFilter(YAMLScalar.class))
@@ -130,20 +123,15 @@ public class YamlPsiElements {
     }
 
     public static Collection<String> getPropertyFrom(PropertyPath path, PsiElement element) {
-        final List<YAMLMapping> elements = getMappingsFrom(element.getContainingFile());
-        final Set<PsiElement> ancestors = getAncestors(element);
-        return path.doesPointToValue() ? getPropertyValuesFrom(path, elements, ancestors) : getPropertyKeysFrom(path, elements, ancestors);
+        return PropertyPathQuery.compile(path).getPropertiesFrom(element);
     }
 
     public static Collection<String> getPropertyFrom(PropertyPath path, Collection<? extends YAMLPsiElement> elements, Set<PsiElement> ancestors) {
-        return path.doesPointToValue() ? getPropertyValuesFrom(path, elements, ancestors) : getPropertyKeysFrom(path, elements, ancestors);
+        return PropertyPathQuery.compile(path).getPropertiesFrom(elements, ancestors);
     }
 
     public static Collection<? extends YAMLPsiElement> getElementsByPath(PropertyPath path, PsiElement element) {
-        final Collection<YAMLMapping> elements = getMappingsFrom(element.getContainingFile());
-        final Set<PsiElement> ancestors = getAncestors(element);
-
-        return path.doesPointToValue() ? getElementsValuesByPath(path, elements, ancestors) : getElementsKeysByPath(path, elements, ancestors);
+        return PropertyPathQuery.compile(path).getElementsFrom(element);
     }
 
     public static Optional<String> getTextOfPhpString(PsiElement element) {
@@ -157,118 +145,4 @@ public class YamlPsiElements {
         }
     }
 
-    private static Collection<? extends YAMLPsiElement> getElementsKeysByPath(PropertyPath path, Collection<? extends YAMLPsiElement> elements, Set<PsiElement> ancestors) {
-        if(path.getProperties().isEmpty()) {
-            return getParentKeyValuesFrom(elements);
-        }
-
-        final PropertyPath.Property property = path.getProperties().element();
-
-        return getElementsKeysByPath(path.dropHead(), getElementsForProperty(property, elements, ancestors), ancestors);
-    }
-
-    private static Collection<YAMLPsiElement> getElementsValuesByPath(PropertyPath path, Collection<? extends YAMLPsiElement> elements, Set<PsiElement> ancestors) {
-        if(path.getProperties().isEmpty()) {
-            return getElementsValuesFrom(elements);
-        }
-
-        final PropertyPath.Property property = path.getProperties().element();
-
-        return getElementsValuesByPath(path.dropHead(), getElementsForProperty(property, elements, ancestors), ancestors);
-    }
-
-    private static Collection<String> getPropertyKeysFrom(PropertyPath path, Collection<? extends YAMLPsiElement> elements, Set<PsiElement> ancestors) {
-        if(path.getProperties().isEmpty()) {
-            return getParentKeysFrom(elements);
-        }
-
-        final PropertyPath.Property property = path.getProperties().element();
-
-        return getPropertyKeysFrom(path.dropHead(), getElementsForProperty(property, elements, ancestors), ancestors);
-    }
-
-    private static Collection<String> getPropertyValuesFrom(PropertyPath path, Collection<? extends YAMLPsiElement> elements, Set<PsiElement> ancestors) {
-        if(path.getProperties().isEmpty()) {
-            return getPropertyValuesFrom(elements.stream()
-                .filter(element -> path.getCondition().map(condition -> meetsCondition(elements, condition)).orElse(true))
-                .collect(Collectors.<YAMLPsiElement>toList()));
-        }
-
-        final PropertyPath.Property property = path.getProperties().element();
-
-        return getPropertyValuesFrom(path.dropHead(), getElementsForProperty(property, elements, ancestors), ancestors);
-    }
-
-    @NotNull
-    private static Boolean meetsCondition(Collection<? extends YAMLPsiElement> elements, PropertyPath.Condition condition) {
-        final PropertyPath relativePropertyPath = condition.getRelativePropertyPath();
-        final String expectedValue = condition.getExpectedValue();
-        return getPropertyValuesFrom(relativePropertyPath, elements, Collections.emptySet()).contains(expectedValue);
-    }
-
-    @NotNull
-    private static Collection<YAMLPsiElement> getElementsForProperty(PropertyPath.Property property, Collection<? extends YAMLPsiElement> elements, Set<PsiElement> ancestors) {
-        if(property.isThis()) {
-            return Stream.concat(
-                getKeyValuesFrom(elements).stream()
-                    .filter(keyValue -> keyValue.getValue() != null && ancestors.contains(keyValue.getValue()))
-                    .map(YAMLKeyValue::getValue),
-                getSequenceItems(elements).stream()
-                    .filter(ancestors::contains)
-            ).collect(Collectors.toList());
-        } else {
-            //TODO: refactor this mess. varargs Stream.concat?
-            return Stream.concat(
-                filterMappings(elements).stream()
-                    .flatMap(mapping -> property.isWildcard() ? mapping.getKeyValues().stream() : toStream(mapping.getKeyValueByKey(property.getName())))
-                    .flatMap(keyValue -> toStream(keyValue::getValue)),
-                Stream.concat(
-                    property.isWildcard() ? getSequenceItems(elements).stream() : filterSequences(elements).stream(),
-                    "..".equals(property.getName()) ?
-                        elements.stream().flatMap(YamlPsiElements::parentOf).flatMap(YamlPsiElements::parentOf).flatMap(elementFilter(YAMLPsiElement.class)) :
-                        Stream.empty()
-                )
-            ).collect(Collectors.toList());
-        }
-    }
-
-    private static Collection<String> getParentKeysFrom(Collection<? extends YAMLPsiElement> elements) {
-        return getParentKeyValuesFrom(elements).stream()
-            .map(YAMLKeyValue::getKeyText)
-            .collect(Collectors.toList());
-    }
-
-    private static Collection<YAMLKeyValue> getParentKeyValuesFrom(Collection<? extends YAMLPsiElement> elements) {
-        return elements.stream()
-            .flatMap(element -> toStream(element.getParent()))
-            .flatMap(elementFilter(YAMLKeyValue.class))
-            .collect(Collectors.toList());
-    }
-
-    private static Stream<PsiElement> parentOf(PsiElement element) {
-        return toStream(element.getParent());
-    }
-
-    private static Collection<String> getPropertyValuesFrom(Collection<? extends YAMLPsiElement> elements) {
-        return Stream.concat(
-            elements.stream()
-                .flatMap(elementFilter(YAMLScalar.class))
-                .map(YAMLScalar::getTextValue),
-            elements.stream()
-                .flatMap(elementFilter(YAMLMapping.class))
-                .flatMap(element -> element.getKeyValues().stream())
-                .map(YAMLKeyValue::getKeyText)
-        ).collect(Collectors.toList());
-    }
-
-    private static Collection<YAMLPsiElement> getElementsValuesFrom(Collection<? extends YAMLPsiElement> elements) {
-        return Stream.concat(
-            elements.stream()
-                .flatMap(elementFilter(YAMLScalar.class)),
-            elements.stream()
-                .flatMap(elementFilter(YAMLMapping.class))
-                .flatMap(element -> element.getKeyValues().stream())
-        ).collect(Collectors.toList());
-    }
-
 }
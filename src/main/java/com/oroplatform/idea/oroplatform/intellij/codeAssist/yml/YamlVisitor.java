@@ -18,24 +18,26 @@ import static com.intellij.patterns.StandardPatterns.string;
 
 abstract class YamlVisitor implements Visitor {
     final ElementPattern<? extends PsiElement> capture;
+    final SchemaPath path;
     final VisitingContext context;
     final InsertHandler<LookupElement> insertHandler;
 
-    YamlVisitor(ElementPattern<? extends PsiElement> capture, VisitingContext context) {
+    YamlVisitor(ElementPattern<? extends PsiElement> capture, SchemaPath path, VisitingContext context) {
         this.capture = capture;
+        this.path = path;
         this.context = context;
         this.insertHandler = context == VisitingContext.PROPERTY_KEY ? KeyInsertHandler.INSTANCE : FixMissingQuoteInsertHandler.INSTANCE;
     }
 
     @Override
     public void visitSequence(Sequence sequence) {
-        sequence.getType().accept(nextVisitor(YamlPatterns.sequence(capture)));
+        sequence.getType().accept(nextVisitor(YamlPatterns.sequence(capture), path));
     }
 
-    protected abstract Visitor nextVisitor(ElementPattern<? extends PsiElement> capture, VisitingContext context);
+    protected abstract Visitor nextVisitor(ElementPattern<? extends PsiElement> capture, SchemaPath path, VisitingContext context);
 
-    private Visitor nextVisitor(ElementPattern<? extends PsiElement> capture) {
-        return nextVisitor(capture, context);
+    private Visitor nextVisitor(ElementPattern<? extends PsiElement> capture, SchemaPath path) {
+        return nextVisitor(capture, path, context);
     }
 
     @Override
@@ -56,8 +58,8 @@ abstract class YamlVisitor implements Visitor {
                 }
             }));
             final ElementPattern<? extends PsiElement> captureForNextVisitor = propertyCapture.withParent(newCapture);
-            property.getValueElement().accept(nextVisitor(captureForNextVisitor));
-            property.getKeyElement().accept(nextVisitor(YamlPatterns.keyInProgress(capture, newCapture), VisitingContext.PROPERTY_KEY));
+            property.getValueElement().accept(nextVisitor(captureForNextVisitor, path.property(property)));
+            property.getKeyElement().accept(nextVisitor(YamlPatterns.keyInProgress(capture, newCapture), path, VisitingContext.PROPERTY_KEY));
         }
     }
 
@@ -65,7 +67,7 @@ abstract class YamlVisitor implements Visitor {
 
     @Override
     public void visitRepeatAtAnyLevel(Repeated repeated) {
-        repeated.getElement().accept(nextVisitor(psiElement().withAncestor(10, capture)));
+        repeated.getElement().accept(nextVisitor(psiElement().withAncestor(10, capture), path.anyLevel()));
     }
 
     enum VisitingContext {
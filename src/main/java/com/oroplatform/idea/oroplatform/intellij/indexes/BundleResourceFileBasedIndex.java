@@ -0,0 +1,81 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes;
+
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.util.indexing.*;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import com.jetbrains.php.lang.PhpFileType;
+import com.oroplatform.idea.oroplatform.settings.OroPlatformSettings;
+import com.oroplatform.idea.oroplatform.symfony.Bundle;
+import gnu.trove.THashMap;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+//Bundle classes by resource name of bundle ("oroui" for Oro\Bundle\UIBundle), which is a prefix of its public
+//resources and requirejs modules. Namespace is read from text, so bundle files don't have to be parsed.
+public class BundleResourceFileBasedIndex extends ScalarIndexExtension<String> {
+    public static final ID<String, Void> KEY = ID.create("com.oroplatform.idea.oroplatform.bundle_resources");
+    static final String BUNDLE_FILE_SUFFIX = "Bundle.php";
+
+    private static final Pattern NAMESPACE_PATTERN = Pattern.compile("^\\s*namespace\\s+([a-zA-Z0-9_\\\\]+)\\s*[;{]", Pattern.MULTILINE);
+    private static final Pattern BUNDLE_CLASS_PATTERN = Pattern.compile("\\bclass\\s+[a-zA-Z0-9_]*Bundle\\b");
+
+    private final KeyDescriptor<String> keyDescriptor = new EnumeratorStringDescriptor();
+
+    @NotNull
+    @Override
+    public DataIndexer<String, Void, FileContent> getIndexer() {
+        return inputData -> {
+            final Map<String, Void> index = new THashMap<>();
+
+            if(!OroPlatformSettings.getInstance(inputData.getProject()).isPluginEnabled()) {
+                return index;
+            }
+
+            final CharSequence content = inputData.getContentAsText();
+            final Matcher namespace = NAMESPACE_PATTERN.matcher(content);
+
+            if(namespace.find() && namespace.group(1).endsWith("Bundle") && BUNDLE_CLASS_PATTERN.matcher(content).find()) {
+                index.put(new Bundle(namespace.group(1)).getResourceName(), null);
+            }
+
+            return index;
+        };
+    }
+
+    @NotNull
+    @Override
+    public ID<String, Void> getName() {
+        return KEY;
+    }
+
+    @Override
+    public int getVersion() {
+        return 0;
+    }
+
+    @NotNull
+    @Override
+    public KeyDescriptor<String> getKeyDescriptor() {
+        return keyDescriptor;
+    }
+
+    @NotNull
+    @Override
+    public FileBasedIndex.InputFilter getInputFilter() {
+        return new DefaultFileTypeSpecificInputFilter(PhpFileType.INSTANCE) {
+            @Override
+            public boolean acceptInput(@NotNull VirtualFile file) {
+                return file.getName().endsWith(BUNDLE_FILE_SUFFIX);
+            }
+        };
+    }
+
+    @Override
+    public boolean dependsOnFileContent() {
+        return true;
+    }
+}
@@ -0,0 +1,82 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+//Scanner of translation catalogues compiled by symfony translator: messages exported by var_export as arguments of
+//MessageCatalogue constructors. It gives up (returns false) on anything else than quoted strings, integer keys and nested
+//arrays in the arguments, so the caller can fall back to psi.
+class CatalogueReader {
+    private static final String CONSTRUCTOR = "MessageCatalogue(";
+
+    private final VarExportScanner scanner;
+
+    private CatalogueReader(CharSequence text) {
+        this.scanner = new VarExportScanner(text);
+    }
+
+    interface DomainConsumer {
+        void accept(String locale, String domain, Map<String, String> messages);
+    }
+
+    static boolean read(CharSequence text, DomainConsumer consumer) {
+        return new CatalogueReader(text).read(consumer);
+    }
+
+    private boolean read(DomainConsumer consumer) {
+        while(scanner.seek(CONSTRUCTOR)) {
+            final String locale = scanner.readString();
+            if(locale == null || !scanner.skip(',')) return false;
+
+            final char domainsEnd = scanner.readArrayStart();
+            if(domainsEnd == 0) return false;
+
+            while(!scanner.skip(domainsEnd)) {
+                final String domain = readKey();
+                if(domain == null || !scanner.skip("=>")) return false;
+
+                final Map<String, String> messages = readMessages();
+                if(messages == null) return false;
+
+                consumer.accept(locale, domain, messages);
+
+                if(!scanner.skip(',')) {
+                    if(!scanner.skip(domainsEnd)) return false;
+                    break;
+                }
+            }
+
+            if(!scanner.skip(')')) return false;
+        }
+
+        return true;
+    }
+
+    private Map<String, String> readMessages() {
+        final char end = scanner.readArrayStart();
+        if(end == 0) return null;
+
+        final Map<String, String> messages = new LinkedHashMap<>();
+
+        while(!scanner.skip(end)) {
+            final String key = readKey();
+            if(key == null || !scanner.skip("=>")) return null;
+
+            final String value = scanner.readString();
+            if(value == null) return null;
+
+            messages.put(key, value);
+
+            if(!scanner.skip(',')) {
+                return scanner.skip(end) ? messages : null;
+            }
+        }
+
+        return messages;
+    }
+
+    private String readKey() {
+        final String integer = scanner.readInteger();
+        return integer != null ? integer : scanner.readString();
+    }
+}
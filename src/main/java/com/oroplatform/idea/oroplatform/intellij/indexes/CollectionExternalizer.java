@@ -1,11 +1,11 @@
 package com.oroplatform.idea.oroplatform.intellij.indexes;
 
 import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
 import gnu.trove.THashSet;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.DataInput;
-import java.io.DataInputStream;
 import java.io.DataOutput;
 import java.io.IOException;
 import java.util.Collection;
@@ -20,6 +20,7 @@ class CollectionExternalizer<T> implements DataExternalizer<Collection<T>> {
     }
 
     public void save(@NotNull DataOutput out, Collection<T> values) throws IOException {
+        DataInputOutputUtil.writeINT(out, values.size());
         for (T value : values) {
             dataExternalizer.save(out, value);
         }
@@ -27,13 +28,13 @@ class CollectionExternalizer<T> implements DataExternalizer<Collection<T>> {
 
     public Collection<T> read(@NotNull DataInput in) throws IOException {
         final Collection<T> result = new THashSet<>();
-        final DataInputStream stream = (DataInputStream)in;
-        while (stream.available() > 0) {
-            final T value = dataExternalizer.read(stream);
+        final int size = DataInputOutputUtil.readINT(in);
+        for (int i = 0; i < size; i++) {
+            final T value = dataExternalizer.read(in);
             if(value != null) {
                 result.add(value);
             }
         }
         return result;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,83 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes;
+
+import com.intellij.ide.highlighter.XmlFileType;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.util.indexing.*;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import com.oroplatform.idea.oroplatform.intellij.indexes.services.ContainerDumpReader;
+import com.oroplatform.idea.oroplatform.settings.OroPlatformSettings;
+import com.oroplatform.idea.oroplatform.symfony.Service;
+import gnu.trove.THashMap;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+
+public class ContainerDumpFileBasedIndex extends FileBasedIndexExtension<String, Service> {
+    public static final ID<String, Service> KEY = ID.create("com.oroplatform.idea.oroplatform.container_dump");
+    private static final DataExternalizer<Service> serviceExternalizer = new ServiceExternalizer();
+    private final KeyDescriptor<String> keyDescriptor = new EnumeratorStringDescriptor();
+    static final FileBasedIndex.InputFilter INPUT_FILTER = new DefaultFileTypeSpecificInputFilter(XmlFileType.INSTANCE) {
+        @Override
+        public boolean acceptInput(@NotNull VirtualFile file) {
+            return isContainerDump(file);
+        }
+    };
+
+    static boolean isContainerDump(VirtualFile file) {
+        return file.getName().endsWith("ProjectContainer.xml") && file.getPath().contains("/cache/dev/");
+    }
+
+    @NotNull
+    @Override
+    public DataIndexer<String, Service, FileContent> getIndexer() {
+        return inputData -> {
+            final Map<String, Service> index = new THashMap<>();
+
+            if(!OroPlatformSettings.getInstance(inputData.getProject()).isPluginEnabled()) {
+                return index;
+            }
+
+            for (Service service : ContainerDumpReader.read(inputData.getContent(), true)) {
+                index.put(service.getId(), service);
+            }
+
+            return index;
+        };
+    }
+
+    @NotNull
+    @Override
+    public ID<String, Service> getName() {
+        return KEY;
+    }
+
+    @Override
+    public int getVersion() {
+        return 0;
+    }
+
+    @NotNull
+    @Override
+    public KeyDescriptor<String> getKeyDescriptor() {
+        return keyDescriptor;
+    }
+
+    @NotNull
+    @Override
+    public FileBasedIndex.InputFilter getInputFilter() {
+        return INPUT_FILTER;
+    }
+
+    @Override
+    public boolean dependsOnFileContent() {
+        return true;
+    }
+
+    @NotNull
+    @Override
+    public DataExternalizer<Service> getValueExternalizer() {
+        return serviceExternalizer;
+    }
+}
@@ -0,0 +1,18 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes;
+
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.project.Project;
+import org.jetbrains.annotations.NotNull;
+
+//Changes when container dumps are created, removed, moved or renamed, or indexes rebuilt. Dumped content is read from
+//ContainerDumpFileBasedIndex, so edits of dumps are not tracked.
+public class ContainerDumpModificationTracker extends FilesModificationTracker {
+
+    public ContainerDumpModificationTracker(Project project) {
+        super(project, ContainerDumpFileBasedIndex::isContainerDump, file -> false, event -> false);
+    }
+
+    public static ContainerDumpModificationTracker getInstance(@NotNull Project project) {
+        return ServiceManager.getService(project, ContainerDumpModificationTracker.class);
+    }
+}
@@ -0,0 +1,78 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes;
+
+import com.intellij.util.indexing.*;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import com.oroplatform.idea.oroplatform.intellij.indexes.services.ContainerDumpReader;
+import com.oroplatform.idea.oroplatform.settings.OroPlatformSettings;
+import com.oroplatform.idea.oroplatform.symfony.Service;
+import com.oroplatform.idea.oroplatform.symfony.Tag;
+import gnu.trove.THashMap;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.Map;
+
+public class ContainerDumpTagsFileBasedIndex extends FileBasedIndexExtension<String, Collection<Service>> {
+    public static final ID<String, Collection<Service>> KEY = ID.create("com.oroplatform.idea.oroplatform.container_dump_tags");
+    private static final DataExternalizer<Collection<Service>> servicesExternalizer = new CollectionExternalizer<>(new ServiceExternalizer());
+    private final KeyDescriptor<String> keyDescriptor = new EnumeratorStringDescriptor();
+
+    @NotNull
+    @Override
+    public DataIndexer<String, Collection<Service>, FileContent> getIndexer() {
+        return inputData -> {
+            final Map<String, Collection<Service>> index = new THashMap<>();
+
+            if(!OroPlatformSettings.getInstance(inputData.getProject()).isPluginEnabled()) {
+                return index;
+            }
+
+            for (Service service : ContainerDumpReader.read(inputData.getContent(), false)) {
+                for (Tag tag : service.getTags()) {
+                    if(tag.getName() == null) continue;
+
+                    index.computeIfAbsent(tag.getName(), name -> new LinkedList<>()).add(service);
+                }
+            }
+
+            return index;
+        };
+    }
+
+    @NotNull
+    @Override
+    public ID<String, Collection<Service>> getName() {
+        return KEY;
+    }
+
+    @Override
+    public int getVersion() {
+        return 0;
+    }
+
+    @NotNull
+    @Override
+    public KeyDescriptor<String> getKeyDescriptor() {
+        return keyDescriptor;
+    }
+
+    @NotNull
+    @Override
+    public FileBasedIndex.InputFilter getInputFilter() {
+        return ContainerDumpFileBasedIndex.INPUT_FILTER;
+    }
+
+    @Override
+    public boolean dependsOnFileContent() {
+        return true;
+    }
+
+    @NotNull
+    @Override
+    public DataExternalizer<Collection<Service>> getValueExternalizer() {
+        return servicesExternalizer;
+    }
+}
@@ -0,0 +1,78 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes;
+
+import com.intellij.util.indexing.*;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import com.oroplatform.idea.oroplatform.settings.OroPlatformSettings;
+import gnu.trove.THashMap;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+
+//Reverse of RouteFileBasedIndex: names of routes by "Controller::action" with offsets of the names in the dump, routes
+//are read by the same reader
+public class ControllerRouteFileBasedIndex extends FileBasedIndexExtension<String, Map<String, Integer>> {
+    public static final ID<String, Map<String, Integer>> KEY = ID.create("com.oroplatform.idea.oroplatform.controller_routes");
+    private static final DataExternalizer<Map<String, Integer>> offsetsExternalizer = new RouteOffsetsExternalizer();
+    private final KeyDescriptor<String> keyDescriptor = new EnumeratorStringDescriptor();
+
+    static String key(String controllerName, String action) {
+        return controllerName + "::" + action;
+    }
+
+    @NotNull
+    @Override
+    public DataIndexer<String, Map<String, Integer>, FileContent> getIndexer() {
+        return inputData -> {
+            final Map<String, Map<String, Integer>> index = new THashMap<>();
+
+            if(!OroPlatformSettings.getInstance(inputData.getProject()).isPluginEnabled()) {
+                return index;
+            }
+
+            final Map<String, Integer> offsets = new THashMap<>();
+            RouteFileBasedIndex.readRoutes(inputData, offsets).forEach((name, route) -> {
+                if(route != null && offsets.containsKey(name)) {
+                    index.computeIfAbsent(key(route.getControllerName(), route.getAction()), key -> new THashMap<>()).put(name, offsets.get(name));
+                }
+            });
+
+            return index;
+        };
+    }
+
+    @NotNull
+    @Override
+    public ID<String, Map<String, Integer>> getName() {
+        return KEY;
+    }
+
+    @Override
+    public int getVersion() {
+        return 1;
+    }
+
+    @NotNull
+    @Override
+    public KeyDescriptor<String> getKeyDescriptor() {
+        return keyDescriptor;
+    }
+
+    @NotNull
+    @Override
+    public FileBasedIndex.InputFilter getInputFilter() {
+        return RouteFileBasedIndex.INPUT_FILTER;
+    }
+
+    @Override
+    public boolean dependsOnFileContent() {
+        return true;
+    }
+
+    @NotNull
+    @Override
+    public DataExternalizer<Map<String, Integer>> getValueExternalizer() {
+        return offsetsExternalizer;
+    }
+}
@@ -0,0 +1,80 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes;
+
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.util.indexing.*;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import com.jetbrains.php.lang.PhpFileType;
+import com.oroplatform.idea.oroplatform.settings.OroPlatformSettings;
+import com.oroplatform.idea.oroplatform.symfony.EntityExtensionMethod;
+import gnu.trove.THashMap;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.Map;
+
+//Methods of classes generated for extended entities by class name, e.g. "EX_OroUserBundle_User"
+public class EntityExtensionFileBasedIndex extends FileBasedIndexExtension<String, Collection<EntityExtensionMethod>> {
+    public static final String EXTENSIONS_DIR_RELATIVE_PATH = "cache/dev/oro_entities/Extend/Entity";
+    public static final ID<String, Collection<EntityExtensionMethod>> KEY = ID.create("com.oroplatform.idea.oroplatform.entity_extensions");
+    private static final DataExternalizer<Collection<EntityExtensionMethod>> methodsExternalizer = new CollectionExternalizer<>(new EntityExtensionMethodExternalizer());
+    private final KeyDescriptor<String> keyDescriptor = new EnumeratorStringDescriptor();
+
+    static final FileBasedIndex.InputFilter INPUT_FILTER = new DefaultFileTypeSpecificInputFilter(PhpFileType.INSTANCE) {
+        @Override
+        public boolean acceptInput(@NotNull VirtualFile file) {
+            return file.getPath().contains("/" + EXTENSIONS_DIR_RELATIVE_PATH + "/");
+        }
+    };
+
+    @NotNull
+    @Override
+    public DataIndexer<String, Collection<EntityExtensionMethod>, FileContent> getIndexer() {
+        return inputData -> {
+            final Map<String, Collection<EntityExtensionMethod>> index = new THashMap<>();
+
+            if(!OroPlatformSettings.getInstance(inputData.getProject()).isPluginEnabled()) {
+                return index;
+            }
+
+            index.put(inputData.getFile().getNameWithoutExtension(), EntityExtensionReader.read(inputData.getContentAsText()));
+
+            return index;
+        };
+    }
+
+    @NotNull
+    @Override
+    public ID<String, Collection<EntityExtensionMethod>> getName() {
+        return KEY;
+    }
+
+    @Override
+    public int getVersion() {
+        return 0;
+    }
+
+    @NotNull
+    @Override
+    public KeyDescriptor<String> getKeyDescriptor() {
+        return keyDescriptor;
+    }
+
+    @NotNull
+    @Override
+    public FileBasedIndex.InputFilter getInputFilter() {
+        return INPUT_FILTER;
+    }
+
+    @Override
+    public boolean dependsOnFileContent() {
+        return true;
+    }
+
+    @NotNull
+    @Override
+    public DataExternalizer<Collection<EntityExtensionMethod>> getValueExternalizer() {
+        return methodsExternalizer;
+    }
+}
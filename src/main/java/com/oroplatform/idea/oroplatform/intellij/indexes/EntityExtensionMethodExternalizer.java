@@ -0,0 +1,32 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes;
+
+import com.intellij.util.io.DataExternalizer;
+import com.oroplatform.idea.oroplatform.symfony.EntityExtensionMethod;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+class EntityExtensionMethodExternalizer implements DataExternalizer<EntityExtensionMethod> {
+    private final DataExternalizer<String> stringExternalizer = new EnumeratedStringExternalizer("");
+    private final DataExternalizer<String> typeExternalizer = new EnumeratedStringExternalizer(
+        "string", "int", "integer", "bool", "boolean", "float", "array", "mixed", "$this", "\\DateTime", "\\Doctrine\\Common\\Collections\\Collection"
+    );
+
+    @Override
+    public void save(@NotNull DataOutput out, EntityExtensionMethod value) throws IOException {
+        stringExternalizer.save(out, value.getName());
+        stringExternalizer.save(out, value.getParameters());
+        typeExternalizer.save(out, value.getReturnType());
+    }
+
+    @Override
+    public EntityExtensionMethod read(@NotNull DataInput in) throws IOException {
+        final String name = stringExternalizer.read(in);
+        final String parameters = stringExternalizer.read(in);
+        final String returnType = typeExternalizer.read(in);
+
+        return new EntityExtensionMethod(name, parameters, returnType);
+    }
+}
@@ -0,0 +1,45 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes;
+
+import com.oroplatform.idea.oroplatform.symfony.EntityExtensionMethod;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+//Reads public methods of generated extension class, magic methods (starting with "_") are skipped.
+//Parameters may contain one level of parentheses in default values, e.g. "array $items = array()"
+class EntityExtensionReader {
+    private static final Pattern METHOD_PATTERN = Pattern.compile(
+        "(?:/\\*\\*([^*]*+(?:\\*(?!/)[^*]*+)*+)\\*/\\s*)?" +
+        "public\\s+(?:static\\s+)?function\\s+&?([a-zA-Z0-9][a-zA-Z0-9_]*)\\s*" +
+        "\\(([^()]*+(?:\\([^()]*+\\)[^()]*+)*+)\\)" +
+        "(?:\\s*:\\s*\\??([\\\\a-zA-Z0-9_]+))?"
+    );
+    private static final Pattern RETURN_TAG_PATTERN = Pattern.compile("@return\\s+([^\\s*]+)");
+    private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+
+    private EntityExtensionReader() {
+    }
+
+    static List<EntityExtensionMethod> read(CharSequence content) {
+        final List<EntityExtensionMethod> methods = new ArrayList<>();
+        final Matcher matcher = METHOD_PATTERN.matcher(content);
+
+        while(matcher.find()) {
+            final String parameters = WHITESPACES.matcher(matcher.group(3)).replaceAll(" ").trim();
+            methods.add(new EntityExtensionMethod(matcher.group(2), parameters, getReturnType(matcher.group(1), matcher.group(4))));
+        }
+
+        return methods;
+    }
+
+    private static String getReturnType(String docComment, String declaredType) {
+        if(declaredType != null) return declaredType;
+        if(docComment == null) return null;
+
+        final Matcher matcher = RETURN_TAG_PATTERN.matcher(docComment);
+
+        return matcher.find() ? matcher.group(1) : null;
+    }
+}
@@ -0,0 +1,35 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.util.indexing.IndexableSetContributor;
+import com.oroplatform.idea.oroplatform.settings.OroPlatformSettings;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.oroplatform.idea.oroplatform.Functions.toStream;
+
+//Generated extension classes are usually excluded together with the cache dir, but they have to be indexed
+//by EntityExtensionFileBasedIndex. Excluded files are still out of allScope, so php classes index doesn't see them.
+public class EntityExtensionsIndexableSetContributor extends IndexableSetContributor {
+    @NotNull
+    @Override
+    public Set<VirtualFile> getAdditionalProjectRootsToIndex(@NotNull Project project) {
+        final OroPlatformSettings settings = OroPlatformSettings.getInstance(project);
+
+        if(!settings.isPluginEnabled()) return Collections.emptySet();
+
+        return toStream(settings.getAppVirtualDir())
+            .flatMap(appDir -> toStream(appDir.findFileByRelativePath(EntityExtensionFileBasedIndex.EXTENSIONS_DIR_RELATIVE_PATH)))
+            .collect(Collectors.toSet());
+    }
+
+    @NotNull
+    @Override
+    public Set<VirtualFile> getAdditionalRootsToIndex() {
+        return Collections.emptySet();
+    }
+}
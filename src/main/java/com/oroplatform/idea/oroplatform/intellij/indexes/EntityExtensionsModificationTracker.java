@@ -0,0 +1,20 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes;
+
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.project.Project;
+import org.jetbrains.annotations.NotNull;
+
+//Changes when entity extension classes could change: files in extensions dir, or "Extend/Entity" dirs of extension
+//classes declared in the project, changed, or indexes rebuilt. Extension classes are usually excluded, so there are
+//no psi events for them.
+public class EntityExtensionsModificationTracker extends FilesModificationTracker {
+    private static final String EXTENSIONS_NAMESPACE_DIR = "/Extend/Entity/";
+
+    public EntityExtensionsModificationTracker(Project project) {
+        super(project, file -> file.getPath().contains(EXTENSIONS_NAMESPACE_DIR));
+    }
+
+    public static EntityExtensionsModificationTracker getInstance(@NotNull Project project) {
+        return ServiceManager.getService(project, EntityExtensionsModificationTracker.class);
+    }
+}
@@ -0,0 +1,54 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes;
+
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import com.intellij.util.io.IOUtil;
+import gnu.trove.TObjectIntHashMap;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+//Nullable string externalizer, well known strings are stored as a single varint.
+//Order of known strings is a part of the format, so index version has to be bumped when it is changed.
+class EnumeratedStringExternalizer implements DataExternalizer<String> {
+    private static final int NULL = 0;
+    private static final int LITERAL = 1;
+    private static final int FIRST_KNOWN = 2;
+
+    private final List<String> knownStrings;
+    private final TObjectIntHashMap<String> knownStringIds = new TObjectIntHashMap<>();
+
+    EnumeratedStringExternalizer(String... knownStrings) {
+        this.knownStrings = Arrays.asList(knownStrings);
+        for (int i = 0; i < knownStrings.length; i++) {
+            knownStringIds.put(knownStrings[i], FIRST_KNOWN + i);
+        }
+    }
+
+    @Override
+    public void save(@NotNull DataOutput out, String value) throws IOException {
+        if(value == null) {
+            DataInputOutputUtil.writeINT(out, NULL);
+        } else if(knownStringIds.containsKey(value)) {
+            DataInputOutputUtil.writeINT(out, knownStringIds.get(value));
+        } else {
+            DataInputOutputUtil.writeINT(out, LITERAL);
+            IOUtil.writeUTF(out, value);
+        }
+    }
+
+    @Override
+    public String read(@NotNull DataInput in) throws IOException {
+        final int id = DataInputOutputUtil.readINT(in);
+
+        if(id == NULL) return null;
+        if(id == LITERAL) return IOUtil.readUTF(in);
+        if(id - FIRST_KNOWN >= knownStrings.size()) throw new IOException("Unknown string id: " + id);
+
+        return knownStrings.get(id - FIRST_KNOWN);
+    }
+}
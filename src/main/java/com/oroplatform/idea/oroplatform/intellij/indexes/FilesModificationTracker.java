@@ -0,0 +1,132 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes;
+
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.SimpleModificationTracker;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.openapi.vfs.newvfs.BulkFileListener;
+import com.intellij.openapi.vfs.newvfs.events.*;
+import com.intellij.psi.*;
+import com.intellij.util.messages.MessageBusConnection;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+//Changes when tracked files could change: tracked files edited, created, removed, moved or renamed, any directory
+//created, removed, moved or renamed, or indexes rebuilt
+public class FilesModificationTracker extends SimpleModificationTracker {
+    private final Predicate<VirtualFile> isTracked;
+    private final Predicate<VirtualFile> isContentTracked;
+    private final Predicate<PsiTreeChangeEvent> isPsiChangeTracked;
+
+    public FilesModificationTracker(Project project, Predicate<VirtualFile> isTracked) {
+        this(project, isTracked, isTracked, event -> true);
+    }
+
+    //isContentTracked and isPsiChangeTracked narrow edits of existing files
+    public FilesModificationTracker(Project project, Predicate<VirtualFile> isTracked, Predicate<VirtualFile> isContentTracked, Predicate<PsiTreeChangeEvent> isPsiChangeTracked) {
+        this.isTracked = isTracked;
+        this.isContentTracked = isContentTracked;
+        this.isPsiChangeTracked = isPsiChangeTracked;
+
+        final MessageBusConnection connection = project.getMessageBus().connect(project);
+        connection.subscribe(VirtualFileManager.VFS_CHANGES, new BulkFileListener.Adapter() {
+            //files are checked at the old location before and at the new location after the change
+            @Override
+            public void before(@NotNull List<? extends VFileEvent> events) {
+                for (VFileEvent event : events) {
+                    if(isRemoval(event) && affects(event.getFile())) {
+                        incModificationCount();
+                        return;
+                    }
+                }
+            }
+
+            @Override
+            public void after(@NotNull List<? extends VFileEvent> events) {
+                for (VFileEvent event : events) {
+                    if(affects(event)) {
+                        incModificationCount();
+                        return;
+                    }
+                }
+            }
+        });
+        connection.subscribe(DumbService.DUMB_MODE, new DumbService.DumbModeListener() {
+            @Override
+            public void enteredDumbMode() {
+            }
+
+            @Override
+            public void exitDumbMode() {
+                incModificationCount();
+            }
+        });
+        PsiManager.getInstance(project).addPsiTreeChangeListener(new PsiTreeChangeAdapter() {
+            @Override
+            public void childAdded(@NotNull PsiTreeChangeEvent event) {
+                psiChanged(event);
+            }
+
+            @Override
+            public void childRemoved(@NotNull PsiTreeChangeEvent event) {
+                psiChanged(event);
+            }
+
+            @Override
+            public void childReplaced(@NotNull PsiTreeChangeEvent event) {
+                psiChanged(event);
+            }
+
+            @Override
+            public void childMoved(@NotNull PsiTreeChangeEvent event) {
+                psiChanged(event);
+            }
+
+            @Override
+            public void childrenChanged(@NotNull PsiTreeChangeEvent event) {
+                psiChanged(event);
+            }
+        }, project);
+    }
+
+    private static boolean isRemoval(VFileEvent event) {
+        return event instanceof VFileDeleteEvent || event instanceof VFileMoveEvent || isRename(event);
+    }
+
+    private static boolean isRename(VFileEvent event) {
+        return event instanceof VFilePropertyChangeEvent && VirtualFile.PROP_NAME.equals(((VFilePropertyChangeEvent) event).getPropertyName());
+    }
+
+    private boolean affects(VFileEvent event) {
+        final VirtualFile file = event.getFile();
+
+        if(file == null) return false;
+
+        if(event instanceof VFileContentChangeEvent) {
+            return isContentTracked.test(file);
+        } else if(event instanceof VFileCopyEvent) {
+            final VFileCopyEvent copyEvent = (VFileCopyEvent) event;
+            return affects(copyEvent.getNewParent().findChild(copyEvent.getNewChildName()));
+        } else if(event instanceof VFileCreateEvent || event instanceof VFileMoveEvent || isRename(event)) {
+            return affects(file);
+        }
+
+        return false;
+    }
+
+    //directories are not walked in the listener, so any directory could contain tracked files
+    private boolean affects(VirtualFile file) {
+        return file != null && (file.isDirectory() || isTracked.test(file));
+    }
+
+    private void psiChanged(PsiTreeChangeEvent event) {
+        final PsiFile file = event.getFile();
+
+        if(file != null && file.getVirtualFile() != null && isContentTracked.test(file.getVirtualFile()) && isPsiChangeTracked.test(event)) {
+            incModificationCount();
+        }
+    }
+}
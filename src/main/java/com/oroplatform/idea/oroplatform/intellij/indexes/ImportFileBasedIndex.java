@@ -1,5 +1,6 @@
 package com.oroplatform.idea.oroplatform.intellij.indexes;
 
+import com.intellij.openapi.util.io.FileUtil;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.util.indexing.*;
 import com.intellij.util.io.DataExternalizer;
@@ -7,16 +8,18 @@ import com.intellij.util.io.EnumeratorStringDescriptor;
 import com.intellij.util.io.KeyDescriptor;
 import com.oroplatform.idea.oroplatform.intellij.codeAssist.PsiElements;
 import com.oroplatform.idea.oroplatform.intellij.codeAssist.yml.YamlPsiElements;
+import com.oroplatform.idea.oroplatform.intellij.indexes.yaml.YamlNode;
+import com.oroplatform.idea.oroplatform.intellij.indexes.yaml.YamlNodes;
+import com.oroplatform.idea.oroplatform.intellij.indexes.yaml.YamlTokenReader;
 import com.oroplatform.idea.oroplatform.settings.OroPlatformSettings;
 import gnu.trove.THashMap;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.yaml.YAMLFileType;
 import org.jetbrains.yaml.psi.YAMLFile;
 import org.jetbrains.yaml.psi.YAMLMapping;
 
-import java.util.Collections;
-import java.util.Map;
-import java.util.Set;
+import java.util.*;
 import java.util.stream.Collectors;
 
 import static com.oroplatform.idea.oroplatform.Functions.toStream;
@@ -45,7 +48,14 @@ public class ImportFileBasedIndex extends FileBasedIndexExtension<String, Void>
                     return index;
                 }
 
-                final Set<String> importedFilePaths = getImportedFilePaths(inputData.getFile().getParent(), (YAMLFile) inputData.getPsiFile());
+                final VirtualFile parent = inputData.getFile().getParent();
+                final List<YamlNode> roots = YamlTokenReader.read(inputData.getContentAsText());
+                Set<String> importedFilePaths = roots == null ? null : getImportedFilePaths(parent, roots);
+
+                if(importedFilePaths == null) {
+                    importedFilePaths = getImportedFilePaths(parent, (YAMLFile) inputData.getPsiFile());
+                }
+
                 importedFilePaths.forEach(filePath -> index.put(filePath, null));
 
                 return index;
@@ -58,10 +68,33 @@ public class ImportFileBasedIndex extends FileBasedIndexExtension<String, Void>
                     .flatMap(importsValue -> YamlPsiElements.getSequenceItems(Collections.singletonList(importsValue)).stream())
                     .flatMap(PsiElements.elementFilter(YAMLMapping.class))
                     .flatMap(sequenceItem -> toStream(sequenceItem.getKeyValueByKey("resource")))
-                    .map(resource -> parent.getPath() + "/" + resource.getValueText())
+                    .map(resource -> FileUtil.toCanonicalPath(parent.getPath() + "/" + resource.getValueText()))
                     .collect(Collectors.toSet());
             }
 
+            //null when some resource is not a scalar
+            @Nullable
+            private Set<String> getImportedFilePaths(VirtualFile parent, List<YamlNode> roots) {
+                final Set<String> importedFilePaths = new HashSet<>();
+
+                for (YamlNode mapping : YamlNodes.getMappingNodes(roots)) {
+                    final YamlNode.Entry imports = mapping.getEntry("imports");
+                    if(imports == null) continue;
+
+                    for (YamlNode item : YamlNodes.getSequenceItems(imports.getValue())) {
+                        final YamlNode.Entry resource = item.getEntry("resource");
+                        if(resource == null) continue;
+
+                        final String resourcePath = YamlNodes.getValueText(resource);
+                        if(resourcePath == null) return null;
+
+                        importedFilePaths.add(FileUtil.toCanonicalPath(parent.getPath() + "/" + resourcePath));
+                    }
+                }
+
+                return importedFilePaths;
+            }
+
         };
     }
 
@@ -95,6 +128,6 @@ public class ImportFileBasedIndex extends FileBasedIndexExtension<String, Void>
 
     @Override
     public int getVersion() {
-        return 2;
+        return 3;
     }
 }
@@ -1,15 +1,22 @@
 package com.oroplatform.idea.oroplatform.intellij.indexes;
 
 import com.intellij.openapi.project.Project;
-import com.intellij.psi.PsiFile;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
 import com.intellij.util.indexing.FileBasedIndex;
+import com.oroplatform.idea.oroplatform.settings.OroPlatformSettings;
 import org.jetbrains.yaml.YAMLFileType;
 
-import java.util.Collection;
-import java.util.stream.Collectors;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class ImportIndex {
+    private static final Key<CachedValue<Map<String, Collection<VirtualFile>>>> CACHE_KEY =
+        new Key<>("com.oroplatform.idea.oroplatform.cache.importing_files");
 
     private final Project project;
     private final GlobalSearchScope scope;
@@ -23,12 +30,47 @@ public class ImportIndex {
         return new ImportIndex(project);
     }
 
-    public Collection<String> getImportedFilePathsFor(PsiFile file) {
-        final FileBasedIndex index = FileBasedIndex.getInstance();
-        final Collection<String> importedFiles = index.getAllKeys(ImportFileBasedIndex.KEY, project);
+    public Collection<VirtualFile> getImportingFilesFor(VirtualFile file) {
+        return FileBasedIndex.getInstance().getContainingFiles(ImportFileBasedIndex.KEY, file.getPath(), scope);
+    }
+
+    //files importing given file directly or through nested imports
+    public Collection<VirtualFile> getTransitivelyImportingFilesFor(VirtualFile file) {
+        CachedValue<Map<String, Collection<VirtualFile>>> cachedValue = project.getUserData(CACHE_KEY);
+
+        if(cachedValue == null) {
+            final OroPlatformSettings settings = OroPlatformSettings.getInstance(project);
+            cachedValue = CachedValuesManager.getManager(project).createCachedValue(() -> CachedValueProvider.Result.create(
+                new ConcurrentHashMap<>(), ImportsModificationTracker.getInstance(project), settings
+            ), false);
+
+            project.putUserData(CACHE_KEY, cachedValue);
+        }
+
+        final Map<String, Collection<VirtualFile>> importingFilesByPath = cachedValue.getValue();
+        final Collection<VirtualFile> importingFiles = importingFilesByPath.get(file.getPath());
+        if(importingFiles != null) return importingFiles;
+
+        //index is looked up outside of the map lock, concurrent lookups of the same file give the same result
+        final Collection<VirtualFile> foundFiles = findTransitivelyImportingFiles(file);
+        final Collection<VirtualFile> previousFiles = importingFilesByPath.putIfAbsent(file.getPath(), foundFiles);
+
+        return previousFiles != null ? previousFiles : foundFiles;
+    }
+
+    private Collection<VirtualFile> findTransitivelyImportingFiles(VirtualFile file) {
+        final Set<VirtualFile> importingFiles = new HashSet<>();
+        final Deque<VirtualFile> files = new LinkedList<>();
+        files.add(file);
+
+        while(!files.isEmpty()) {
+            for (VirtualFile importingFile : getImportingFilesFor(files.poll())) {
+                if(importingFiles.add(importingFile)) {
+                    files.add(importingFile);
+                }
+            }
+        }
 
-        return importedFiles.stream()
-            .filter(filePath -> index.getContainingFiles(ImportFileBasedIndex.KEY, filePath, scope).contains(file.getVirtualFile()))
-            .collect(Collectors.toList());
+        return Collections.unmodifiableSet(importingFiles);
     }
 }
@@ -0,0 +1,46 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes;
+
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.util.PsiTreeUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.yaml.YAMLFileType;
+import org.jetbrains.yaml.psi.YAMLDocument;
+import org.jetbrains.yaml.psi.YAMLKeyValue;
+
+//Changes when imports of yaml config files could change: "imports" edited, yaml files created, removed, moved or
+//renamed, or indexes rebuilt
+public class ImportsModificationTracker extends FilesModificationTracker {
+
+    public ImportsModificationTracker(Project project) {
+        super(
+            project,
+            ImportsModificationTracker::isYamlFile,
+            file -> isYamlFile(file) && file.getPath().contains("/Resources/config/"),
+            event -> affectsImports(event.getParent())
+        );
+    }
+
+    public static ImportsModificationTracker getInstance(@NotNull Project project) {
+        return ServiceManager.getService(project, ImportsModificationTracker.class);
+    }
+
+    private static boolean isYamlFile(VirtualFile file) {
+        return file.getFileType().equals(YAMLFileType.YML);
+    }
+
+    private static boolean affectsImports(PsiElement changedElement) {
+        if(changedElement == null || changedElement instanceof PsiFile || changedElement instanceof YAMLDocument) return true;
+
+        YAMLKeyValue topLevelKeyValue = PsiTreeUtil.getParentOfType(changedElement, YAMLKeyValue.class, false);
+        for (YAMLKeyValue keyValue = topLevelKeyValue; keyValue != null; keyValue = PsiTreeUtil.getParentOfType(keyValue, YAMLKeyValue.class)) {
+            topLevelKeyValue = keyValue;
+        }
+
+        //changes of the top level mapping itself could add or remove "imports" key
+        return topLevelKeyValue == null || "imports".equals(topLevelKeyValue.getKeyText());
+    }
+}
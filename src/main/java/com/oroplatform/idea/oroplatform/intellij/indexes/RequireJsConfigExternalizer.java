@@ -0,0 +1,58 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes;
+
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import com.oroplatform.idea.oroplatform.intellij.codeAssist.javascript.RequireJsConfig;
+import gnu.trove.THashMap;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Map;
+
+class RequireJsConfigExternalizer implements DataExternalizer<RequireJsConfig> {
+    private final DataExternalizer<String> stringExternalizer = new EnumeratedStringExternalizer("*");
+
+    @Override
+    public void save(@NotNull DataOutput out, RequireJsConfig value) throws IOException {
+        saveMap(out, value.getPathAliases());
+        DataInputOutputUtil.writeINT(out, value.getMappings().size());
+        for (Map.Entry<String, Map<String, String>> mapping : value.getMappings().entrySet()) {
+            stringExternalizer.save(out, mapping.getKey());
+            saveMap(out, mapping.getValue());
+        }
+    }
+
+    private void saveMap(DataOutput out, Map<String, String> map) throws IOException {
+        DataInputOutputUtil.writeINT(out, map.size());
+        for (Map.Entry<String, String> entry : map.entrySet()) {
+            stringExternalizer.save(out, entry.getKey());
+            stringExternalizer.save(out, entry.getValue());
+        }
+    }
+
+    @Override
+    public RequireJsConfig read(@NotNull DataInput in) throws IOException {
+        final Map<String, String> pathAliases = readMap(in);
+        final int mappingsCount = DataInputOutputUtil.readINT(in);
+        final Map<String, Map<String, String>> mappings = new THashMap<>(mappingsCount);
+        for (int i = 0; i < mappingsCount; i++) {
+            final String key = stringExternalizer.read(in);
+            mappings.put(key, readMap(in));
+        }
+
+        return new RequireJsConfig(pathAliases, mappings);
+    }
+
+    private Map<String, String> readMap(DataInput in) throws IOException {
+        final int count = DataInputOutputUtil.readINT(in);
+        final Map<String, String> map = new THashMap<>(count);
+        for (int i = 0; i < count; i++) {
+            final String key = stringExternalizer.read(in);
+            map.put(key, stringExternalizer.read(in));
+        }
+
+        return map;
+    }
+}
@@ -0,0 +1,87 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes;
+
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiFile;
+import com.intellij.util.indexing.*;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import com.oroplatform.idea.oroplatform.intellij.codeAssist.javascript.RequireJsConfig;
+import com.oroplatform.idea.oroplatform.intellij.codeAssist.javascript.RequireJsConfigParser;
+import com.oroplatform.idea.oroplatform.settings.OroPlatformSettings;
+import gnu.trove.THashMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.yaml.YAMLFileType;
+import org.jetbrains.yaml.psi.YAMLFile;
+
+import java.util.Map;
+
+//"paths" and "map" of every requirejs.yml file, all stored under the same key
+public class RequireJsConfigFileBasedIndex extends FileBasedIndexExtension<String, RequireJsConfig> {
+    public static final ID<String, RequireJsConfig> KEY = ID.create("com.oroplatform.idea.oroplatform.requirejs_config");
+    static final String CONFIG_KEY = "config";
+    static final String REQUIREJS = "requirejs.yml";
+
+    private static final DataExternalizer<RequireJsConfig> configExternalizer = new RequireJsConfigExternalizer();
+    private final KeyDescriptor<String> keyDescriptor = new EnumeratorStringDescriptor();
+    private final RequireJsConfigParser configParser = new RequireJsConfigParser();
+
+    @NotNull
+    @Override
+    public DataIndexer<String, RequireJsConfig, FileContent> getIndexer() {
+        return inputData -> {
+            final Map<String, RequireJsConfig> index = new THashMap<>();
+
+            if(!OroPlatformSettings.getInstance(inputData.getProject()).isPluginEnabled()) {
+                return index;
+            }
+
+            final PsiFile file = inputData.getPsiFile();
+
+            if(file instanceof YAMLFile) {
+                index.put(CONFIG_KEY, configParser.parse((YAMLFile) file));
+            }
+
+            return index;
+        };
+    }
+
+    @NotNull
+    @Override
+    public ID<String, RequireJsConfig> getName() {
+        return KEY;
+    }
+
+    @Override
+    public int getVersion() {
+        return 0;
+    }
+
+    @NotNull
+    @Override
+    public KeyDescriptor<String> getKeyDescriptor() {
+        return keyDescriptor;
+    }
+
+    @NotNull
+    @Override
+    public FileBasedIndex.InputFilter getInputFilter() {
+        return new DefaultFileTypeSpecificInputFilter(YAMLFileType.YML) {
+            @Override
+            public boolean acceptInput(@NotNull VirtualFile file) {
+                return REQUIREJS.equals(file.getName());
+            }
+        };
+    }
+
+    @Override
+    public boolean dependsOnFileContent() {
+        return true;
+    }
+
+    @NotNull
+    @Override
+    public DataExternalizer<RequireJsConfig> getValueExternalizer() {
+        return configExternalizer;
+    }
+}
@@ -0,0 +1,115 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.oroplatform.idea.oroplatform.intellij.codeAssist.javascript.RequireJsConfig;
+import com.oroplatform.idea.oroplatform.settings.OroPlatformSettings;
+
+import java.util.*;
+
+public class RequireJsIndex {
+    private static final Key<CachedValue<RequireJsConfig>> CONFIG_CACHE_KEY = new Key<>("com.oroplatform.idea.oroplatform.cache.requirejs_config");
+    private static final Key<CachedValue<ModulePrefixes>> PREFIXES_CACHE_KEY = new Key<>("com.oroplatform.idea.oroplatform.cache.requirejs_module_prefixes");
+
+    private final Project project;
+
+    private RequireJsIndex(Project project) {
+        this.project = project;
+    }
+
+    public static RequireJsIndex instance(Project project) {
+        return new RequireJsIndex(project);
+    }
+
+    //config merged from all requirejs.yml files, it is merged again only after any of them changes
+    public RequireJsConfig getRequireJsConfig() {
+        CachedValue<RequireJsConfig> cachedValue = project.getUserData(CONFIG_CACHE_KEY);
+
+        if(cachedValue == null) {
+            final OroPlatformSettings settings = OroPlatformSettings.getInstance(project);
+            cachedValue = CachedValuesManager.getManager(project).createCachedValue(() -> CachedValueProvider.Result.create(
+                mergeConfigs(), RequireJsModificationTracker.getInstance(project), settings
+            ), false);
+
+            project.putUserData(CONFIG_CACHE_KEY, cachedValue);
+        }
+
+        return cachedValue.getValue();
+    }
+
+    //configs are merged in order of file paths to get the same result every time
+    private RequireJsConfig mergeConfigs() {
+        final Map<String, RequireJsConfig> configs = new TreeMap<>();
+
+        FileBasedIndex.getInstance().processValues(RequireJsConfigFileBasedIndex.KEY, RequireJsConfigFileBasedIndex.CONFIG_KEY, null, (file, config) -> {
+            configs.put(file.getPath(), config);
+            return true;
+        }, GlobalSearchScope.allScope(project));
+
+        return RequireJsConfig.merge(configs.values());
+    }
+
+    //dirs of bundles with modules starting with given prefix, e.g. dir of OroUIBundle for "oroui"
+    public Collection<VirtualFile> findBundleDirs(String modulePrefix) {
+        return getModulePrefixes().bundleDirs.getOrDefault(modulePrefix, Collections.emptyList());
+    }
+
+    public Collection<VirtualFile> findAllBundleDirs() {
+        return getModulePrefixes().prefixes.keySet();
+    }
+
+    public Optional<String> findModulePrefix(VirtualFile bundleDir) {
+        return Optional.ofNullable(getModulePrefixes().prefixes.get(bundleDir));
+    }
+
+    private ModulePrefixes getModulePrefixes() {
+        CachedValue<ModulePrefixes> cachedValue = project.getUserData(PREFIXES_CACHE_KEY);
+
+        if(cachedValue == null) {
+            final OroPlatformSettings settings = OroPlatformSettings.getInstance(project);
+            cachedValue = CachedValuesManager.getManager(project).createCachedValue(() -> CachedValueProvider.Result.create(
+                findModulePrefixes(), RequireJsModificationTracker.getInstance(project), settings
+            ), false);
+
+            project.putUserData(PREFIXES_CACHE_KEY, cachedValue);
+        }
+
+        return cachedValue.getValue();
+    }
+
+    private ModulePrefixes findModulePrefixes() {
+        final FileBasedIndex index = FileBasedIndex.getInstance();
+        final GlobalSearchScope scope = GlobalSearchScope.allScope(project);
+        final Map<String, List<VirtualFile>> bundleDirs = new HashMap<>();
+        final Map<VirtualFile, String> prefixes = new LinkedHashMap<>();
+
+        for (String prefix : index.getAllKeys(BundleResourceFileBasedIndex.KEY, project)) {
+            for (VirtualFile bundleFile : index.getContainingFiles(BundleResourceFileBasedIndex.KEY, prefix, scope)) {
+                final VirtualFile bundleDir = bundleFile.getParent();
+
+                if(bundleDir != null) {
+                    bundleDirs.computeIfAbsent(prefix, key -> new ArrayList<>()).add(bundleDir);
+                    prefixes.put(bundleDir, prefix);
+                }
+            }
+        }
+
+        return new ModulePrefixes(bundleDirs, prefixes);
+    }
+
+    private static class ModulePrefixes {
+        private final Map<String, List<VirtualFile>> bundleDirs;
+        private final Map<VirtualFile, String> prefixes;
+
+        private ModulePrefixes(Map<String, List<VirtualFile>> bundleDirs, Map<VirtualFile, String> prefixes) {
+            this.bundleDirs = Collections.unmodifiableMap(bundleDirs);
+            this.prefixes = Collections.unmodifiableMap(prefixes);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes;
+
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.project.Project;
+import org.jetbrains.annotations.NotNull;
+
+//Changes when requirejs config or module prefixes could change: requirejs.yml or bundle class files edited, created,
+//removed, moved or renamed, or indexes rebuilt
+public class RequireJsModificationTracker extends FilesModificationTracker {
+    private static final String REQUIREJS = "/" + RequireJsConfigFileBasedIndex.REQUIREJS;
+    private static final String BUNDLE_FILE_SUFFIX = BundleResourceFileBasedIndex.BUNDLE_FILE_SUFFIX;
+
+    public RequireJsModificationTracker(Project project) {
+        super(project, file -> file.getPath().endsWith(REQUIREJS) || file.getName().endsWith(BUNDLE_FILE_SUFFIX));
+    }
+
+    public static RequireJsModificationTracker getInstance(@NotNull Project project) {
+        return ServiceManager.getService(project, RequireJsModificationTracker.class);
+    }
+}
@@ -0,0 +1,180 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes;
+
+import com.oroplatform.idea.oroplatform.symfony.Route;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+
+//Scanner of url generator dumped by symfony (appDevUrlGenerator.php): routes exported by var_export to declaredRoutes
+//field. Routes are read one by one from the text, it gives up (returns false) on anything else than arrays, quoted strings
+//and constants in exported routes, so the caller can fall back to psi.
+class RouteDumpReader {
+    private static final String FIELD = "declaredRoutes";
+    private static final int TOKENS = 3;
+    private static final int REQUIREMENTS = 2;
+
+    private final VarExportScanner scanner;
+
+    private RouteDumpReader(CharSequence text) {
+        this.scanner = new VarExportScanner(text);
+    }
+
+    static boolean read(CharSequence text, BiConsumer<String, Route> consumer) {
+        return read(text, consumer, (name, offset) -> {});
+    }
+
+    //offsets of quoted names of routes given to consumer are given to offsetConsumer
+    static boolean read(CharSequence text, BiConsumer<String, Route> consumer, BiConsumer<String, Integer> offsetConsumer) {
+        return new RouteDumpReader(text).read(consumer, offsetConsumer);
+    }
+
+    private boolean read(BiConsumer<String, Route> consumer, BiConsumer<String, Integer> offsetConsumer) {
+        while(scanner.seek(FIELD)) {
+            //declaration or comparison of the field
+            if(!scanner.skip('=') || scanner.skip('=')) continue;
+
+            final char end = scanner.readArrayStart();
+            if(end == 0) return false;
+
+            while(!scanner.skip(end)) {
+                scanner.skipWhitespaces();
+                final int nameOffset = scanner.getPosition();
+                final String name = readKey();
+                if(name == null || !scanner.skip("=>")) return false;
+
+                final Object definition = readValue();
+                if(definition == null) return false;
+
+                if(!name.isEmpty() && definition instanceof Map) {
+                    readRoute(name, (Map<?, ?>) definition, (routeName, route) -> {
+                        consumer.accept(routeName, route);
+                        offsetConsumer.accept(routeName, nameOffset);
+                    });
+                }
+
+                if(!scanner.skip(',')) {
+                    if(!scanner.skip(end)) return false;
+                    break;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    //route definition is exported as array of variables, defaults, requirements, tokens, host tokens and schemes. Route is
+    //given only when some of these arrays contains "_controller", it is null when controller is not a "Class::method".
+    static void readRoute(String name, Map<?, ?> definition, BiConsumer<String, Route> consumer) {
+        String controller = null;
+        boolean hasController = false;
+
+        for (Object part : definition.values()) {
+            if(part instanceof Map && ((Map<?, ?>) part).containsKey("_controller")) {
+                hasController = true;
+                controller = String.valueOf(((Map<?, ?>) part).get("_controller"));
+            }
+        }
+
+        if(!hasController) return;
+
+        final String[] controllerParts = controller.split("::");
+
+        consumer.accept(name, controllerParts.length == 2 ?
+            new Route(controllerParts[0].replace("\\\\", "\\"), controllerParts[1], getPath(definition), getMethods(definition)) : null
+        );
+    }
+
+    //tokens are in reversed order
+    private static String getPath(Map<?, ?> definition) {
+        final Object tokens = definition.get(String.valueOf(TOKENS));
+        if(!(tokens instanceof Map)) return null;
+
+        final List<Object> reversedTokens = new ArrayList<>(((Map<?, ?>) tokens).values());
+        Collections.reverse(reversedTokens);
+
+        final StringBuilder path = new StringBuilder();
+
+        for (Object token : reversedTokens) {
+            if(!(token instanceof Map)) return null;
+
+            final Map<?, ?> tokenParts = (Map<?, ?>) token;
+            final Object type = tokenParts.get("0");
+            final Object prefixOrText = tokenParts.get("1");
+
+            if("text".equals(type) && prefixOrText instanceof String) {
+                path.append(prefixOrText);
+            } else if("variable".equals(type) && prefixOrText instanceof String && tokenParts.get("3") instanceof String) {
+                path.append(prefixOrText).append('{').append(tokenParts.get("3")).append('}');
+            } else {
+                return null;
+            }
+        }
+
+        return path.toString();
+    }
+
+    //only methods given by "_method" requirement are dumped
+    private static List<String> getMethods(Map<?, ?> definition) {
+        final Object requirements = definition.get(String.valueOf(REQUIREMENTS));
+        final Object methods = requirements instanceof Map ? ((Map<?, ?>) requirements).get("_method") : null;
+
+        if(!(methods instanceof String) || ((String) methods).isEmpty()) return Collections.emptyList();
+
+        final List<String> result = new ArrayList<>();
+        for (String method : ((String) methods).split("\\|")) {
+            result.add(method.toUpperCase(Locale.ENGLISH));
+        }
+
+        return result;
+    }
+
+    //arrays are maps with string keys, other values are strings; null when value is not supported
+    private Object readValue() {
+        final char end = scanner.readArrayStart();
+        if(end != 0) return readArray(end);
+
+        final String string = scanner.readString();
+        return string != null ? string : scanner.readConstant();
+    }
+
+    private Map<String, Object> readArray(char end) {
+        final Map<String, Object> array = new LinkedHashMap<>();
+        int nextIndex = 0;
+
+        while(!scanner.skip(end)) {
+            final Object keyOrValue = readValue();
+            if(keyOrValue == null) return null;
+
+            if(scanner.skip("=>")) {
+                if(!(keyOrValue instanceof String)) return null;
+
+                final Object value = readValue();
+                if(value == null) return null;
+
+                array.put((String) keyOrValue, value);
+                nextIndex = nextIndex((String) keyOrValue, nextIndex);
+            } else {
+                array.put(String.valueOf(nextIndex++), keyOrValue);
+            }
+
+            if(!scanner.skip(',')) {
+                return scanner.skip(end) ? array : null;
+            }
+        }
+
+        return array;
+    }
+
+    private static int nextIndex(String key, int nextIndex) {
+        try {
+            return Math.max(nextIndex, Integer.parseInt(key) + 1);
+        } catch (NumberFormatException e) {
+            return nextIndex;
+        }
+    }
+
+    private String readKey() {
+        final String string = scanner.readString();
+        return string != null ? string : scanner.readConstant();
+    }
+}
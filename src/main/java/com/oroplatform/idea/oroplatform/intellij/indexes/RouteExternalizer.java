@@ -1,33 +1,48 @@
 package com.oroplatform.idea.oroplatform.intellij.indexes;
 
 import com.intellij.util.io.DataExternalizer;
-import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.DataInputOutputUtil;
 import com.oroplatform.idea.oroplatform.symfony.Route;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 class RouteExternalizer implements DataExternalizer<Route> {
-    private final DataExternalizer<String> stringExternalizer = new EnumeratorStringDescriptor();
+    private final DataExternalizer<String> stringExternalizer = new EnumeratedStringExternalizer();
+    private final DataExternalizer<String> methodExternalizer = new EnumeratedStringExternalizer("GET", "POST", "PUT", "DELETE", "PATCH", "HEAD");
 
     @Override
     public void save(@NotNull DataOutput out, Route value) throws IOException {
+        out.writeBoolean(value != null);
+
         if(value != null) {
             stringExternalizer.save(out, value.getControllerName());
             stringExternalizer.save(out, value.getAction());
+            stringExternalizer.save(out, value.getPath());
+            DataInputOutputUtil.writeINT(out, value.getMethods().size());
+            for (String method : value.getMethods()) {
+                methodExternalizer.save(out, method);
+            }
         }
     }
 
     @Override
     public Route read(@NotNull DataInput in) throws IOException {
-        try {
-            final String controller = stringExternalizer.read(in);
-            final String action = stringExternalizer.read(in);
-            return new Route(controller, action);
-        } catch (IOException ex) {
-            return null;
+        if(!in.readBoolean()) return null;
+
+        final String controller = stringExternalizer.read(in);
+        final String action = stringExternalizer.read(in);
+        final String path = stringExternalizer.read(in);
+        final int methodsCount = DataInputOutputUtil.readINT(in);
+        final List<String> methods = new ArrayList<>(methodsCount);
+        for (int i = 0; i < methodsCount; i++) {
+            methods.add(methodExternalizer.read(in));
         }
+
+        return new Route(controller, action, path, methods);
     }
 }
@@ -1,6 +1,5 @@
 package com.oroplatform.idea.oroplatform.intellij.indexes;
 
-import com.intellij.openapi.util.Pair;
 import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiElement;
@@ -17,9 +16,8 @@ import com.oroplatform.idea.oroplatform.symfony.Route;
 import gnu.trove.THashMap;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.stream.Stream;
 
 import static com.oroplatform.idea.oroplatform.Functions.toStream;
 import static com.oroplatform.idea.oroplatform.intellij.codeAssist.PsiElements.elementFilter;
@@ -29,15 +27,17 @@ public class RouteFileBasedIndex extends FileBasedIndexExtension<String, Route>
     private final DataExternalizer<Route> valueExternalizer = new RouteExternalizer();
     public static final ID<String, Route> KEY = ID.create("com.oroplatform.idea.oroplatform.routes");
 
+    static final FileBasedIndex.InputFilter INPUT_FILTER = new DefaultFileTypeSpecificInputFilter(PhpFileType.INSTANCE) {
+        @Override
+        public boolean acceptInput(@NotNull VirtualFile file) {
+            return file.getPath().contains("/cache/dev/appDevUrlGenerator.php");
+        }
+    };
+
     @NotNull
     @Override
     public FileBasedIndex.InputFilter getInputFilter() {
-        return new DefaultFileTypeSpecificInputFilter(PhpFileType.INSTANCE) {
-            @Override
-            public boolean acceptInput(@NotNull VirtualFile file) {
-                return file.getPath().contains("/cache/dev/appDevUrlGenerator.php");
-            }
-        };
+        return INPUT_FILTER;
     }
 
     @Override
@@ -54,86 +54,118 @@ public class RouteFileBasedIndex extends FileBasedIndexExtension<String, Route>
     @NotNull
     @Override
     public DataIndexer<String, Route, FileContent> getIndexer() {
-        return new DataIndexer<String, Route, FileContent>() {
-            @NotNull
-            @Override
-            public Map<String, Route> map(@NotNull FileContent inputData) {
-                final THashMap<String, Route> index = new THashMap<>();
-
-                if(!OroPlatformSettings.getInstance(inputData.getProject()).isPluginEnabled()) {
-                    return index;
-                }
+        return inputData -> {
+            if(!OroPlatformSettings.getInstance(inputData.getProject()).isPluginEnabled()) {
+                return new THashMap<>();
+            }
 
-                final PhpFile file = (PhpFile) inputData.getPsiFile();
+            return readRoutes(inputData);
+        };
+    }
 
-                for (PhpNamedElement element : file.getTopLevelDefs().values()) {
-                    if(element instanceof PhpClass) {
-                        final PhpClass phpClass = (PhpClass) element;
+    //routes by names, values are null for routes with controllers other than "Class::method"
+    static Map<String, Route> readRoutes(FileContent inputData) {
+        return readRoutes(inputData, new THashMap<>());
+    }
 
-                        //for symfony <2.8
-                        for (Field field : phpClass.getOwnFields()) {
-                            if (field.getName().equals("declaredRoutes")) {
-                                indexRoutes(index, field.getDefaultValue());
-                            }
-                        }
+    //offsets of quoted names of the routes are put to offsets
+    static Map<String, Route> readRoutes(FileContent inputData, Map<String, Integer> offsets) {
+        final Map<String, Route> routes = new THashMap<>();
+        final Map<String, Integer> routeOffsets = new THashMap<>();
+
+        if(RouteDumpReader.read(inputData.getContentAsText(), routes::put, routeOffsets::put)) {
+            offsets.putAll(routeOffsets);
+            return routes;
+        }
 
-                        //for symfony >=2.8
-                        final Method constructor = phpClass.getConstructor();
+        return inputData.getPsiFile() instanceof PhpFile ? new RoutePsiIndexer().map((PhpFile) inputData.getPsiFile(), offsets) : new THashMap<>();
+    }
 
-                        if(constructor == null) continue;
+    //indexer used when RouteDumpReader gives up
+    static class RoutePsiIndexer {
+        Map<String, Route> map(PhpFile file) {
+            return map(file, new THashMap<>());
+        }
 
-                        for (FieldReference fieldReference : PsiTreeUtil.collectElementsOfType(constructor, FieldReference.class)) {
-                            if(!"declaredRoutes".equals(fieldReference.getCanonicalText())) continue;
-                            if(!(fieldReference.getParent() instanceof AssignmentExpression)) continue;
+        Map<String, Route> map(PhpFile file, Map<String, Integer> offsets) {
+            final Map<String, Route> index = new THashMap<>();
 
-                            PhpPsiElement value = ((AssignmentExpression) fieldReference.getParent()).getValue();
-                            if(!(value instanceof ArrayCreationExpression)) continue;
+            for (PhpNamedElement element : file.getTopLevelDefs().values()) {
+                if(element instanceof PhpClass) {
+                    final PhpClass phpClass = (PhpClass) element;
 
-                            indexRoutes(index, value);
+                    //for symfony <2.8
+                    for (Field field : phpClass.getOwnFields()) {
+                        if (field.getName().equals("declaredRoutes")) {
+                            indexRoutes(index, offsets, field.getDefaultValue());
                         }
                     }
-                }
 
-                return index;
-            }
+                    //for symfony >=2.8
+                    final Method constructor = phpClass.getConstructor();
 
-            private void indexRoutes(final THashMap<String, Route> index, final PsiElement value) {
-                toStream(value)
-                    .flatMap(elementFilter(ArrayCreationExpression.class))
-                    .flatMap(arrayConstructor -> toStream(arrayConstructor.getHashElements()))
-                    .filter(hash -> hash.getKey() != null)
-                    .forEach(hash -> indexRoute(index, hash));
-            }
+                    if(constructor == null) continue;
+
+                    for (FieldReference fieldReference : PsiTreeUtil.collectElementsOfType(constructor, FieldReference.class)) {
+                        if(!"declaredRoutes".equals(fieldReference.getCanonicalText())) continue;
+                        if(!(fieldReference.getParent() instanceof AssignmentExpression)) continue;
+
+                        PhpPsiElement value = ((AssignmentExpression) fieldReference.getParent()).getValue();
+                        if(!(value instanceof ArrayCreationExpression)) continue;
 
-            private void indexRoute(final THashMap<String, Route> index, final ArrayHashElement hash) {
-                final String name = getKeyText(hash);
-                if(!name.isEmpty()) {
-                    Stream.of(hash.getValue().getChildren())
-                        .flatMap(elementFilter(ArrayHashElement.class))
-                        .flatMap(routeDefinitionHash -> toStream(routeDefinitionHash.getValue()))
-                        .flatMap(elementFilter(ArrayCreationExpression.class))
-                        .flatMap(arrayConstructor -> toStream(arrayConstructor.getHashElements()))
-                        .filter(arrayHashElement -> getKeyText(arrayHashElement).equals("_controller"))
-                        .map(arrayHashElement -> {
-                            final String controller = getValueText(arrayHashElement);
-                            final String[] controllerParts = controller.split("::");
-                            final Route route = controllerParts.length == 2 ? new Route(controllerParts[0].replace("\\\\", "\\"), controllerParts[1]) : null;
-                            return Pair.create(name, route);
-                        })
-                        .forEach(pair -> index.put(pair.first, pair.second));
+                        indexRoutes(index, offsets, value);
+                    }
                 }
             }
 
-            @NotNull
-            private String getValueText(ArrayHashElement arrayHashElement) {
-                return StringUtil.stripQuotesAroundValue(arrayHashElement.getValue().getText());
+            return index;
+        }
+
+        private void indexRoutes(final Map<String, Route> index, final Map<String, Integer> offsets, final PsiElement value) {
+            toStream(value)
+                .flatMap(elementFilter(ArrayCreationExpression.class))
+                .flatMap(arrayConstructor -> toStream(arrayConstructor.getHashElements()))
+                .filter(hash -> hash.getKey() != null)
+                .forEach(hash -> indexRoute(index, offsets, hash));
+        }
+
+        private void indexRoute(final Map<String, Route> index, final Map<String, Integer> offsets, final ArrayHashElement hash) {
+            final String name = getKeyText(hash);
+            if(!name.isEmpty() && hash.getValue() instanceof ArrayCreationExpression) {
+                RouteDumpReader.readRoute(name, toValue(hash.getValue()), (routeName, route) -> {
+                    index.put(routeName, route);
+                    offsets.put(routeName, hash.getKey().getTextRange().getStartOffset());
+                });
+            }
+        }
+
+        //the same structure as values read by RouteDumpReader
+        private Map<String, Object> toValue(PsiElement array) {
+            final Map<String, Object> value = new LinkedHashMap<>();
+
+            for (ArrayHashElement hash : ((ArrayCreationExpression) array).getHashElements()) {
+                if(hash.getKey() == null || hash.getValue() == null) continue;
+
+                value.put(getKeyText(hash), hash.getValue() instanceof ArrayCreationExpression ? toValue(hash.getValue()) : getValueText(hash));
             }
 
-            @NotNull
-            private String getKeyText(ArrayHashElement arrayHashElement) {
-                return StringUtil.stripQuotesAroundValue(arrayHashElement.getKey().getText());
+            return value;
+        }
+
+        @NotNull
+        private String getValueText(ArrayHashElement arrayHashElement) {
+            if(arrayHashElement.getValue() instanceof StringLiteralExpression) {
+                final StringLiteralExpression literal = (StringLiteralExpression) arrayHashElement.getValue();
+                return literal.isSingleQuote() ? literal.getContents().replace("\\'", "'").replace("\\\\", "\\") : literal.getContents();
             }
-        };
+
+            return StringUtil.stripQuotesAroundValue(arrayHashElement.getValue().getText());
+        }
+
+        @NotNull
+        private String getKeyText(ArrayHashElement arrayHashElement) {
+            return StringUtil.stripQuotesAroundValue(arrayHashElement.getKey().getText());
+        }
     }
 
     @NotNull
@@ -150,6 +182,6 @@ public class RouteFileBasedIndex extends FileBasedIndexExtension<String, Route>
 
     @Override
     public int getVersion() {
-        return 0;
+        return 2;
     }
 }
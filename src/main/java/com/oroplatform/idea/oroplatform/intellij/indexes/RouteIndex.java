@@ -1,14 +1,22 @@
 package com.oroplatform.idea.oroplatform.intellij.indexes;
 
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
 import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.PsiTreeUtil;
 import com.intellij.util.indexing.FileBasedIndex;
+import com.jetbrains.php.lang.psi.elements.StringLiteralExpression;
 import com.oroplatform.idea.oroplatform.symfony.Route;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Collection;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
+import java.util.TreeSet;
 
 public class RouteIndex {
     private final Project project;
@@ -33,4 +41,36 @@ public class RouteIndex {
 
         return values.stream().findFirst();
     }
+
+    //names of routes of controller action, controller is fully qualified class name
+    public Collection<String> findRouteNames(@NotNull String controllerName, @NotNull String action) {
+        final String key = ControllerRouteFileBasedIndex.key(StringUtil.trimStart(controllerName, "\\"), action);
+        final Collection<String> names = new TreeSet<>();
+
+        FileBasedIndex.getInstance().getValues(ControllerRouteFileBasedIndex.KEY, key, searchScope).forEach(offsets -> names.addAll(offsets.keySet()));
+
+        return names;
+    }
+
+    //quoted names of routes of controller action in url generator dumps found by indexed offsets
+    public Collection<PsiElement> findRouteDefinitions(@NotNull String controllerName, @NotNull String action) {
+        final String key = ControllerRouteFileBasedIndex.key(StringUtil.trimStart(controllerName, "\\"), action);
+        final Collection<PsiElement> elements = new LinkedList<>();
+        final PsiManager psiManager = PsiManager.getInstance(project);
+
+        FileBasedIndex.getInstance().processValues(ControllerRouteFileBasedIndex.KEY, key, null, (file, offsets) -> {
+            final PsiFile psiFile = psiManager.findFile(file);
+
+            if(psiFile != null) {
+                for (Integer offset : offsets.values()) {
+                    final StringLiteralExpression name = PsiTreeUtil.getParentOfType(psiFile.findElementAt(offset), StringLiteralExpression.class, false);
+                    elements.add(name != null && name.getTextRange().getStartOffset() == offset ? name : psiFile);
+                }
+            }
+
+            return true;
+        }, searchScope);
+
+        return elements;
+    }
 }
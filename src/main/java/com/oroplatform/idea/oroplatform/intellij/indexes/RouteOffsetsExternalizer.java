@@ -0,0 +1,39 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes;
+
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import gnu.trove.THashMap;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Map;
+
+//Names of routes with offsets of their keys in url generator dump
+class RouteOffsetsExternalizer implements DataExternalizer<Map<String, Integer>> {
+    private final DataExternalizer<String> stringExternalizer = new EnumeratedStringExternalizer();
+
+    @Override
+    public void save(@NotNull DataOutput out, Map<String, Integer> value) throws IOException {
+        DataInputOutputUtil.writeINT(out, value.size());
+
+        for (Map.Entry<String, Integer> entry : value.entrySet()) {
+            stringExternalizer.save(out, entry.getKey());
+            DataInputOutputUtil.writeINT(out, entry.getValue());
+        }
+    }
+
+    @Override
+    public Map<String, Integer> read(@NotNull DataInput in) throws IOException {
+        final int size = DataInputOutputUtil.readINT(in);
+        final Map<String, Integer> offsets = new THashMap<>(size);
+
+        for (int i = 0; i < size; i++) {
+            final String name = stringExternalizer.read(in);
+            offsets.put(name, DataInputOutputUtil.readINT(in));
+        }
+
+        return offsets;
+    }
+}
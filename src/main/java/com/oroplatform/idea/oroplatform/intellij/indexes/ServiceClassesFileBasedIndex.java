@@ -0,0 +1,134 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes;
+
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.ide.highlighter.XmlFileType;
+import com.intellij.util.indexing.*;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import com.oroplatform.idea.oroplatform.intellij.indexes.services.ParameterXmlStreamIndexer;
+import com.oroplatform.idea.oroplatform.intellij.indexes.services.ParameterYmlStreamIndexer;
+import com.oroplatform.idea.oroplatform.intellij.indexes.services.ServiceXmlStreamIndexer;
+import com.oroplatform.idea.oroplatform.intellij.indexes.services.ServiceYamlStreamIndexer;
+import com.oroplatform.idea.oroplatform.settings.OroPlatformSettings;
+import com.oroplatform.idea.oroplatform.symfony.Service;
+import com.oroplatform.idea.oroplatform.symfony.ServiceClassName;
+import com.oroplatform.idea.oroplatform.symfony.Tag;
+import gnu.trove.THashMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.yaml.YAMLFileType;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static com.oroplatform.idea.oroplatform.Functions.toStream;
+
+//Keys are class references of services: class name, "%parameter%" when the parameter isn't defined in the same file or
+//"@service" for services without class linked by "oro_service_link". Parameters are also indexed by their values as
+//services with "%parameter%" id, so ServicesIndex can follow class name -> parameter -> services.
+public class ServiceClassesFileBasedIndex extends FileBasedIndexExtension<String, Collection<Service>> {
+    public static final ID<String, Collection<Service>> KEY = ID.create("com.oroplatform.idea.oroplatform.service_classes");
+
+    private static final DataExternalizer<Collection<Service>> servicesExternalizer = new CollectionExternalizer<>(new ServiceExternalizer());
+    private final KeyDescriptor<String> keyDescriptor = new EnumeratorStringDescriptor();
+    private final DataIndexer<Service, Void, FileContent> xmlIndexer = new ServiceXmlStreamIndexer();
+    private final DataIndexer<Service, Void, FileContent> yamlIndexer = new ServiceYamlStreamIndexer();
+    private final DataIndexer<String, String, FileContent> xmlParameterIndexer = new ParameterXmlStreamIndexer();
+    private final DataIndexer<String, String, FileContent> yamlParameterIndexer = new ParameterYmlStreamIndexer();
+
+    @NotNull
+    @Override
+    public DataIndexer<String, Collection<Service>, FileContent> getIndexer() {
+        return inputData -> {
+            final Map<String, Collection<Service>> index = new THashMap<>();
+
+            if(!OroPlatformSettings.getInstance(inputData.getProject()).isPluginEnabled()) {
+                return index;
+            }
+
+            if(inputData.getFileType() == XmlFileType.INSTANCE) {
+                index(xmlIndexer.map(inputData).keySet(), xmlParameterIndexer.map(inputData), index);
+            } else if(inputData.getFileType() == YAMLFileType.YML) {
+                index(yamlIndexer.map(inputData).keySet(), yamlParameterIndexer.map(inputData), index);
+            }
+
+            return index;
+        };
+    }
+
+    private void index(Set<Service> services, Map<String, String> parameters, Map<String, Collection<Service>> index) {
+        for (Service service : services) {
+            if(service.getId() == null) continue;
+
+            final Optional<ServiceClassName> className = service.getClassName();
+
+            if(className.isPresent()) {
+                final String classReference = className.get().getServiceParameter()
+                    .flatMap(parameter -> Optional.ofNullable(parameters.get(parameter)))
+                    .orElse(className.get().getClassName());
+
+                add(index, classReference, service);
+            } else {
+                service.getTags().stream()
+                    .filter(tag -> ServiceTagsFileBasedIndex.SERVICE_LINK_TAG.equals(tag.getName()))
+                    .flatMap(tag -> toStream(tag.get("service")))
+                    .filter(serviceLink -> !serviceLink.equals(service.getId()))
+                    .forEach(serviceLink -> add(index, "@" + serviceLink, service));
+            }
+        }
+
+        parameters.entrySet().stream()
+            .filter(parameter -> parameter.getValue().contains("\\"))
+            .forEach(parameter -> add(index, parameter.getValue(), new Service("%" + parameter.getKey() + "%", Collections.<Tag>emptyList(), null)));
+    }
+
+    private static void add(Map<String, Collection<Service>> index, String classReference, Service service) {
+        final String key = normalize(classReference);
+
+        if(!key.isEmpty()) {
+            index.computeIfAbsent(key, k -> new LinkedList<>()).add(service);
+        }
+    }
+
+    static String normalize(String classReference) {
+        return StringUtil.trimStart(classReference.trim(), "\\");
+    }
+
+    @NotNull
+    @Override
+    public ID<String, Collection<Service>> getName() {
+        return KEY;
+    }
+
+    @Override
+    public int getVersion() {
+        return 0;
+    }
+
+    @NotNull
+    @Override
+    public KeyDescriptor<String> getKeyDescriptor() {
+        return keyDescriptor;
+    }
+
+    @NotNull
+    @Override
+    public FileBasedIndex.InputFilter getInputFilter() {
+        return ServiceFileFilter.INSTANCE;
+    }
+
+    @Override
+    public boolean dependsOnFileContent() {
+        return true;
+    }
+
+    @NotNull
+    @Override
+    public DataExternalizer<Collection<Service>> getValueExternalizer() {
+        return servicesExternalizer;
+    }
+}
@@ -0,0 +1,32 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes;
+
+import com.intellij.util.io.DataExternalizer;
+import com.oroplatform.idea.oroplatform.symfony.Service;
+import com.oroplatform.idea.oroplatform.symfony.ServiceClassName;
+import com.oroplatform.idea.oroplatform.symfony.Tag;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Collection;
+
+class ServiceExternalizer implements DataExternalizer<Service> {
+    private final DataExternalizer<String> stringExternalizer = new EnumeratedStringExternalizer();
+    private final DataExternalizer<Collection<Tag>> tagsExternalizer = new CollectionExternalizer<>(new TagExternalizer());
+
+    @Override
+    public void save(@NotNull DataOutput out, Service value) throws IOException {
+        stringExternalizer.save(out, value.getId());
+        stringExternalizer.save(out, value.getClassName().map(ServiceClassName::getClassName).orElse(null));
+        tagsExternalizer.save(out, value.getTags());
+    }
+
+    @Override
+    public Service read(@NotNull DataInput in) throws IOException {
+        final String id = stringExternalizer.read(in);
+        final String className = stringExternalizer.read(in);
+
+        return new Service(id, tagsExternalizer.read(in), className);
+    }
+}
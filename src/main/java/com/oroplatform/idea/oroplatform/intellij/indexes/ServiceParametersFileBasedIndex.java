@@ -1,14 +1,14 @@
 package com.oroplatform.idea.oroplatform.intellij.indexes;
 
-import com.intellij.psi.xml.XmlFile;
+import com.intellij.ide.highlighter.XmlFileType;
 import com.intellij.util.indexing.*;
 import com.intellij.util.io.DataExternalizer;
 import com.intellij.util.io.EnumeratorStringDescriptor;
 import com.intellij.util.io.KeyDescriptor;
-import com.oroplatform.idea.oroplatform.intellij.indexes.services.ParameterXmlIndexer;
-import com.oroplatform.idea.oroplatform.intellij.indexes.services.ParameterYmlIndexer;
+import com.oroplatform.idea.oroplatform.intellij.indexes.services.ParameterXmlStreamIndexer;
+import com.oroplatform.idea.oroplatform.intellij.indexes.services.ParameterYmlStreamIndexer;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.yaml.psi.YAMLFile;
+import org.jetbrains.yaml.YAMLFileType;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -16,8 +16,8 @@ import java.util.Map;
 public class ServiceParametersFileBasedIndex extends FileBasedIndexExtension<String, String> {
     private final KeyDescriptor<String> keyDescriptor = new EnumeratorStringDescriptor();
     public static final ID<String, String> KEY = ID.create("com.oroplatform.idea.oroplatform.service_parameters");
-    private final DataIndexer<String, String, XmlFile> xmlIndexer = new ParameterXmlIndexer();
-    private final DataIndexer<String, String, YAMLFile> ymlIndexer = new ParameterYmlIndexer();
+    private final DataIndexer<String, String, FileContent> xmlIndexer = new ParameterXmlStreamIndexer();
+    private final DataIndexer<String, String, FileContent> ymlIndexer = new ParameterYmlStreamIndexer();
 
     @NotNull
     @Override
@@ -31,12 +31,10 @@ public class ServiceParametersFileBasedIndex extends FileBasedIndexExtension<Str
         return inputData -> {
             final Map<String, String> index = new HashMap<>();
 
-            if(inputData.getPsiFile() instanceof XmlFile) {
-                final XmlFile file = (XmlFile) inputData.getPsiFile();
-                index.putAll(xmlIndexer.map(file));
-            } else if(inputData.getPsiFile() instanceof YAMLFile) {
-                final YAMLFile file = (YAMLFile) inputData.getPsiFile();
-                index.putAll(ymlIndexer.map(file));
+            if(inputData.getFileType() == XmlFileType.INSTANCE) {
+                index.putAll(xmlIndexer.map(inputData));
+            } else if(inputData.getFileType() == YAMLFileType.YML) {
+                index.putAll(ymlIndexer.map(inputData));
             }
 
             return index;
@@ -57,7 +55,7 @@ public class ServiceParametersFileBasedIndex extends FileBasedIndexExtension<Str
 
     @Override
     public int getVersion() {
-        return 0;
+        return 1;
     }
 
     @NotNull
@@ -0,0 +1,107 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes;
+
+import com.intellij.ide.highlighter.XmlFileType;
+import com.intellij.util.indexing.*;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import com.oroplatform.idea.oroplatform.intellij.indexes.services.ServiceXmlStreamIndexer;
+import com.oroplatform.idea.oroplatform.intellij.indexes.services.ServiceYamlStreamIndexer;
+import com.oroplatform.idea.oroplatform.settings.OroPlatformSettings;
+import com.oroplatform.idea.oroplatform.symfony.Service;
+import com.oroplatform.idea.oroplatform.symfony.ServiceClassName;
+import com.oroplatform.idea.oroplatform.symfony.Tag;
+import gnu.trove.THashMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.yaml.YAMLFileType;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class ServiceTagsFileBasedIndex extends FileBasedIndexExtension<String, Collection<Service>> {
+    public static final ID<String, Collection<Service>> KEY = ID.create("com.oroplatform.idea.oroplatform.service_tags");
+    public static final String SERVICE_LINK_TAG = "oro_service_link";
+
+    private static final DataExternalizer<Collection<Service>> servicesExternalizer = new CollectionExternalizer<>(new ServiceExternalizer());
+    private final KeyDescriptor<String> keyDescriptor = new EnumeratorStringDescriptor();
+    private final DataIndexer<Service, Void, FileContent> xmlIndexer = new ServiceXmlStreamIndexer();
+    private final DataIndexer<Service, Void, FileContent> yamlIndexer = new ServiceYamlStreamIndexer();
+
+    @NotNull
+    @Override
+    public DataIndexer<String, Collection<Service>, FileContent> getIndexer() {
+        return inputData -> {
+            final Map<String, Collection<Service>> index = new THashMap<>();
+
+            if(!OroPlatformSettings.getInstance(inputData.getProject()).isPluginEnabled()) {
+                return index;
+            }
+
+            if(inputData.getFileType() == XmlFileType.INSTANCE) {
+                index(xmlIndexer.map(inputData).keySet(), index);
+            } else if(inputData.getFileType() == YAMLFileType.YML) {
+                index(yamlIndexer.map(inputData).keySet(), index);
+            }
+
+            return index;
+        };
+    }
+
+    private void index(Set<Service> services, Map<String, Collection<Service>> index) {
+        for (Service service : services) {
+            if(service.getId() == null) continue;
+
+            final Collection<Tag> links = service.getTags().stream()
+                .filter(tag -> SERVICE_LINK_TAG.equals(tag.getName()))
+                .collect(Collectors.toList());
+
+            //keep only the indexed tag and links, links are followed by ServicesIndex
+            for (Tag tag : service.getTags()) {
+                if(tag.getName() == null || SERVICE_LINK_TAG.equals(tag.getName())) continue;
+
+                final Collection<Tag> tags = new LinkedList<>(links);
+                tags.add(tag);
+
+                final String className = service.getClassName().map(ServiceClassName::getClassName).orElse(null);
+                index.computeIfAbsent(tag.getName(), name -> new LinkedList<>()).add(new Service(service.getId(), tags, className));
+            }
+        }
+    }
+
+    @NotNull
+    @Override
+    public ID<String, Collection<Service>> getName() {
+        return KEY;
+    }
+
+    @Override
+    public int getVersion() {
+        return 2;
+    }
+
+    @NotNull
+    @Override
+    public KeyDescriptor<String> getKeyDescriptor() {
+        return keyDescriptor;
+    }
+
+    @NotNull
+    @Override
+    public FileBasedIndex.InputFilter getInputFilter() {
+        return ServiceFileFilter.INSTANCE;
+    }
+
+    @Override
+    public boolean dependsOnFileContent() {
+        return true;
+    }
+
+    @NotNull
+    @Override
+    public DataExternalizer<Collection<Service>> getValueExternalizer() {
+        return servicesExternalizer;
+    }
+}
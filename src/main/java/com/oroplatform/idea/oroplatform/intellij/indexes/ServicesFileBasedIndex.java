@@ -1,27 +1,27 @@
 package com.oroplatform.idea.oroplatform.intellij.indexes;
 
-import com.intellij.psi.xml.XmlFile;
+import com.intellij.ide.highlighter.XmlFileType;
 import com.intellij.util.indexing.*;
 import com.intellij.util.io.DataExternalizer;
 import com.intellij.util.io.EnumeratorStringDescriptor;
 import com.intellij.util.io.KeyDescriptor;
-import com.oroplatform.idea.oroplatform.intellij.indexes.services.ServiceXmlIndexer;
-import com.oroplatform.idea.oroplatform.intellij.indexes.services.ServiceYamlIndexer;
+import com.oroplatform.idea.oroplatform.intellij.indexes.services.ServiceXmlStreamIndexer;
+import com.oroplatform.idea.oroplatform.intellij.indexes.services.ServiceYamlStreamIndexer;
 import com.oroplatform.idea.oroplatform.settings.OroPlatformSettings;
 import com.oroplatform.idea.oroplatform.symfony.Service;
 import gnu.trove.THashMap;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.yaml.psi.YAMLFile;
+import org.jetbrains.yaml.YAMLFileType;
 
 import java.util.Map;
 import java.util.Set;
 
 public class ServicesFileBasedIndex extends FileBasedIndexExtension<String, Service> {
     public static final ID<String, Service> KEY = ID.create("com.oroplatform.idea.oroplatform.services");
-    private static final DataExternalizer<Service> serviceExternalizer = new JsonExternalizer<>(Service.class);
+    private static final DataExternalizer<Service> serviceExternalizer = new ServiceExternalizer();
     private final KeyDescriptor<String> keyDescriptor = new EnumeratorStringDescriptor();
-    private final DataIndexer<Service, Void, XmlFile> xmlIndexer = new ServiceXmlIndexer();
-    private final DataIndexer<Service, Void, YAMLFile> yamlIndexer = new ServiceYamlIndexer();
+    private final DataIndexer<Service, Void, FileContent> xmlIndexer = new ServiceXmlStreamIndexer();
+    private final DataIndexer<Service, Void, FileContent> yamlIndexer = new ServiceYamlStreamIndexer();
 
     @NotNull
     @Override
@@ -33,11 +33,11 @@ public class ServicesFileBasedIndex extends FileBasedIndexExtension<String, Serv
                 return index;
             }
 
-            if(inputData.getPsiFile() instanceof XmlFile) {
-                final Set<Service> services = xmlIndexer.map((XmlFile) inputData.getPsiFile()).keySet();
+            if(inputData.getFileType() == XmlFileType.INSTANCE) {
+                final Set<Service> services = xmlIndexer.map(inputData).keySet();
                 index(services, index);
-            } else if(inputData.getPsiFile() instanceof YAMLFile) {
-                final Set<Service> services = yamlIndexer.map((YAMLFile) inputData.getPsiFile()).keySet();
+            } else if(inputData.getFileType() == YAMLFileType.YML) {
+                final Set<Service> services = yamlIndexer.map(inputData).keySet();
                 index(services, index);
             }
 
@@ -59,7 +59,7 @@ public class ServicesFileBasedIndex extends FileBasedIndexExtension<String, Serv
 
     @Override
     public int getVersion() {
-        return 3;
+        return 5;
     }
 
     @NotNull
@@ -0,0 +1,351 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes;
+
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.fileEditor.FileDocumentManager;
+import com.intellij.openapi.fileEditor.impl.LoadTextUtil;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.openapi.vfs.newvfs.BulkFileListener;
+import com.intellij.openapi.vfs.newvfs.events.VFileCopyEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileCreateEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileDeleteEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileEvent;
+import com.intellij.psi.*;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.containers.ContainerUtil;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.messages.MessageBusConnection;
+import com.oroplatform.idea.oroplatform.intellij.indexes.services.ServiceDefinitions;
+import com.oroplatform.idea.oroplatform.settings.OroPlatformSettings;
+import com.oroplatform.idea.oroplatform.symfony.Service;
+import com.oroplatform.idea.oroplatform.symfony.ServiceClassName;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.oroplatform.idea.oroplatform.Functions.toStream;
+
+//Resolved services (linked services merged, "%parameter%" class names substituted), changed files invalidate
+//only services defined there and services depending on them. Listeners only mark changed files and directories as
+//dirty, definitions of dirty files are read on the next query.
+public class ServicesGraph {
+    private static final int MAX_INCREMENTALLY_UPDATED_FILES = 100;
+
+    private final Project project;
+
+    private final Map<String, Collection<Service>> services = new ConcurrentHashMap<>();
+    private final Map<Service, Collection<Service>> resolvedServices = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> linkingServices = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> parameterUsages = new ConcurrentHashMap<>();
+    private final Map<VirtualFile, Set<String>> fileServices = new ConcurrentHashMap<>();
+    private final Map<VirtualFile, Set<String>> fileParameters = new ConcurrentHashMap<>();
+    private final Set<VirtualFile> dirtyFiles = ContainerUtil.newConcurrentSet();
+    private final Set<VirtualFile> dirtyDirectories = ContainerUtil.newConcurrentSet();
+
+    private volatile boolean outdated = false;
+    private volatile long generation = 0;
+    private long settingsModificationCount = -1;
+
+    public ServicesGraph(Project project) {
+        this.project = project;
+
+        final MessageBusConnection connection = project.getMessageBus().connect(project);
+        connection.subscribe(VirtualFileManager.VFS_CHANGES, new BulkFileListener.Adapter() {
+            @Override
+            public void before(@NotNull List<? extends VFileEvent> events) {
+                filesRemoving(events);
+            }
+
+            @Override
+            public void after(@NotNull List<? extends VFileEvent> events) {
+                filesChanged(events);
+            }
+        });
+        connection.subscribe(DumbService.DUMB_MODE, new DumbService.DumbModeListener() {
+            @Override
+            public void enteredDumbMode() {
+            }
+
+            @Override
+            public void exitDumbMode() {
+                outdated = true;
+            }
+        });
+        PsiManager.getInstance(project).addPsiTreeChangeListener(new PsiTreeChangeAdapter() {
+            @Override
+            public void childAdded(@NotNull PsiTreeChangeEvent event) {
+                psiChanged(event);
+            }
+
+            @Override
+            public void childRemoved(@NotNull PsiTreeChangeEvent event) {
+                psiChanged(event);
+            }
+
+            @Override
+            public void childReplaced(@NotNull PsiTreeChangeEvent event) {
+                psiChanged(event);
+            }
+
+            @Override
+            public void childrenChanged(@NotNull PsiTreeChangeEvent event) {
+                psiChanged(event);
+            }
+        }, project);
+    }
+
+    public static ServicesGraph getInstance(@NotNull Project project) {
+        return ServiceManager.getService(project, ServicesGraph.class);
+    }
+
+    public Collection<Service> getServices(String id) {
+        sync();
+
+        return getResolvedServices(id, new HashSet<>());
+    }
+
+    public Collection<Service> resolve(Service service) {
+        sync();
+
+        final Collection<Service> resolved = resolvedServices.get(service);
+        if(resolved != null) return resolved;
+
+        final long startGeneration = generation;
+        final Collection<Service> result = resolve(service.getId(), service, new HashSet<>()).collect(Collectors.toList());
+
+        synchronized (this) {
+            if(startGeneration == generation) {
+                resolvedServices.put(service, result);
+            }
+        }
+
+        return result;
+    }
+
+    private Collection<Service> getResolvedServices(String id, Set<String> resolving) {
+        final Collection<Service> resolved = services.get(id);
+        if(resolved != null) return resolved;
+
+        //link cycle
+        if(!resolving.add(id)) return Collections.emptyList();
+
+        final long startGeneration = generation;
+        final Collection<Service> definitions = new LinkedList<>();
+        FileBasedIndex.getInstance().processValues(ServicesFileBasedIndex.KEY, id, null, ((file, value) -> {
+            definitions.add(value);
+            add(fileServices, file, id);
+            return false;
+        }), GlobalSearchScope.allScope(project));
+
+        final Collection<Service> result = definitions.stream()
+            .flatMap(service -> resolve(id, service, resolving))
+            .collect(Collectors.toList());
+
+        resolving.remove(id);
+
+        synchronized (this) {
+            if(startGeneration == generation) {
+                services.put(id, result);
+            }
+        }
+
+        return result;
+    }
+
+    private Stream<Service> resolve(String id, Service service, Set<String> resolving) {
+        final Service resolvedService = withResolvedClassName(id, service);
+
+        return Stream.concat(
+            Stream.of(resolvedService),
+            service.getTags().stream()
+                .filter(tag -> ServiceTagsFileBasedIndex.SERVICE_LINK_TAG.equals(tag.getName()) && !tag.get("service").filter(id::equals).isPresent())
+                .flatMap(tag -> toStream(tag.get("service")))
+                .flatMap(serviceLink -> {
+                    add(linkingServices, serviceLink, id);
+                    return getResolvedServices(serviceLink, resolving).stream().map(resolvedService::merge);
+                })
+        );
+    }
+
+    private Service withResolvedClassName(String id, Service service) {
+        final Optional<String> parameter = service.getClassName().flatMap(ServiceClassName::getServiceParameter);
+
+        if(!parameter.isPresent()) return service;
+
+        add(parameterUsages, parameter.get(), id);
+
+        final Collection<String> values = new LinkedList<>();
+        FileBasedIndex.getInstance().processValues(ServiceParametersFileBasedIndex.KEY, parameter.get(), null, ((file, value) -> {
+            values.add(value);
+            add(fileParameters, file, parameter.get());
+            return false;
+        }), GlobalSearchScope.allScope(project));
+
+        return values.stream()
+            .findFirst()
+            .map(className -> new Service(service.getId(), service.getTags(), className))
+            .orElse(service);
+    }
+
+    private static <K> void add(Map<K, Set<String>> map, K key, String value) {
+        map.computeIfAbsent(key, k -> ContainerUtil.newConcurrentSet()).add(value);
+    }
+
+    private void psiChanged(PsiTreeChangeEvent event) {
+        final PsiFile psiFile = event.getFile();
+        final VirtualFile file = psiFile == null || !psiFile.isPhysical() ? null : psiFile.getVirtualFile();
+
+        if(file != null && isServicesFile(file)) {
+            dirtyFiles.add(file);
+        }
+    }
+
+    //known files of removed, moved or renamed directories are checked while they are still there
+    private void filesRemoving(List<? extends VFileEvent> events) {
+        for (VFileEvent event : events) {
+            final VirtualFile file = event.getFile();
+
+            if(file != null && file.isDirectory() && !(event instanceof VFileCreateEvent) && !(event instanceof VFileCopyEvent)) {
+                knownFiles().filter(knownFile -> VfsUtilCore.isAncestor(file, knownFile, false)).forEach(dirtyFiles::add);
+            }
+        }
+    }
+
+    private void filesChanged(List<? extends VFileEvent> events) {
+        for (VFileEvent event : events) {
+            final VirtualFile file = event instanceof VFileCopyEvent ?
+                ((VFileCopyEvent) event).getNewParent().findChild(((VFileCopyEvent) event).getNewChildName()) : event.getFile();
+
+            if(file == null) continue;
+
+            if(file.isDirectory()) {
+                //created, copied, moved or renamed directory can contain new services files
+                if(!(event instanceof VFileDeleteEvent)) dirtyDirectories.add(file);
+            } else if(isServicesFile(file)) {
+                dirtyFiles.add(file);
+            }
+        }
+    }
+
+    private Stream<VirtualFile> knownFiles() {
+        return Stream.concat(fileServices.keySet().stream(), fileParameters.keySet().stream());
+    }
+
+    private boolean isServicesFile(VirtualFile file) {
+        return fileServices.containsKey(file) || fileParameters.containsKey(file) || ServiceFileFilter.INSTANCE.acceptInput(file);
+    }
+
+    private void sync() {
+        final long settingsModificationCount = OroPlatformSettings.getInstance(project).getModificationCount();
+
+        if(!outdated && this.settingsModificationCount == settingsModificationCount && dirtyFiles.isEmpty() && dirtyDirectories.isEmpty()) return;
+
+        synchronized (this) {
+            if(!outdated && this.settingsModificationCount == settingsModificationCount) {
+                syncDirectories();
+                syncFiles();
+            }
+
+            if(outdated || this.settingsModificationCount != settingsModificationCount) {
+                generation++;
+                outdated = false;
+                this.settingsModificationCount = settingsModificationCount;
+                services.clear();
+                resolvedServices.clear();
+                linkingServices.clear();
+                parameterUsages.clear();
+                fileServices.clear();
+                fileParameters.clear();
+                dirtyFiles.clear();
+                dirtyDirectories.clear();
+            }
+        }
+    }
+
+    //graph is built again only when a dirty directory contains services files
+    private void syncDirectories() {
+        for (VirtualFile directory : new ArrayList<>(dirtyDirectories)) {
+            dirtyDirectories.remove(directory);
+
+            if(directory.isValid() && containsServicesFiles(directory)) {
+                outdated = true;
+                return;
+            }
+        }
+    }
+
+    private static boolean containsServicesFiles(VirtualFile directory) {
+        //stops on the first services file
+        return !VfsUtilCore.iterateChildrenRecursively(directory, null, child -> child.isDirectory() || !ServiceFileFilter.INSTANCE.acceptInput(child));
+    }
+
+    private void syncFiles() {
+        if(dirtyFiles.size() > MAX_INCREMENTALLY_UPDATED_FILES) {
+            outdated = true;
+            return;
+        }
+
+        for (VirtualFile file : new ArrayList<>(dirtyFiles)) {
+            dirtyFiles.remove(file);
+
+            final ServiceDefinitions definitions = file.isValid() && ServiceFileFilter.INSTANCE.acceptInput(file) ?
+                ServiceDefinitions.read(file, getText(file)) : ServiceDefinitions.EMPTY;
+
+            if(definitions == null) {
+                outdated = true;
+                return;
+            }
+
+            update(file, definitions);
+        }
+    }
+
+    //unsaved changes are read from the document
+    private static CharSequence getText(VirtualFile file) {
+        final Document document = FileDocumentManager.getInstance().getCachedDocument(file);
+
+        return document != null ? document.getImmutableCharSequence() : LoadTextUtil.loadText(file);
+    }
+
+    //invalidates services defined in the file before and after the change
+    private synchronized void update(VirtualFile file, ServiceDefinitions definitions) {
+        generation++;
+        resolvedServices.clear();
+
+        final Set<String> serviceIds = new HashSet<>(remove(fileServices, file));
+        final Set<String> parameters = new HashSet<>(remove(fileParameters, file));
+        serviceIds.addAll(definitions.getServiceIds());
+        parameters.addAll(definitions.getParameters());
+
+        for (String parameter : parameters) {
+            serviceIds.addAll(remove(parameterUsages, parameter));
+        }
+
+        final Set<String> invalidated = new HashSet<>();
+        for (String serviceId : serviceIds) {
+            invalidate(serviceId, invalidated);
+        }
+    }
+
+    private void invalidate(String serviceId, Set<String> invalidated) {
+        if(serviceId == null || !invalidated.add(serviceId)) return;
+
+        services.remove(serviceId);
+
+        for (String linkingService : remove(linkingServices, serviceId)) {
+            invalidate(linkingService, invalidated);
+        }
+    }
+
+    private static <K> Set<String> remove(Map<K, Set<String>> map, K key) {
+        final Set<String> values = map.remove(key);
+        return values == null ? Collections.emptySet() : values;
+    }
+}
@@ -1,24 +1,36 @@
 package com.oroplatform.idea.oroplatform.intellij.indexes;
 
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectFileIndex;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.util.Key;
 import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
 import com.intellij.psi.util.PsiTreeUtil;
 import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.indexing.ID;
 import com.jetbrains.php.PhpIndex;
 import com.jetbrains.php.lang.psi.elements.ClassConstantReference;
 import com.jetbrains.php.lang.psi.elements.Field;
 import com.jetbrains.php.lang.psi.elements.PhpClass;
 import com.jetbrains.php.lang.psi.elements.PhpReturn;
+import com.oroplatform.idea.oroplatform.settings.OroPlatformSettings;
 import com.oroplatform.idea.oroplatform.symfony.AliasedService;
 import com.oroplatform.idea.oroplatform.symfony.Service;
 import com.oroplatform.idea.oroplatform.symfony.ServiceClassName;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -27,6 +39,10 @@ import static com.oroplatform.idea.oroplatform.Functions.toStream;
 
 public class ServicesIndex {
 
+    private static final String SCOPE_PROVIDER_TAG = "oro_scope.provider";
+    private static final String CACHE_DIR = "cache/dev";
+    private static final Key<CachedValue<Optional<GlobalSearchScope>>> CONTAINER_DUMP_SCOPE_CACHE_KEY = new Key<>("com.oroplatform.idea.oroplatform.cache.container_dump_scope");
+
     private final Project project;
 
     private ServicesIndex(Project project) {
@@ -38,8 +54,7 @@ public class ServicesIndex {
     }
 
     public Collection<AliasedService> getServiceAliasesByTag(String tagName) {
-        return FileBasedIndex.getInstance().getAllKeys(ServicesFileBasedIndex.KEY, project).stream()
-            .flatMap(serviceId -> getServices(serviceId).stream())
+        return getServicesByTag(tagName).stream()
             .flatMap(service -> {
                 return service.getTags().stream()
                     .filter(tag -> tagName.equals(tag.getName()))
@@ -52,11 +67,10 @@ public class ServicesIndex {
     public Collection<PhpClass> getServiceAliasClasses(String aliasTag, String text) {
         final PhpIndex phpIndex = PhpIndex.getInstance(project);
 
-        return FileBasedIndex.getInstance().getAllKeys(ServicesFileBasedIndex.KEY, project).stream()
-            .flatMap(serviceId -> getServices(serviceId).stream())
+        return getServicesByTag(aliasTag).stream()
             .filter(service -> service.getTags().stream().anyMatch(tag -> aliasTag.equals(tag.getName()) && tag.getAliases().contains(text)))
             .flatMap(service -> toStream(service.getClassName()))
-            .map(this::getClassNameFrom)
+            .map(ServiceClassName::getClassName)
             .flatMap(className -> phpIndex.getClassesByFQN(className).stream())
             .collect(Collectors.toList());
     }
@@ -67,44 +81,122 @@ public class ServicesIndex {
     }
 
     public Collection<String> findServices() {
-        return FileBasedIndex.getInstance().getAllKeys(ServicesFileBasedIndex.KEY, project);
+        return findServices(getContainerDumpScope());
+    }
+
+    private Collection<String> findServices(Optional<GlobalSearchScope> containerDumpScope) {
+        final ID<String, ?> key = containerDumpScope.isPresent() ? ContainerDumpFileBasedIndex.KEY : ServicesFileBasedIndex.KEY;
+
+        return FileBasedIndex.getInstance().getAllKeys(key, project);
     }
 
     public Collection<String> findServices(Predicate<Service> predicate) {
-        final Collection<String> serviceNames = FileBasedIndex.getInstance().getAllKeys(ServicesFileBasedIndex.KEY, project);
+        final Optional<GlobalSearchScope> containerDumpScope = getContainerDumpScope();
 
-        return serviceNames.stream()
-            .filter(serviceName -> getServices(serviceName).stream().anyMatch(predicate))
+        return findServices(containerDumpScope).stream()
+            .filter(serviceName -> getServices(serviceName, containerDumpScope).stream().anyMatch(predicate))
             .collect(Collectors.toList());
     }
 
     @NotNull
-    private Collection<Service> getServices(String serviceName) {
+    private Collection<Service> getServices(String serviceName, Optional<GlobalSearchScope> containerDumpScope) {
+        if(containerDumpScope.isPresent()) {
+            return FileBasedIndex.getInstance().getValues(ContainerDumpFileBasedIndex.KEY, serviceName, containerDumpScope.get());
+        }
+
+        return ServicesGraph.getInstance(project).getServices(serviceName);
+    }
+
+    @NotNull
+    private Collection<Service> getServicesByTag(String tagName) {
+        final Optional<GlobalSearchScope> containerDumpScope = getContainerDumpScope();
+
+        if(containerDumpScope.isPresent()) {
+            return FileBasedIndex.getInstance().getValues(ContainerDumpTagsFileBasedIndex.KEY, tagName, containerDumpScope.get()).stream()
+                .flatMap(Collection::stream)
+                .collect(Collectors.toList());
+        }
+
         final GlobalSearchScope scope = GlobalSearchScope.allScope(project);
         final Collection<Service> services = new LinkedList<>();
-        FileBasedIndex.getInstance().processValues(ServicesFileBasedIndex.KEY, serviceName, null, ((file, value) -> {
-            services.add(value);
-            return false;
+        FileBasedIndex.getInstance().processValues(ServiceTagsFileBasedIndex.KEY, tagName, null, ((file, value) -> {
+            services.addAll(value);
+            return true;
         }), scope);
 
+        final ServicesGraph servicesGraph = ServicesGraph.getInstance(project);
+
         return services.stream()
-            .flatMap(service -> {
-                return Stream.concat(
-                    Stream.of(service),
-                    service.getTags().stream()
-                        .filter(tag -> "oro_service_link".equals(tag.getName()) && !tag.get("service").filter(serviceName::equals).isPresent())
-                        .flatMap(tag -> toStream(tag.get("service")))
-                        .flatMap(serviceLink -> getServices(serviceLink).stream().map(service::merge))
-                );
+            .flatMap(service -> servicesGraph.resolve(service).stream())
+            .collect(Collectors.toList());
+    }
 
-            }).collect(Collectors.toList());
+    public Collection<Service> findServicesByClass(String className) {
+        final GlobalSearchScope scope = GlobalSearchScope.allScope(project);
+        final Collection<Service> services = new LinkedList<>();
+        final Set<String> visited = new HashSet<>();
+        final Deque<String> classReferences = new LinkedList<>();
+        classReferences.add(ServiceClassesFileBasedIndex.normalize(className));
+
+        while(!classReferences.isEmpty()) {
+            final String classReference = classReferences.poll();
+            if(!visited.add(classReference)) continue;
+
+            FileBasedIndex.getInstance().processValues(ServiceClassesFileBasedIndex.KEY, classReference, null, ((file, values) -> {
+                for (Service service : values) {
+                    if(new ServiceClassName(service.getId()).isServiceParameter()) {
+                        classReferences.add(service.getId());
+                    } else {
+                        services.add(service);
+                        classReferences.add("@" + service.getId());
+                    }
+                }
+                return true;
+            }), scope);
+        }
+
+        return services;
     }
 
     public Optional<Service> findService(String id) {
+        final Optional<GlobalSearchScope> containerDumpScope = getContainerDumpScope();
+
+        if(containerDumpScope.isPresent()) {
+            return FileBasedIndex.getInstance().getValues(ContainerDumpFileBasedIndex.KEY, id, containerDumpScope.get()).stream()
+                .findFirst();
+        }
+
         return FileBasedIndex.getInstance().getValues(ServicesFileBasedIndex.KEY, id, GlobalSearchScope.allScope(project)).stream()
             .findFirst();
     }
 
+    //container dumped by Symfony is used instead of services config files if it is indexed
+    private Optional<GlobalSearchScope> getContainerDumpScope() {
+        CachedValue<Optional<GlobalSearchScope>> cachedValue = project.getUserData(CONTAINER_DUMP_SCOPE_CACHE_KEY);
+
+        if(cachedValue == null) {
+            final OroPlatformSettings settings = OroPlatformSettings.getInstance(project);
+            cachedValue = CachedValuesManager.getManager(project).createCachedValue(() -> CachedValueProvider.Result.create(
+                findContainerDumpScope(), ContainerDumpModificationTracker.getInstance(project), ProjectRootManager.getInstance(project), settings
+            ), false);
+
+            project.putUserData(CONTAINER_DUMP_SCOPE_CACHE_KEY, cachedValue);
+        }
+
+        return cachedValue.getValue();
+    }
+
+    private Optional<GlobalSearchScope> findContainerDumpScope() {
+        final ProjectFileIndex fileIndex = ProjectFileIndex.SERVICE.getInstance(project);
+        final Collection<VirtualFile> containerDumps = toStream(OroPlatformSettings.getInstance(project).getAppVirtualDir())
+            .flatMap(appDir -> toStream(appDir.findFileByRelativePath(CACHE_DIR)))
+            .flatMap(cacheDir -> Stream.of(cacheDir.getChildren()))
+            .filter(file -> ContainerDumpFileBasedIndex.isContainerDump(file) && fileIndex.isInContent(file))
+            .collect(Collectors.toList());
+
+        return containerDumps.isEmpty() ? Optional.empty() : Optional.of(GlobalSearchScope.filesScope(project, containerDumps));
+    }
+
     public Optional<String> findParameterValue(String name) {
         return FileBasedIndex.getInstance().getValues(ServiceParametersFileBasedIndex.KEY, name, GlobalSearchScope.allScope(project)).stream()
             .findFirst();
@@ -113,25 +205,17 @@ public class ServicesIndex {
     public Collection<WorkflowScope> findWorkflowScopes() {
         final PhpIndex phpIndex = PhpIndex.getInstance(project);
 
-        return FileBasedIndex.getInstance().getAllKeys(ServicesFileBasedIndex.KEY, project).stream()
-            .flatMap(serviceId -> getServices(serviceId).stream())
+        return getServicesByTag(SCOPE_PROVIDER_TAG).stream()
             .filter(this::isWorkflowScope)
             .flatMap(service -> toStream(service.getClassName()))
-            .map(this::getClassNameFrom)
+            .map(ServiceClassName::getClassName)
             .flatMap(className -> phpIndex.getClassesByFQN(className).stream())
             .flatMap(phpClass -> toStream(findWorkflowScope(phpClass)))
             .collect(Collectors.toList());
     }
 
-    @NotNull
-    private String getClassNameFrom(ServiceClassName serviceClassName) {
-        return serviceClassName.getServiceParameter()
-            .flatMap(this::findParameterValue)
-            .orElse(serviceClassName.getClassName());
-    }
-
     private boolean isWorkflowScope(Service service) {
-        return service.getTags().stream().anyMatch(tag -> "oro_scope.provider".equals(tag.getName()) && tag.get("scopeType").filter("workflow_definition"::equals).isPresent());
+        return service.getTags().stream().anyMatch(tag -> SCOPE_PROVIDER_TAG.equals(tag.getName()) && tag.get("scopeType").filter("workflow_definition"::equals).isPresent());
     }
 
     private Optional<WorkflowScope> findWorkflowScope(PhpClass phpClass) {
@@ -0,0 +1,46 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes;
+
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import com.oroplatform.idea.oroplatform.symfony.Tag;
+import gnu.trove.THashMap;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Map;
+
+class TagExternalizer implements DataExternalizer<Tag> {
+    private final DataExternalizer<String> keyExternalizer = new EnumeratedStringExternalizer(
+        "name", "alias", "service", "scopeType", "type", "priority", "method", "event"
+    );
+    private final DataExternalizer<String> valueExternalizer = new EnumeratedStringExternalizer(
+        "oro_service_link", "oro_action.condition", "oro_action.action", "oro_scope.provider", "form.type",
+        "kernel.event_listener", "kernel.event_subscriber", "doctrine.event_listener", "twig.extension", "workflow_definition"
+    );
+
+    @Override
+    public void save(@NotNull DataOutput out, Tag value) throws IOException {
+        final Map<String, String> parameters = value.getParameters();
+
+        DataInputOutputUtil.writeINT(out, parameters.size());
+        for (Map.Entry<String, String> parameter : parameters.entrySet()) {
+            keyExternalizer.save(out, parameter.getKey());
+            valueExternalizer.save(out, parameter.getValue());
+        }
+    }
+
+    @Override
+    public Tag read(@NotNull DataInput in) throws IOException {
+        final int size = DataInputOutputUtil.readINT(in);
+        final Map<String, String> parameters = new THashMap<>(size);
+
+        for (int i = 0; i < size; i++) {
+            final String key = keyExternalizer.read(in);
+            parameters.put(key, valueExternalizer.read(in));
+        }
+
+        return new Tag(parameters);
+    }
+}
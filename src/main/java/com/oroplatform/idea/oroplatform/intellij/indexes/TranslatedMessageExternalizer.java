@@ -0,0 +1,26 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes;
+
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.IOUtil;
+import com.oroplatform.idea.oroplatform.symfony.TranslatedMessage;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+class TranslatedMessageExternalizer implements DataExternalizer<TranslatedMessage> {
+    private final DataExternalizer<String> stringExternalizer = new EnumeratedStringExternalizer("messages", "jsmessages", "validators", "workflows", "en");
+
+    @Override
+    public void save(@NotNull DataOutput out, TranslatedMessage value) throws IOException {
+        stringExternalizer.save(out, value.getLocale());
+        stringExternalizer.save(out, value.getDomain());
+        IOUtil.writeUTF(out, value.getText());
+    }
+
+    @Override
+    public TranslatedMessage read(@NotNull DataInput in) throws IOException {
+        return new TranslatedMessage(stringExternalizer.read(in), stringExternalizer.read(in), IOUtil.readUTF(in));
+    }
+}
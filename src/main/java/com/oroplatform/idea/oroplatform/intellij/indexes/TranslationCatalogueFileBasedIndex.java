@@ -0,0 +1,66 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes;
+
+import com.intellij.util.indexing.*;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import com.oroplatform.idea.oroplatform.symfony.TranslatedMessage;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.Map;
+
+//Translated values of messages from compiled catalogues of all locales, keys are translation keys
+public class TranslationCatalogueFileBasedIndex extends FileBasedIndexExtension<String, Collection<TranslatedMessage>> {
+    public static final ID<String, Collection<TranslatedMessage>> KEY = ID.create("com.oroplatform.idea.oroplatform.translation_catalogue");
+    private static final DataExternalizer<Collection<TranslatedMessage>> messagesExternalizer = new CollectionExternalizer<>(new TranslatedMessageExternalizer());
+    private final KeyDescriptor<String> keyDescriptor = new EnumeratorStringDescriptor();
+
+    @NotNull
+    @Override
+    public DataIndexer<String, Collection<TranslatedMessage>, FileContent> getIndexer() {
+        return new TranslationsDataIndexer<Collection<TranslatedMessage>>() {
+            @Override
+            void indexDomain(Map<String, Collection<TranslatedMessage>> index, String locale, String domain, Map<String, String> messages) {
+                for (Map.Entry<String, String> message : messages.entrySet()) {
+                    index.computeIfAbsent(message.getKey(), key -> new LinkedList<>()).add(new TranslatedMessage(locale, domain, message.getValue()));
+                }
+            }
+        };
+    }
+
+    @NotNull
+    @Override
+    public ID<String, Collection<TranslatedMessage>> getName() {
+        return KEY;
+    }
+
+    @Override
+    public int getVersion() {
+        return 0;
+    }
+
+    @NotNull
+    @Override
+    public KeyDescriptor<String> getKeyDescriptor() {
+        return keyDescriptor;
+    }
+
+    @NotNull
+    @Override
+    public FileBasedIndex.InputFilter getInputFilter() {
+        return TranslationDomainFileBasedIndex.INPUT_FILTER;
+    }
+
+    @Override
+    public boolean dependsOnFileContent() {
+        return true;
+    }
+
+    @NotNull
+    @Override
+    public DataExternalizer<Collection<TranslatedMessage>> getValueExternalizer() {
+        return messagesExternalizer;
+    }
+}
@@ -0,0 +1,18 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes;
+
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.project.Project;
+import org.jetbrains.annotations.NotNull;
+
+//Changes when translated values could change: compiled catalogues edited, created, removed, moved or renamed, or
+//indexes rebuilt
+public class TranslationCataloguesModificationTracker extends FilesModificationTracker {
+
+    public TranslationCataloguesModificationTracker(Project project) {
+        super(project, TranslationDomainFileBasedIndex.INPUT_FILTER::acceptInput);
+    }
+
+    public static TranslationCataloguesModificationTracker getInstance(@NotNull Project project) {
+        return ServiceManager.getService(project, TranslationCataloguesModificationTracker.class);
+    }
+}
@@ -0,0 +1,107 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes;
+
+import java.util.*;
+
+//Immutable coverage of translation keys of a domain by locales. Every key has an id (its position in sorted array of
+//keys of all locales) and every locale has a bitset of ids of its keys, so keys missing in a locale (defined in the base
+//locale, but not in the locale) and unused keys (defined in the locale, but not in the base locale) are found by bitset
+//operations.
+public class TranslationCoverage {
+    public static final String BASE_LOCALE = "en";
+
+    private final String[] keys;
+    private final Map<String, BitSet> locales;
+
+    private TranslationCoverage(String[] keys, Map<String, BitSet> locales) {
+        this.keys = keys;
+        this.locales = locales;
+    }
+
+    public static TranslationCoverage of(Map<String, ? extends Collection<String>> keysByLocale) {
+        final Set<String> allKeys = new HashSet<>();
+        keysByLocale.values().forEach(allKeys::addAll);
+
+        final String[] keys = allKeys.toArray(new String[allKeys.size()]);
+        Arrays.sort(keys);
+
+        final Map<String, BitSet> locales = new TreeMap<>();
+        keysByLocale.forEach((locale, localeKeys) -> {
+            final BitSet ids = new BitSet(keys.length);
+            localeKeys.forEach(key -> ids.set(Arrays.binarySearch(keys, key)));
+            locales.put(locale, ids);
+        });
+
+        return new TranslationCoverage(keys, locales);
+    }
+
+    //all keys of all locales
+    public int size() {
+        return keys.length;
+    }
+
+    //in alphabetical order
+    public Collection<String> getLocales() {
+        return Collections.unmodifiableSet(locales.keySet());
+    }
+
+    public boolean hasLocale(String locale) {
+        return locales.containsKey(locale);
+    }
+
+    public boolean hasKey(String locale, String key) {
+        final BitSet ids = locales.get(locale);
+        final int id = Arrays.binarySearch(keys, key);
+
+        return ids != null && id >= 0 && ids.get(id);
+    }
+
+    public int countKeys(String locale) {
+        return ids(locale).cardinality();
+    }
+
+    //locales other than the base one without given key
+    public List<String> getMissingLocales(String key) {
+        final int id = Arrays.binarySearch(keys, key);
+        final List<String> missingLocales = new ArrayList<>();
+
+        locales.forEach((locale, ids) -> {
+            if(!locale.equals(BASE_LOCALE) && (id < 0 || !ids.get(id))) {
+                missingLocales.add(locale);
+            }
+        });
+
+        return missingLocales;
+    }
+
+    //keys of the base locale missing in given locale
+    public List<String> getMissingKeys(String locale) {
+        final BitSet missing = (BitSet) ids(BASE_LOCALE).clone();
+        missing.andNot(ids(locale));
+
+        return keysOf(missing);
+    }
+
+    //keys of given locale missing in the base locale, nothing is unused when there is no base locale
+    public List<String> getUnusedKeys(String locale) {
+        if(!hasLocale(BASE_LOCALE)) return Collections.emptyList();
+
+        final BitSet unused = (BitSet) ids(locale).clone();
+        unused.andNot(ids(BASE_LOCALE));
+
+        return keysOf(unused);
+    }
+
+    private BitSet ids(String locale) {
+        return locales.getOrDefault(locale, new BitSet());
+    }
+
+    private List<String> keysOf(BitSet ids) {
+        final List<String> result = new ArrayList<>(ids.cardinality());
+
+        for (int id = ids.nextSetBit(0); id >= 0; id = ids.nextSetBit(id + 1)) {
+            result.add(keys[id]);
+        }
+
+        return result;
+    }
+}
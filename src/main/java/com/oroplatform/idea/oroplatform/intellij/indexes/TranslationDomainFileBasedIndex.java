@@ -1,13 +1,10 @@
 package com.oroplatform.idea.oroplatform.intellij.indexes;
 
-import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.util.indexing.*;
 import com.intellij.util.io.EnumeratorStringDescriptor;
 import com.intellij.util.io.KeyDescriptor;
 import com.jetbrains.php.lang.PhpFileType;
-import com.jetbrains.php.lang.psi.elements.ArrayCreationExpression;
-import com.jetbrains.php.lang.psi.elements.ArrayHashElement;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Map;
@@ -16,15 +13,18 @@ public class TranslationDomainFileBasedIndex extends ScalarIndexExtension<String
     private final KeyDescriptor<String> keyDescriptor = new EnumeratorStringDescriptor();
     public static final ID<String, Void> KEY = ID.create("com.oroplatform.idea.oroplatform.translation_domains");
 
+    //catalogues of all locales
+    static final FileBasedIndex.InputFilter INPUT_FILTER = new DefaultFileTypeSpecificInputFilter(PhpFileType.INSTANCE) {
+        @Override
+        public boolean acceptInput(@NotNull VirtualFile file) {
+            return file.getPath().contains("/cache/dev/translations/catalogue.");
+        }
+    };
+
     @NotNull
     @Override
     public FileBasedIndex.InputFilter getInputFilter() {
-        return new DefaultFileTypeSpecificInputFilter(PhpFileType.INSTANCE) {
-            @Override
-            public boolean acceptInput(@NotNull VirtualFile file) {
-                return file.getPath().contains("/cache/dev/translations/catalogue.en");
-            }
-        };
+        return INPUT_FILTER;
     }
 
     @Override
@@ -41,14 +41,10 @@ public class TranslationDomainFileBasedIndex extends ScalarIndexExtension<String
     @NotNull
     @Override
     public DataIndexer<String, Void, FileContent> getIndexer() {
-        return new TranslationsDataIndexer() {
+        return new TranslationsDataIndexer<Void>() {
             @Override
-            void indexCatalogue(Map<String, Void> index, ArrayCreationExpression catalogue) {
-                for (ArrayHashElement domainHash : catalogue.getHashElements()) {
-                    if(domainHash.getKey() == null) continue;
-
-                    index.put(StringUtil.stripQuotesAroundValue(domainHash.getKey().getText()), null);
-                }
+            void indexDomain(Map<String, Void> index, String locale, String domain, Map<String, String> messages) {
+                index.put(domain, null);
             }
         };
     }
@@ -61,6 +57,6 @@ public class TranslationDomainFileBasedIndex extends ScalarIndexExtension<String
 
     @Override
     public int getVersion() {
-        return 0;
+        return 1;
     }
 }
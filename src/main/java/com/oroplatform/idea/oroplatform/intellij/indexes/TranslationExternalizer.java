@@ -0,0 +1,46 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes;
+
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import com.oroplatform.idea.oroplatform.symfony.Translation;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+//Offsets are ascending, so they are stored as differences to the previous one
+class TranslationExternalizer implements DataExternalizer<Translation> {
+    private final DataExternalizer<String> stringExternalizer = new EnumeratedStringExternalizer("messages", "jsmessages", "validators", "workflows", "en");
+
+    @Override
+    public void save(@NotNull DataOutput out, Translation value) throws IOException {
+        stringExternalizer.save(out, value.getDomain());
+        stringExternalizer.save(out, value.getLocale());
+        DataInputOutputUtil.writeINT(out, value.getOffsets().size());
+
+        int previous = 0;
+        for (Integer offset : value.getOffsets()) {
+            DataInputOutputUtil.writeINT(out, offset - previous);
+            previous = offset;
+        }
+    }
+
+    @Override
+    public Translation read(@NotNull DataInput in) throws IOException {
+        final String domain = stringExternalizer.read(in);
+        final String locale = stringExternalizer.read(in);
+        final int size = DataInputOutputUtil.readINT(in);
+        final List<Integer> offsets = new ArrayList<>(size);
+
+        int previous = 0;
+        for (int i = 0; i < size; i++) {
+            previous += DataInputOutputUtil.readINT(in);
+            offsets.add(previous);
+        }
+
+        return new Translation(domain, locale, offsets);
+    }
+}
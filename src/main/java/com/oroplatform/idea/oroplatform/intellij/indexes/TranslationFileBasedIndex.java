@@ -2,21 +2,32 @@ package com.oroplatform.idea.oroplatform.intellij.indexes;
 
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.util.indexing.*;
+import com.intellij.util.io.DataExternalizer;
 import com.intellij.util.io.EnumeratorStringDescriptor;
 import com.intellij.util.io.KeyDescriptor;
 import com.oroplatform.idea.oroplatform.SimpleSuffixMatcher;
 import com.oroplatform.idea.oroplatform.intellij.codeAssist.yml.YamlScalarVisitor;
+import com.oroplatform.idea.oroplatform.intellij.indexes.yaml.YamlNode;
+import com.oroplatform.idea.oroplatform.intellij.indexes.yaml.YamlNodes;
+import com.oroplatform.idea.oroplatform.intellij.indexes.yaml.YamlTokenReader;
 import com.oroplatform.idea.oroplatform.settings.OroPlatformSettings;
+import com.oroplatform.idea.oroplatform.symfony.Translation;
 import gnu.trove.THashMap;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.yaml.YAMLFileType;
 import org.jetbrains.yaml.psi.YAMLFile;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.function.BiConsumer;
 
-public class TranslationFileBasedIndex extends ScalarIndexExtension<String> {
-    public static final ID<String, Void> KEY = ID.create("com.oroplatform.idea.oroplatform.translations");
+//Values are offsets of translation scalars in the file together with domain and locale taken from the file name
+//("domain.locale.yml"), so references resolve without walking the files
+public class TranslationFileBasedIndex extends FileBasedIndexExtension<String, Translation> {
+    public static final ID<String, Translation> KEY = ID.create("com.oroplatform.idea.oroplatform.translations");
 
+    private static final DataExternalizer<Translation> translationExternalizer = new TranslationExternalizer();
     private final KeyDescriptor<String> keyDescriptor = new EnumeratorStringDescriptor();
     private final SimpleSuffixMatcher suffixMatcher = new SimpleSuffixMatcher("Resources/translations/*.en.yml");
 
@@ -38,37 +49,77 @@ public class TranslationFileBasedIndex extends ScalarIndexExtension<String> {
 
     @NotNull
     @Override
-    public ID<String, Void> getName() {
+    public ID<String, Translation> getName() {
         return KEY;
     }
 
     @NotNull
     @Override
-    public DataIndexer<String, Void, FileContent> getIndexer() {
+    public DataIndexer<String, Translation, FileContent> getIndexer() {
         return inputData -> {
-            final Map<String, Void> index = new THashMap<>();
+            final Map<String, Translation> index = new THashMap<>();
 
-            if(!OroPlatformSettings.getInstance(inputData.getProject()).isPluginEnabled() || !(inputData.getPsiFile() instanceof YAMLFile)) {
+            if(!OroPlatformSettings.getInstance(inputData.getProject()).isPluginEnabled()) {
                 return index;
             }
 
-            final YAMLFile file = (YAMLFile) inputData.getPsiFile();
+            final Map<String, List<Integer>> offsets = new THashMap<>();
+            visitTranslations(inputData, (trans, offset) -> offsets.computeIfAbsent(trans, key -> new ArrayList<>()).add(offset));
 
-            file.accept(new YamlScalarVisitor((trans, element) -> index.put(trans, null)));
+            final String domain = getDomain(inputData.getFile());
+            final String locale = getLocale(inputData.getFile());
+
+            offsets.forEach((trans, transOffsets) -> index.put(trans, new Translation(domain, locale, transOffsets)));
 
             return index;
         };
     }
 
+    //translation keys with offsets of their scalars, read from tokens or from psi when the token reader gives up
+    static void visitTranslations(FileContent inputData, BiConsumer<String, Integer> consumer) {
+        final List<YamlNode> roots = YamlTokenReader.read(inputData.getContentAsText());
+
+        if(roots != null) {
+            YamlNodes.visitScalars(roots, (trans, node) -> consumer.accept(trans, node.getOffset()));
+        } else if(inputData.getPsiFile() instanceof YAMLFile) {
+            inputData.getPsiFile().accept(new YamlScalarVisitor((trans, element) -> {
+                consumer.accept(trans, element.getTextOffset());
+                return null;
+            }));
+        }
+    }
+
+    //domain of "domain.locale.yml" file
+    public static String getDomain(VirtualFile file) {
+        final String name = file.getNameWithoutExtension();
+        final int localeStart = name.lastIndexOf('.');
+
+        return localeStart < 0 ? name : name.substring(0, localeStart);
+    }
+
+    //locale of "domain.locale.yml" file
+    public static String getLocale(VirtualFile file) {
+        final String name = file.getNameWithoutExtension();
+        final int localeStart = name.lastIndexOf('.');
+
+        return localeStart < 0 ? "" : name.substring(localeStart + 1);
+    }
+
     @NotNull
     @Override
     public KeyDescriptor<String> getKeyDescriptor() {
         return keyDescriptor;
     }
 
+    @NotNull
+    @Override
+    public DataExternalizer<Translation> getValueExternalizer() {
+        return translationExternalizer;
+    }
+
     @Override
     public int getVersion() {
-        return 1;
+        return 2;
     }
 
 }
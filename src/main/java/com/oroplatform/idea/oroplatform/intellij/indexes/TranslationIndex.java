@@ -1,13 +1,35 @@
 package com.oroplatform.idea.oroplatform.intellij.indexes;
 
 import com.intellij.openapi.project.Project;
-import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.util.Key;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
 import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiTreeUtil;
 import com.intellij.util.indexing.FileBasedIndex;
+import com.oroplatform.idea.oroplatform.settings.OroPlatformSettings;
+import com.oroplatform.idea.oroplatform.symfony.TranslatedMessage;
+import gnu.trove.THashMap;
+import gnu.trove.THashSet;
+import org.jetbrains.yaml.psi.YAMLScalar;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class TranslationIndex {
+    private static final Key<CachedValue<TranslationKeys>> KEYS_CACHE_KEY = new Key<>("com.oroplatform.idea.oroplatform.cache.translation_keys");
+    private static final Key<CachedValue<Map<String, TranslationCoverage>>> COVERAGE_CACHE_KEY = new Key<>("com.oroplatform.idea.oroplatform.cache.translation_coverage");
+    private static final Key<CachedValue<Map<String, Collection<TranslatedMessage>>>> MESSAGES_CACHE_KEY = new Key<>("com.oroplatform.idea.oroplatform.cache.translated_messages");
+
     private final Project project;
 
     private TranslationIndex(Project project) {
@@ -23,12 +45,130 @@ public class TranslationIndex {
         return FileBasedIndex.getInstance().getAllKeys(TranslationFileBasedIndex.KEY, project);
     }
 
-    public Collection<VirtualFile> findFilesContaining(String translation) {
-        return FileBasedIndex.getInstance().getContainingFiles(TranslationFileBasedIndex.KEY, translation, GlobalSearchScope.allScope(project));
+    //sorted snapshot of all translation keys, it is built again only after translation files change
+    public TranslationKeys getTranslationKeys() {
+        CachedValue<TranslationKeys> cachedValue = project.getUserData(KEYS_CACHE_KEY);
+
+        if(cachedValue == null) {
+            final OroPlatformSettings settings = OroPlatformSettings.getInstance(project);
+            cachedValue = CachedValuesManager.getManager(project).createCachedValue(() -> CachedValueProvider.Result.create(
+                TranslationKeys.of(findTranslations()), TranslationsModificationTracker.getInstance(project), settings
+            ), false);
+
+            project.putUserData(KEYS_CACHE_KEY, cachedValue);
+        }
+
+        return cachedValue.getValue();
+    }
+
+    //coverage of translation keys of given domain by locales of translation files
+    public TranslationCoverage getTranslationCoverage(String domain) {
+        return getTranslationCoverages().getOrDefault(domain, TranslationCoverage.of(Collections.emptyMap()));
+    }
+
+    //coverages by domains in alphabetical order, they are built again only after translation files change
+    public Map<String, TranslationCoverage> getTranslationCoverages() {
+        CachedValue<Map<String, TranslationCoverage>> cachedValue = project.getUserData(COVERAGE_CACHE_KEY);
+
+        if(cachedValue == null) {
+            final OroPlatformSettings settings = OroPlatformSettings.getInstance(project);
+            cachedValue = CachedValuesManager.getManager(project).createCachedValue(() -> CachedValueProvider.Result.create(
+                buildCoverages(), TranslationsModificationTracker.getInstance(project), settings
+            ), false);
+
+            project.putUserData(COVERAGE_CACHE_KEY, cachedValue);
+        }
+
+        return cachedValue.getValue();
+    }
+
+    private Map<String, TranslationCoverage> buildCoverages() {
+        final Map<String, TranslationCoverage> coverages = new TreeMap<>();
+
+        findKeysByDomainAndLocale().forEach((domain, keysByLocale) -> coverages.put(domain, TranslationCoverage.of(keysByLocale)));
+
+        return Collections.unmodifiableMap(coverages);
+    }
+
+    private Map<String, Map<String, Collection<String>>> findKeysByDomainAndLocale() {
+        final FileBasedIndex index = FileBasedIndex.getInstance();
+        final GlobalSearchScope scope = GlobalSearchScope.allScope(project);
+        final Map<String, Map<String, Collection<String>>> keysByDomain = new THashMap<>();
+
+        for (String key : index.getAllKeys(TranslationLocaleFileBasedIndex.KEY, project)) {
+            final Collection<String> keys = new THashSet<>();
+            index.getValues(TranslationLocaleFileBasedIndex.KEY, key, scope).forEach(keys::addAll);
+
+            if(!keys.isEmpty()) {
+                keysByDomain.computeIfAbsent(TranslationLocaleFileBasedIndex.getDomain(key), domain -> new THashMap<>())
+                    .put(TranslationLocaleFileBasedIndex.getLocale(key), keys);
+            }
+        }
+
+        return keysByDomain;
+    }
+
+    //scalars with given translation found by indexed offsets
+    public Collection<PsiElement> findTranslationElements(String translation) {
+        final Collection<PsiElement> elements = new LinkedList<>();
+        final PsiManager psiManager = PsiManager.getInstance(project);
+
+        FileBasedIndex.getInstance().processValues(TranslationFileBasedIndex.KEY, translation, null, (file, value) -> {
+            final PsiFile psiFile = psiManager.findFile(file);
+
+            if(psiFile != null) {
+                for (Integer offset : value.getOffsets()) {
+                    final YAMLScalar scalar = PsiTreeUtil.getParentOfType(psiFile.findElementAt(offset), YAMLScalar.class, false);
+                    if(scalar != null && scalar.getTextOffset() == offset) elements.add(scalar);
+                }
+            }
+
+            return true;
+        }, GlobalSearchScope.allScope(project));
+
+        return elements;
     }
 
     public Collection<String> findDomains() {
         return FileBasedIndex.getInstance().getAllKeys(TranslationDomainFileBasedIndex.KEY, project);
     }
 
+    //translated values from compiled catalogues, they are looked up again only after catalogues change
+    public Collection<TranslatedMessage> findTranslatedMessages(String translation) {
+        final Map<String, Collection<TranslatedMessage>> messagesByTranslation = getTranslatedMessagesCache();
+        Collection<TranslatedMessage> messages = messagesByTranslation.get(translation);
+
+        if(messages == null) {
+            messages = Collections.unmodifiableCollection(findCatalogueMessages(translation));
+            messagesByTranslation.put(translation, messages);
+        }
+
+        return messages;
+    }
+
+    private Map<String, Collection<TranslatedMessage>> getTranslatedMessagesCache() {
+        CachedValue<Map<String, Collection<TranslatedMessage>>> cachedValue = project.getUserData(MESSAGES_CACHE_KEY);
+
+        if(cachedValue == null) {
+            cachedValue = CachedValuesManager.getManager(project).createCachedValue(() -> CachedValueProvider.Result.create(
+                new ConcurrentHashMap<String, Collection<TranslatedMessage>>(), TranslationCataloguesModificationTracker.getInstance(project)
+            ), false);
+
+            project.putUserData(MESSAGES_CACHE_KEY, cachedValue);
+        }
+
+        return cachedValue.getValue();
+    }
+
+    //fallback catalogues are dumped in many files so duplicates are skipped
+    private Collection<TranslatedMessage> findCatalogueMessages(String translation) {
+        final Collection<TranslatedMessage> messages = new LinkedHashSet<>();
+
+        for (Collection<TranslatedMessage> values : FileBasedIndex.getInstance().getValues(TranslationCatalogueFileBasedIndex.KEY, translation, GlobalSearchScope.allScope(project))) {
+            messages.addAll(values);
+        }
+
+        return messages;
+    }
+
 }
@@ -0,0 +1,56 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes;
+
+import java.util.*;
+
+//Immutable sorted snapshot of translation keys, keys with given prefix are found by binary search
+public class TranslationKeys {
+    private final String[] keys;
+
+    private TranslationKeys(String[] keys) {
+        this.keys = keys;
+    }
+
+    public static TranslationKeys of(Collection<String> keys) {
+        final String[] sorted = keys.toArray(new String[keys.size()]);
+        Arrays.sort(sorted);
+        return new TranslationKeys(sorted);
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    //at most limit keys starting with prefix, in order
+    public List<String> withPrefix(String prefix, int limit) {
+        final int end = endOf(prefix);
+        final List<String> result = new ArrayList<>();
+
+        for (int i = startOf(prefix); i < end && result.size() < limit; i++) {
+            result.add(keys[i]);
+        }
+
+        return result;
+    }
+
+    private int startOf(String prefix) {
+        final int index = Arrays.binarySearch(keys, prefix);
+        return index < 0 ? -index - 1 : index;
+    }
+
+    //first key after all keys starting with prefix
+    private int endOf(String prefix) {
+        int low = startOf(prefix);
+        int high = keys.length;
+
+        while(low < high) {
+            final int middle = (low + high) >>> 1;
+            if(keys[middle].startsWith(prefix)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+}
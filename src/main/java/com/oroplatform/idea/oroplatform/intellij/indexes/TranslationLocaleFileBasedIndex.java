@@ -0,0 +1,100 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes;
+
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.util.indexing.*;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import com.oroplatform.idea.oroplatform.SimpleSuffixMatcher;
+import com.oroplatform.idea.oroplatform.settings.OroPlatformSettings;
+import gnu.trove.THashMap;
+import gnu.trove.THashSet;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.yaml.YAMLFileType;
+
+import java.util.Collection;
+import java.util.Map;
+
+//Translation keys of translation files of all locales, keys are "domain.locale" as in names of translation files. Every
+//file gives a single value, so keys of a domain in a locale are collected from a few values instead of looking up every
+//translation key.
+public class TranslationLocaleFileBasedIndex extends FileBasedIndexExtension<String, Collection<String>> {
+    public static final ID<String, Collection<String>> KEY = ID.create("com.oroplatform.idea.oroplatform.translation_locales");
+
+    private static final DataExternalizer<Collection<String>> keysExternalizer = new CollectionExternalizer<>(new EnumeratedStringExternalizer());
+    private final KeyDescriptor<String> keyDescriptor = new EnumeratorStringDescriptor();
+    private final SimpleSuffixMatcher suffixMatcher = new SimpleSuffixMatcher("Resources/translations/*.yml");
+
+    @NotNull
+    @Override
+    public FileBasedIndex.InputFilter getInputFilter() {
+        return new DefaultFileTypeSpecificInputFilter(YAMLFileType.YML) {
+            @Override
+            public boolean acceptInput(@NotNull VirtualFile file) {
+                return suffixMatcher.matches(file.getPath());
+            }
+        };
+    }
+
+    @Override
+    public boolean dependsOnFileContent() {
+        return true;
+    }
+
+    @NotNull
+    @Override
+    public ID<String, Collection<String>> getName() {
+        return KEY;
+    }
+
+    @NotNull
+    @Override
+    public DataIndexer<String, Collection<String>, FileContent> getIndexer() {
+        return inputData -> {
+            final Map<String, Collection<String>> index = new THashMap<>();
+
+            if(!OroPlatformSettings.getInstance(inputData.getProject()).isPluginEnabled()) {
+                return index;
+            }
+
+            final Collection<String> keys = new THashSet<>();
+            TranslationFileBasedIndex.visitTranslations(inputData, (trans, offset) -> keys.add(trans));
+
+            if(!keys.isEmpty()) {
+                index.put(key(TranslationFileBasedIndex.getDomain(inputData.getFile()), TranslationFileBasedIndex.getLocale(inputData.getFile())), keys);
+            }
+
+            return index;
+        };
+    }
+
+    static String key(String domain, String locale) {
+        return domain + "." + locale;
+    }
+
+    //locales have no dots, so the domain is everything before the last one
+    static String getDomain(String key) {
+        return key.substring(0, key.lastIndexOf('.'));
+    }
+
+    static String getLocale(String key) {
+        return key.substring(key.lastIndexOf('.') + 1);
+    }
+
+    @NotNull
+    @Override
+    public KeyDescriptor<String> getKeyDescriptor() {
+        return keyDescriptor;
+    }
+
+    @NotNull
+    @Override
+    public DataExternalizer<Collection<String>> getValueExternalizer() {
+        return keysExternalizer;
+    }
+
+    @Override
+    public int getVersion() {
+        return 1;
+    }
+}
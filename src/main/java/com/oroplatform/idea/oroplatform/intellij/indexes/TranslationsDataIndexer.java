@@ -1,5 +1,6 @@
 package com.oroplatform.idea.oroplatform.intellij.indexes;
 
+import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.psi.PsiElement;
 import com.intellij.util.indexing.DataIndexer;
 import com.intellij.util.indexing.FileContent;
@@ -9,19 +10,30 @@ import com.oroplatform.idea.oroplatform.settings.OroPlatformSettings;
 import gnu.trove.THashMap;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 
-abstract class TranslationsDataIndexer implements DataIndexer<String, Void, FileContent> {
+//Indexes domains of compiled translation catalogues, read by CatalogueReader or from psi when the reader gives up
+abstract class TranslationsDataIndexer<V> implements DataIndexer<String, V, FileContent> {
     @NotNull
     @Override
-    public Map<String, Void> map(@NotNull FileContent inputData) {
-        final Map<String, Void> index = new THashMap<>();
+    public Map<String, V> map(@NotNull FileContent inputData) {
+        final Map<String, V> index = new THashMap<>();
 
         if(!OroPlatformSettings.getInstance(inputData.getProject()).isPluginEnabled()) {
             return index;
         }
 
-        final PhpFile file = (PhpFile) inputData.getPsiFile();
+        if(CatalogueReader.read(inputData.getContentAsText(), (locale, domain, messages) -> indexDomain(index, locale, domain, messages))) {
+            return index;
+        }
+
+        return inputData.getPsiFile() instanceof PhpFile ? map((PhpFile) inputData.getPsiFile()) : new THashMap<>();
+    }
+
+    @NotNull
+    Map<String, V> map(@NotNull PhpFile file) {
+        final Map<String, V> index = new THashMap<>();
 
         for (PsiElement element : file.getChildren()) {
             if(!(element instanceof GroupStatement)) continue;
@@ -34,7 +46,7 @@ abstract class TranslationsDataIndexer implements DataIndexer<String, Void, File
         return index;
     }
 
-    private void indexGroupStatement(Map<String, Void> index, GroupStatement groupStatement) {
+    private void indexGroupStatement(Map<String, V> index, GroupStatement groupStatement) {
         for (PsiElement potentialStatement : groupStatement.getStatements()) {
             if(!(potentialStatement instanceof Statement)) continue;
 
@@ -44,7 +56,7 @@ abstract class TranslationsDataIndexer implements DataIndexer<String, Void, File
         }
     }
 
-    private void indexStatement(Map<String, Void> index, Statement statement) {
+    private void indexStatement(Map<String, V> index, Statement statement) {
         for (PsiElement potentialAssignment : statement.getChildren()) {
             if(!(potentialAssignment instanceof AssignmentExpression)) continue;
 
@@ -58,15 +70,45 @@ abstract class TranslationsDataIndexer implements DataIndexer<String, Void, File
         }
     }
 
-    private void indexNewExpression(Map<String, Void> index, NewExpression newExpression) {
-        for (PsiElement parameter : newExpression.getParameters()) {
+    private void indexNewExpression(Map<String, V> index, NewExpression newExpression) {
+        final PsiElement[] parameters = newExpression.getParameters();
+        final String locale = parameters.length > 0 ? stringValue(parameters[0]) : "";
+
+        for (PsiElement parameter : parameters) {
             if(!(parameter instanceof ArrayCreationExpression)) continue;
 
             final ArrayCreationExpression catalogue = (ArrayCreationExpression) parameter;
 
-            indexCatalogue(index, catalogue);
+            indexCatalogue(index, locale, catalogue);
+        }
+    }
+
+    private void indexCatalogue(Map<String, V> index, String locale, ArrayCreationExpression catalogue) {
+        for (ArrayHashElement domainHash : catalogue.getHashElements()) {
+            if(domainHash.getKey() == null) continue;
+
+            final Map<String, String> messages = new LinkedHashMap<>();
+
+            if(domainHash.getValue() instanceof ArrayCreationExpression) {
+                for (ArrayHashElement messageHash : ((ArrayCreationExpression) domainHash.getValue()).getHashElements()) {
+                    if(messageHash.getKey() == null || messageHash.getValue() == null) continue;
+
+                    messages.put(stringValue(messageHash.getKey()), stringValue(messageHash.getValue()));
+                }
+            }
+
+            indexDomain(index, locale, StringUtil.stripQuotesAroundValue(domainHash.getKey().getText()), messages);
         }
     }
 
-    abstract void indexCatalogue(Map<String, Void> index, ArrayCreationExpression catalogue);
+    private static String stringValue(PsiElement element) {
+        if(element instanceof StringLiteralExpression) {
+            final StringLiteralExpression literal = (StringLiteralExpression) element;
+            return literal.isSingleQuote() ? literal.getContents().replace("\\'", "'").replace("\\\\", "\\") : literal.getContents();
+        }
+
+        return StringUtil.stripQuotesAroundValue(element.getText());
+    }
+
+    abstract void indexDomain(Map<String, V> index, String locale, String domain, Map<String, String> messages);
 }
@@ -0,0 +1,19 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes;
+
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.project.Project;
+import org.jetbrains.annotations.NotNull;
+
+//Changes when translation keys could change: translation files edited, created, removed, moved or renamed, or indexes
+//rebuilt
+public class TranslationsModificationTracker extends FilesModificationTracker {
+    private static final String TRANSLATIONS_DIR = "/Resources/translations/";
+
+    public TranslationsModificationTracker(Project project) {
+        super(project, file -> file.getPath().contains(TRANSLATIONS_DIR));
+    }
+
+    public static TranslationsModificationTracker getInstance(@NotNull Project project) {
+        return ServiceManager.getService(project, TranslationsModificationTracker.class);
+    }
+}
@@ -0,0 +1,125 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes;
+
+//Scanner of php values exported by var_export, shared by readers of dumps generated by symfony. Whitespaces before
+//tokens are skipped, reading methods give null (or 0, false) when there is something else at the current position.
+class VarExportScanner {
+    private final String text;
+    private int position;
+
+    VarExportScanner(CharSequence text) {
+        this.text = text.toString();
+    }
+
+    int getPosition() {
+        return position;
+    }
+
+    //moves after the next occurrence of the token, false when there is no more
+    boolean seek(String token) {
+        final int start = text.indexOf(token, position);
+        if(start < 0) return false;
+
+        position = start + token.length();
+        return true;
+    }
+
+    //closing char of the array, 0 when there is no array
+    char readArrayStart() {
+        if(skip('[')) return ']';
+
+        final int start = position;
+        if(text.startsWith("array", position)) {
+            position += "array".length();
+            if(skip('(')) return ')';
+        }
+
+        position = start;
+        return 0;
+    }
+
+    //single quoted string, or double quoted one without escapes and variables
+    String readString() {
+        skipWhitespaces();
+
+        if(position >= text.length()) return null;
+
+        final char quote = text.charAt(position);
+        if(quote != '\'' && quote != '"') return null;
+
+        final StringBuilder value = new StringBuilder();
+
+        for (int i = position + 1; i < text.length(); i++) {
+            final char c = text.charAt(i);
+
+            if(c == quote) {
+                position = i + 1;
+                return value.toString();
+            }
+
+            if(quote == '"' && (c == '\\' || c == '$')) return null;
+
+            if(c == '\\' && i + 1 < text.length() && (text.charAt(i + 1) == '\\' || text.charAt(i + 1) == '\'')) {
+                value.append(text.charAt(++i));
+            } else {
+                value.append(c);
+            }
+        }
+
+        return null;
+    }
+
+    //integer, possibly negative
+    String readInteger() {
+        skipWhitespaces();
+
+        final int start = position;
+        int end = start < text.length() && text.charAt(start) == '-' ? start + 1 : start;
+        final int digitsStart = end;
+        while(end < text.length() && Character.isDigit(text.charAt(end))) end++;
+
+        if(end == digitsStart) return null;
+
+        position = end;
+        return text.substring(start, end);
+    }
+
+    //numbers, true, false, null
+    String readConstant() {
+        skipWhitespaces();
+
+        final int start = position;
+        while(position < text.length() && isConstantChar(text.charAt(position))) position++;
+
+        return position > start ? text.substring(start, position) : null;
+    }
+
+    private static boolean isConstantChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '-' || c == '.' || c == '_';
+    }
+
+    boolean skip(char c) {
+        skipWhitespaces();
+
+        if(position < text.length() && text.charAt(position) == c) {
+            position++;
+            return true;
+        }
+
+        return false;
+    }
+
+    boolean skip(String token) {
+        skipWhitespaces();
+
+        if(text.startsWith(token, position)) {
+            position += token.length();
+            return true;
+        }
+
+        return false;
+    }
+
+    void skipWhitespaces() {
+        while(position < text.length() && Character.isWhitespace(text.charAt(position))) position++;
+    }
+}
@@ -3,7 +3,10 @@ package com.oroplatform.idea.oroplatform.intellij.indexes;
 import com.intellij.util.indexing.*;
 import com.intellij.util.io.EnumeratorStringDescriptor;
 import com.intellij.util.io.KeyDescriptor;
-import com.oroplatform.idea.oroplatform.SimpleSuffixMatcher;
+import com.oroplatform.idea.oroplatform.MultiSuffixMatcher;
+import com.oroplatform.idea.oroplatform.intellij.codeAssist.yml.MultiPropertyPathQuery;
+import com.oroplatform.idea.oroplatform.intellij.indexes.yaml.YamlNode;
+import com.oroplatform.idea.oroplatform.intellij.indexes.yaml.YamlTokenReader;
 import com.oroplatform.idea.oroplatform.schema.PropertyPath;
 import com.oroplatform.idea.oroplatform.settings.OroPlatformSettings;
 import gnu.trove.THashMap;
@@ -14,13 +17,14 @@ import org.jetbrains.yaml.psi.YAMLFile;
 import java.util.*;
 
 import static com.oroplatform.idea.oroplatform.intellij.codeAssist.yml.YamlPsiElements.getMappingsFrom;
-import static com.oroplatform.idea.oroplatform.intellij.codeAssist.yml.YamlPsiElements.getPropertyFrom;
+import static com.oroplatform.idea.oroplatform.intellij.indexes.yaml.YamlNodes.getMappingNodes;
 
 class YamlPropertiesFileBasedIndex extends ScalarIndexExtension<String> {
 
     private final KeyDescriptor<String> keyDescriptor = new EnumeratorStringDescriptor();
     private final ID<String, Void> key;
-    private final Collection<IndexBlueprint> indexBlueprints = new LinkedList<>();
+    private final MultiSuffixMatcher<IndexBlueprint> indexBlueprints = new MultiSuffixMatcher<>();
+    private final MultiPropertyPathQuery<IndexBlueprint> propertyPaths = new MultiPropertyPathQuery<>();
 
     YamlPropertiesFileBasedIndex(ID<String, Void> key, String filepathSuffix, PropertyPath propertyPath) {
         this(key, new IndexBlueprint(filepathSuffix, propertyPath));
@@ -28,7 +32,10 @@ class YamlPropertiesFileBasedIndex extends ScalarIndexExtension<String> {
 
     YamlPropertiesFileBasedIndex(ID<String, Void> key, IndexBlueprint... indexBlueprints) {
         this.key = key;
-        this.indexBlueprints.addAll(Arrays.asList(indexBlueprints));
+        for (IndexBlueprint indexBlueprint : indexBlueprints) {
+            this.indexBlueprints.add(indexBlueprint.filepathSuffix, indexBlueprint);
+            this.propertyPaths.add(indexBlueprint.propertyPath, indexBlueprint);
+        }
     }
 
     @NotNull
@@ -47,21 +54,16 @@ class YamlPropertiesFileBasedIndex extends ScalarIndexExtension<String> {
                 return index;
             }
 
-            final YAMLFile file = (YAMLFile) inputData.getPsiFile();
-
-            for (IndexBlueprint indexBlueprint : indexBlueprints) {
-                if(indexBlueprint.filepathSuffixMatcher.matches(inputData.getFile().getPath())) {
-                    final Collection<String> values =
-                        getPropertyFrom(indexBlueprint.propertyPath, getMappingsFrom(file), Collections.emptySet());
-
-                    for (String value : values) {
-                        index.put(value, null);
-                    }
-                }
+            final Collection<IndexBlueprint> matchingBlueprints = indexBlueprints.match(inputData.getFile().getPath());
+            final List<YamlNode> roots = YamlTokenReader.read(inputData.getContentAsText());
 
+            if(roots != null) {
+                propertyPaths.getPropertiesFromNodes(getMappingNodes(roots), matchingBlueprints, (indexBlueprint, value) -> index.put(value, null));
+            } else {
+                final YAMLFile file = (YAMLFile) inputData.getPsiFile();
+                propertyPaths.getPropertiesFrom(getMappingsFrom(file), matchingBlueprints, (indexBlueprint, value) -> index.put(value, null));
             }
 
-
             return index;
         };
     }
@@ -75,15 +77,7 @@ class YamlPropertiesFileBasedIndex extends ScalarIndexExtension<String> {
     @NotNull
     @Override
     public FileBasedIndex.InputFilter getInputFilter() {
-        return file -> {
-            if(!file.getFileType().equals(YAMLFileType.YML)) return false;
-
-            for (IndexBlueprint indexBlueprint : indexBlueprints) {
-                if(indexBlueprint.filepathSuffixMatcher.matches(file.getPath())) return true;
-            }
-
-            return false;
-        };
+        return file -> file.getFileType().equals(YAMLFileType.YML) && indexBlueprints.matchesAny(file.getPath());
     }
 
     @Override
@@ -97,11 +91,11 @@ class YamlPropertiesFileBasedIndex extends ScalarIndexExtension<String> {
     }
 
     static class IndexBlueprint {
-        private final SimpleSuffixMatcher filepathSuffixMatcher;
+        private final String filepathSuffix;
         private final PropertyPath propertyPath;
 
         IndexBlueprint(String filepathSuffix, PropertyPath propertyPath) {
-            this.filepathSuffixMatcher = new SimpleSuffixMatcher(filepathSuffix);
+            this.filepathSuffix = filepathSuffix;
             this.propertyPath = propertyPath;
         }
     }
@@ -0,0 +1,109 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes.services;
+
+import com.oroplatform.idea.oroplatform.symfony.Service;
+import com.oroplatform.idea.oroplatform.symfony.Tag;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.ByteArrayInputStream;
+import java.util.*;
+
+//Reads services from the container dumped by Symfony (cache/dev/appDevDebugProjectContainer.xml). The dump already has
+//compiler passes, decorators and parameters applied, so only aliases have to be resolved here.
+public class ContainerDumpReader {
+    private static final XMLInputFactory factory = createFactory();
+    private static final int MAX_ALIAS_DEPTH = 10;
+
+    private ContainerDumpReader() {}
+
+    public static Collection<Service> read(byte[] content, boolean withAliases) {
+        final Map<String, ServiceBuilder> services = new HashMap<>();
+
+        XMLStreamReader reader = null;
+        try {
+            reader = factory.createXMLStreamReader(new ByteArrayInputStream(content));
+
+            final Deque<String> elements = new ArrayDeque<>();
+            ServiceBuilder service = null;
+
+            while(reader.hasNext()) {
+                final int event = reader.next();
+
+                if(event == XMLStreamConstants.START_ELEMENT) {
+                    final String name = reader.getLocalName();
+
+                    if(elements.size() == 2 && "service".equals(name) && "services".equals(elements.peek()) && reader.getAttributeValue(null, "id") != null) {
+                        service = new ServiceBuilder(reader.getAttributeValue(null, "id"), reader.getAttributeValue(null, "class"), reader.getAttributeValue(null, "alias"));
+                    } else if(elements.size() == 3 && "tag".equals(name) && service != null) {
+                        service.tags.add(new Tag(attributes(reader)));
+                    }
+
+                    elements.push(name);
+                } else if(event == XMLStreamConstants.END_ELEMENT) {
+                    elements.pop();
+
+                    if(elements.size() == 2 && service != null) {
+                        services.put(service.id, service);
+                        service = null;
+                    }
+                }
+            }
+        } catch (XMLStreamException e) {
+            //dump is being written, keep services read so far
+        } finally {
+            if(reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException ignored) {
+                }
+            }
+        }
+
+        final Collection<Service> result = new LinkedList<>();
+        for (ServiceBuilder service : services.values()) {
+            if(!withAliases && service.alias != null) continue;
+
+            resolveAlias(service, services).ifPresent(target -> result.add(new Service(service.id, target.tags, target.className)));
+        }
+        return result;
+    }
+
+    private static Optional<ServiceBuilder> resolveAlias(ServiceBuilder service, Map<String, ServiceBuilder> services) {
+        ServiceBuilder target = service;
+        for (int i = 0; i < MAX_ALIAS_DEPTH && target != null; i++) {
+            if(target.alias == null) return Optional.of(target);
+            target = services.get(target.alias);
+        }
+        return Optional.empty();
+    }
+
+    private static Map<String, String> attributes(XMLStreamReader reader) {
+        final Map<String, String> attributes = new HashMap<>();
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            attributes.put(reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+        }
+        return attributes;
+    }
+
+    private static XMLInputFactory createFactory() {
+        final XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    private static class ServiceBuilder {
+        private final String id;
+        private final String className;
+        private final String alias;
+        private final List<Tag> tags = new LinkedList<>();
+
+        private ServiceBuilder(String id, String className, String alias) {
+            this.id = id;
+            this.className = className;
+            this.alias = alias;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes.services;
+
+import com.intellij.psi.xml.XmlFile;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.FileContent;
+import gnu.trove.THashMap;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+
+public class ParameterXmlStreamIndexer implements DataIndexer<String, String, FileContent> {
+    private final DataIndexer<String, String, XmlFile> psiIndexer = new ParameterXmlIndexer();
+
+    @NotNull
+    @Override
+    public Map<String, String> map(@NotNull FileContent inputData) {
+        final Map<String, String> index = new THashMap<>();
+
+        if(XmlContainerReader.readParameters(inputData.getContent(), index)) {
+            return index;
+        }
+
+        return inputData.getPsiFile() instanceof XmlFile ? psiIndexer.map((XmlFile) inputData.getPsiFile()) : new THashMap<>();
+    }
+}
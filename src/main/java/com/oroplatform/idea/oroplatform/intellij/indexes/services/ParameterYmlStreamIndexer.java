@@ -0,0 +1,25 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes.services;
+
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.FileContent;
+import gnu.trove.THashMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.yaml.psi.YAMLFile;
+
+import java.util.Map;
+
+public class ParameterYmlStreamIndexer implements DataIndexer<String, String, FileContent> {
+    private final DataIndexer<String, String, YAMLFile> psiIndexer = new ParameterYmlIndexer();
+
+    @NotNull
+    @Override
+    public Map<String, String> map(@NotNull FileContent inputData) {
+        final Map<String, String> index = new THashMap<>();
+
+        if(YamlContainerReader.readParameters(inputData.getContentAsText(), index)) {
+            return index;
+        }
+
+        return inputData.getPsiFile() instanceof YAMLFile ? psiIndexer.map((YAMLFile) inputData.getPsiFile()) : new THashMap<>();
+    }
+}
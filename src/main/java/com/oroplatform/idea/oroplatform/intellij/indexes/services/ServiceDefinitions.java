@@ -0,0 +1,55 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes.services;
+
+import com.intellij.ide.highlighter.XmlFileType;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.oroplatform.idea.oroplatform.symfony.Service;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.yaml.YAMLFileType;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+//Ids of services and names of parameters defined in a services file
+public class ServiceDefinitions {
+    public static final ServiceDefinitions EMPTY = new ServiceDefinitions(Collections.emptyMap(), Collections.emptyMap());
+
+    private final Set<String> serviceIds;
+    private final Set<String> parameters;
+
+    private ServiceDefinitions(Map<Service, Void> services, Map<String, String> parameters) {
+        this.serviceIds = Collections.unmodifiableSet(services.keySet().stream().map(Service::getId).collect(Collectors.toSet()));
+        this.parameters = Collections.unmodifiableSet(parameters.keySet());
+    }
+
+    //null when the stream readers give up on the content
+    @Nullable
+    public static ServiceDefinitions read(@NotNull VirtualFile file, @NotNull CharSequence text) {
+        final Map<Service, Void> services = new HashMap<>();
+        final Map<String, String> parameters = new HashMap<>();
+
+        if(file.getFileType() == XmlFileType.INSTANCE) {
+            final byte[] content = text.toString().getBytes(file.getCharset());
+            if(!XmlContainerReader.readServices(content, services) || !XmlContainerReader.readParameters(content, parameters)) {
+                return null;
+            }
+        } else if(file.getFileType() == YAMLFileType.YML) {
+            if(!YamlContainerReader.readServices(text, services) || !YamlContainerReader.readParameters(text, parameters)) {
+                return null;
+            }
+        }
+
+        return new ServiceDefinitions(services, parameters);
+    }
+
+    public Set<String> getServiceIds() {
+        return serviceIds;
+    }
+
+    public Set<String> getParameters() {
+        return parameters;
+    }
+}
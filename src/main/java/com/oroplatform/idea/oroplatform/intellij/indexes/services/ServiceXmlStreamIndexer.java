@@ -0,0 +1,26 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes.services;
+
+import com.intellij.psi.xml.XmlFile;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.FileContent;
+import com.oroplatform.idea.oroplatform.symfony.Service;
+import gnu.trove.THashMap;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+
+public class ServiceXmlStreamIndexer implements DataIndexer<Service, Void, FileContent> {
+    private final DataIndexer<Service, Void, XmlFile> psiIndexer = new ServiceXmlIndexer();
+
+    @NotNull
+    @Override
+    public Map<Service, Void> map(@NotNull FileContent inputData) {
+        final Map<Service, Void> index = new THashMap<>();
+
+        if(XmlContainerReader.readServices(inputData.getContent(), index)) {
+            return index;
+        }
+
+        return inputData.getPsiFile() instanceof XmlFile ? psiIndexer.map((XmlFile) inputData.getPsiFile()) : new THashMap<>();
+    }
+}
@@ -0,0 +1,26 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes.services;
+
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.FileContent;
+import com.oroplatform.idea.oroplatform.symfony.Service;
+import gnu.trove.THashMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.yaml.psi.YAMLFile;
+
+import java.util.Map;
+
+public class ServiceYamlStreamIndexer implements DataIndexer<Service, Void, FileContent> {
+    private final DataIndexer<Service, Void, YAMLFile> psiIndexer = new ServiceYamlIndexer();
+
+    @NotNull
+    @Override
+    public Map<Service, Void> map(@NotNull FileContent inputData) {
+        final Map<Service, Void> index = new THashMap<>();
+
+        if(YamlContainerReader.readServices(inputData.getContentAsText(), index)) {
+            return index;
+        }
+
+        return inputData.getPsiFile() instanceof YAMLFile ? psiIndexer.map((YAMLFile) inputData.getPsiFile()) : new THashMap<>();
+    }
+}
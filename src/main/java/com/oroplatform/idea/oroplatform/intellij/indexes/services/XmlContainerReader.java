@@ -0,0 +1,188 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes.services;
+
+import com.oroplatform.idea.oroplatform.symfony.Service;
+import com.oroplatform.idea.oroplatform.symfony.Tag;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+//Pull parser counterpart of ServiceXmlIndexer and ParameterXmlIndexer. It gives up (returns false) on content which
+//PSI exposes differently than the parser: entities, CDATA, DTD, markup inside parameter values and malformed xml.
+class XmlContainerReader {
+    private static final XMLInputFactory factory = createFactory();
+    private static final byte[] CDATA = "<![CDATA[".getBytes(StandardCharsets.US_ASCII);
+
+    private enum Element { CONTAINER, SERVICES, PARAMETERS, SERVICE, PARAMETER, OTHER }
+
+    private final boolean readServices;
+    private final boolean readParameters;
+
+    private XmlContainerReader(boolean readServices, boolean readParameters) {
+        this.readServices = readServices;
+        this.readParameters = readParameters;
+    }
+
+    static boolean readServices(byte[] content, Map<Service, Void> services) {
+        return new XmlContainerReader(true, false).read(content, services, new HashMap<>());
+    }
+
+    static boolean readParameters(byte[] content, Map<String, String> parameters) {
+        return new XmlContainerReader(false, true).read(content, new HashMap<>(), parameters);
+    }
+
+    private boolean read(byte[] content, Map<Service, Void> services, Map<String, String> parameters) {
+        if(contains(content, (byte) '&') || contains(content, CDATA)) return false;
+
+        XMLStreamReader reader = null;
+        try {
+            reader = factory.createXMLStreamReader(new ByteArrayInputStream(content));
+
+            final Deque<Element> elements = new ArrayDeque<>();
+            final Deque<ServiceBuilder> openServices = new ArrayDeque<>();
+            int containers = 0;
+            int servicesElements = 0;
+            int parametersElements = 0;
+            String parameterKey = null;
+            StringBuilder parameterValue = null;
+
+            while(reader.hasNext()) {
+                final int event = reader.next();
+
+                if(parameterValue != null && event != XMLStreamConstants.CHARACTERS && event != XMLStreamConstants.SPACE && event != XMLStreamConstants.END_ELEMENT) {
+                    return false;
+                }
+
+                switch (event) {
+                    case XMLStreamConstants.DTD:
+                    case XMLStreamConstants.ENTITY_REFERENCE:
+                    case XMLStreamConstants.CDATA:
+                        return false;
+                    case XMLStreamConstants.START_ELEMENT:
+                        final String name = name(reader.getPrefix(), reader.getLocalName());
+
+                        if("container".equals(name)) {
+                            containers++;
+                            elements.push(Element.CONTAINER);
+                        } else if(containers > 0 && "services".equals(name)) {
+                            servicesElements++;
+                            elements.push(Element.SERVICES);
+                        } else if(containers > 0 && "parameters".equals(name)) {
+                            parametersElements++;
+                            elements.push(Element.PARAMETERS);
+                        } else if(readServices && servicesElements > 0 && "service".equals(name)) {
+                            openServices.push(new ServiceBuilder(reader.getAttributeValue(null, "id"), reader.getAttributeValue(null, "class")));
+                            elements.push(Element.SERVICE);
+                        } else if(readParameters && parametersElements > 0 && "parameter".equals(name) && reader.getAttributeValue(null, "key") != null) {
+                            parameterKey = reader.getAttributeValue(null, "key");
+                            parameterValue = new StringBuilder();
+                            elements.push(Element.PARAMETER);
+                        } else {
+                            if(!openServices.isEmpty() && "tag".equals(name)) {
+                                final Tag tag = new Tag(attributes(reader));
+                                openServices.forEach(service -> service.tags.add(tag));
+                            }
+                            elements.push(Element.OTHER);
+                        }
+                        break;
+                    case XMLStreamConstants.END_ELEMENT:
+                        switch (elements.pop()) {
+                            case CONTAINER:
+                                containers--;
+                                break;
+                            case SERVICES:
+                                servicesElements--;
+                                break;
+                            case PARAMETERS:
+                                parametersElements--;
+                                break;
+                            case SERVICE:
+                                services.put(openServices.pop().build(), null);
+                                break;
+                            case PARAMETER:
+                                parameters.put(parameterKey, parameterValue.toString());
+                                parameterKey = null;
+                                parameterValue = null;
+                                break;
+                        }
+                        break;
+                    case XMLStreamConstants.CHARACTERS:
+                    case XMLStreamConstants.SPACE:
+                        if(parameterValue != null) {
+                            parameterValue.append(reader.getText());
+                        }
+                        break;
+                }
+            }
+
+            return true;
+        } catch (XMLStreamException | RuntimeException e) {
+            return false;
+        } finally {
+            if(reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException ignored) {
+                }
+            }
+        }
+    }
+
+    private static String name(String prefix, String localName) {
+        return prefix == null || prefix.isEmpty() ? localName : prefix + ":" + localName;
+    }
+
+    private static Map<String, String> attributes(XMLStreamReader reader) {
+        final Map<String, String> attributes = new HashMap<>();
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            attributes.put(name(reader.getAttributePrefix(i), reader.getAttributeLocalName(i)), reader.getAttributeValue(i));
+        }
+        return attributes;
+    }
+
+    private static boolean contains(byte[] content, byte b) {
+        for (byte c : content) {
+            if(c == b) return true;
+        }
+        return false;
+    }
+
+    private static boolean contains(byte[] content, byte[] pattern) {
+        outer:
+        for (int i = 0; i <= content.length - pattern.length; i++) {
+            for (int j = 0; j < pattern.length; j++) {
+                if(content[i + j] != pattern[j]) continue outer;
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static XMLInputFactory createFactory() {
+        final XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, false);
+        return factory;
+    }
+
+    private static class ServiceBuilder {
+        private final String id;
+        private final String className;
+        private final List<Tag> tags = new LinkedList<>();
+
+        private ServiceBuilder(String id, String className) {
+            this.id = id;
+            this.className = className;
+        }
+
+        private Service build() {
+            return new Service(id, tags, className);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes.services;
+
+import com.oroplatform.idea.oroplatform.intellij.indexes.yaml.YamlNode;
+import com.oroplatform.idea.oroplatform.intellij.indexes.yaml.YamlNodes;
+import com.oroplatform.idea.oroplatform.intellij.indexes.yaml.YamlTokenReader;
+import com.oroplatform.idea.oroplatform.symfony.Service;
+import com.oroplatform.idea.oroplatform.symfony.Tag;
+
+import java.util.*;
+
+//Token reader counterpart of ServiceYamlIndexer and ParameterYmlIndexer. It gives up (returns false) on files which
+//YamlTokenReader can not read and on mappings or sequences where psi value text is expected.
+class YamlContainerReader {
+
+    static boolean readServices(CharSequence text, Map<Service, Void> services) {
+        final List<YamlNode> roots = YamlTokenReader.read(text);
+        if(roots == null) return false;
+
+        final Map<Service, Void> read = new HashMap<>();
+
+        for (YamlNode mapping : YamlNodes.getMappingNodes(getRootEntry(roots, "services"))) {
+            for (YamlNode.Entry serviceEntry : mapping.getEntries()) {
+                final Service service = readService(serviceEntry);
+                if(service == null) return false;
+                read.put(service, null);
+            }
+        }
+
+        services.putAll(read);
+
+        return true;
+    }
+
+    static boolean readParameters(CharSequence text, Map<String, String> parameters) {
+        final List<YamlNode> roots = YamlTokenReader.read(text);
+        if(roots == null) return false;
+
+        final Map<String, String> read = new HashMap<>();
+
+        for (YamlNode mapping : YamlNodes.getMappingNodes(getRootEntry(roots, "parameters"))) {
+            for (YamlNode.Entry parameterEntry : mapping.getEntries()) {
+                final String value = YamlNodes.getValueText(parameterEntry);
+                if(value == null) return false;
+                read.put(parameterEntry.getKey(), value);
+            }
+        }
+
+        parameters.putAll(read);
+
+        return true;
+    }
+
+    //as YAMLUtil.getQualifiedKeyInFile - key of the first document
+    private static YamlNode.Entry getRootEntry(List<YamlNode> roots, String key) {
+        if(roots.isEmpty() || roots.get(0).getKind() != YamlNode.Kind.MAPPING) return null;
+
+        return roots.get(0).getEntry(key);
+    }
+
+    private static Service readService(YamlNode.Entry serviceEntry) {
+        final List<YamlNode> serviceMappings = YamlNodes.getMappingNodes(serviceEntry);
+        final List<Tag> tags = new ArrayList<>();
+        String className = null;
+
+        for (YamlNode serviceMapping : serviceMappings) {
+            final YamlNode.Entry tagsEntry = serviceMapping.getEntry("tags");
+            if(tagsEntry == null) continue;
+
+            for (YamlNode tag : YamlNodes.getSequenceItems(tagsEntry.getValue())) {
+                if(tag.getKind() != YamlNode.Kind.MAPPING) continue;
+
+                final Map<String, String> attributes = new HashMap<>();
+                for (YamlNode.Entry attribute : tag.getEntries()) {
+                    final String value = YamlNodes.getValueText(attribute);
+                    if(value == null) return null;
+                    attributes.put(attribute.getKey(), value);
+                }
+                tags.add(new Tag(attributes));
+            }
+        }
+
+        for (YamlNode serviceMapping : serviceMappings) {
+            final YamlNode.Entry classEntry = serviceMapping.getEntry("class");
+            if(classEntry != null) {
+                className = YamlNodes.getValueText(classEntry);
+                if(className == null) return null;
+                break;
+            }
+        }
+
+        return new Service(serviceEntry.getKey(), tags, className);
+    }
+}
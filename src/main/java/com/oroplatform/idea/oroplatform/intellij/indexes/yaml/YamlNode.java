@@ -0,0 +1,126 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes.yaml;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+//Lightweight counterpart of yaml psi built by YamlTokenReader: mappings, sequences and scalars with offsets
+public class YamlNode {
+    public enum Kind { MAPPING, SEQUENCE, SCALAR }
+
+    private final Kind kind;
+    private final int offset;
+    private final String text;
+    private final List<Entry> entries;
+    private final List<YamlNode> items;
+    private YamlNode parent;
+    private String key;
+
+    private YamlNode(Kind kind, int offset, String text) {
+        this.kind = kind;
+        this.offset = offset;
+        this.text = text;
+        this.entries = kind == Kind.MAPPING ? new ArrayList<>() : Collections.emptyList();
+        this.items = kind == Kind.SEQUENCE ? new ArrayList<>() : Collections.emptyList();
+    }
+
+    static YamlNode mapping(int offset) {
+        return new YamlNode(Kind.MAPPING, offset, null);
+    }
+
+    static YamlNode sequence(int offset) {
+        return new YamlNode(Kind.SEQUENCE, offset, null);
+    }
+
+    static YamlNode scalar(int offset, String text) {
+        return new YamlNode(Kind.SCALAR, offset, text);
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    //text value of scalar
+    public String getText() {
+        return text;
+    }
+
+    //mapping or sequence containing this node
+    @Nullable
+    public YamlNode getParent() {
+        return parent;
+    }
+
+    //key of mapping entry which has this node as value, null for sequence items and document roots
+    @Nullable
+    public String getKey() {
+        return key;
+    }
+
+    public List<Entry> getEntries() {
+        return Collections.unmodifiableList(entries);
+    }
+
+    public List<YamlNode> getItems() {
+        return Collections.unmodifiableList(items);
+    }
+
+    //value of the first entry with given key, as YAMLMapping.getKeyValueByKey
+    @Nullable
+    public Entry getEntry(String key) {
+        for (Entry entry : entries) {
+            if(entry.key.equals(key)) return entry;
+        }
+
+        return null;
+    }
+
+    Entry addEntry(String key, int keyOffset) {
+        final Entry entry = new Entry(this, key, keyOffset);
+        entries.add(entry);
+        return entry;
+    }
+
+    void addItem(YamlNode item) {
+        item.parent = this;
+        items.add(item);
+    }
+
+    public static class Entry {
+        private final YamlNode mapping;
+        private final String key;
+        private final int keyOffset;
+        private YamlNode value;
+
+        private Entry(YamlNode mapping, String key, int keyOffset) {
+            this.mapping = mapping;
+            this.key = key;
+            this.keyOffset = keyOffset;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public int getKeyOffset() {
+            return keyOffset;
+        }
+
+        @Nullable
+        public YamlNode getValue() {
+            return value;
+        }
+
+        void setValue(YamlNode value) {
+            value.parent = mapping;
+            value.key = key;
+            this.value = value;
+        }
+    }
+}
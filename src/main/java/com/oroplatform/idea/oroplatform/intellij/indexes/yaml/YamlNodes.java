@@ -0,0 +1,68 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes.yaml;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+//YamlPsiElements counterpart for nodes read by YamlTokenReader
+public class YamlNodes {
+
+    public static List<YamlNode> getMappingNodes(List<YamlNode> nodes) {
+        final List<YamlNode> mappings = new ArrayList<>();
+
+        for (YamlNode node : nodes) {
+            if(node != null && node.getKind() == YamlNode.Kind.MAPPING) mappings.add(node);
+        }
+
+        return mappings;
+    }
+
+    public static List<YamlNode> getMappingNodes(@Nullable YamlNode.Entry entry) {
+        return entry == null ? Collections.emptyList() : getMappingNodes(Collections.singletonList(entry.getValue()));
+    }
+
+    public static List<YamlNode> getSequenceItems(@Nullable YamlNode node) {
+        return node != null && node.getKind() == YamlNode.Kind.SEQUENCE ? node.getItems() : Collections.emptyList();
+    }
+
+    //as YAMLKeyValue.getValueText, but null for mappings and sequences - psi gives their text in a way which is not
+    //worth mirroring, so caller should give up
+    @Nullable
+    public static String getValueText(YamlNode.Entry entry) {
+        final YamlNode value = entry.getValue();
+
+        if(value == null) return "";
+
+        return value.getKind() == YamlNode.Kind.SCALAR ? value.getText() : null;
+    }
+
+    //as YamlScalarVisitor: every scalar with keys of its ancestors joined by "."
+    public static void visitScalars(List<YamlNode> roots, BiConsumer<String, YamlNode> consumer) {
+        for (YamlNode root : roots) {
+            visitScalars(root, "", consumer);
+        }
+    }
+
+    private static void visitScalars(YamlNode node, String path, BiConsumer<String, YamlNode> consumer) {
+        switch (node.getKind()) {
+            case SCALAR:
+                consumer.accept(path, node);
+                break;
+            case SEQUENCE:
+                for (YamlNode item : node.getItems()) {
+                    visitScalars(item, path, consumer);
+                }
+                break;
+            case MAPPING:
+                for (YamlNode.Entry entry : node.getEntries()) {
+                    if(entry.getValue() != null) {
+                        visitScalars(entry.getValue(), path.isEmpty() ? entry.getKey() : path + "." + entry.getKey(), consumer);
+                    }
+                }
+                break;
+        }
+    }
+}
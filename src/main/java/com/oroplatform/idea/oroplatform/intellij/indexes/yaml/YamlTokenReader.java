@@ -0,0 +1,325 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes.yaml;
+
+import com.intellij.lexer.Lexer;
+import com.intellij.psi.tree.IElementType;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.yaml.lexer.YAMLFlexLexer;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+
+import static org.jetbrains.yaml.YAMLTokenTypes.*;
+
+//Reads yaml file to YamlNode tree straight from lexer tokens, without building psi. It gives up (returns null) on
+//constructs which are rare in indexed files and which psi exposes in non trivial way: anchors, aliases, tags, complex
+//keys, block and multiline scalars, escape sequences, tabs in indentation and multiple documents - callers should fall
+//back to psi then.
+public class YamlTokenReader {
+    private final CharSequence text;
+    private final Deque<Block> blocks = new ArrayDeque<>();
+    private final Deque<Flow> flows = new ArrayDeque<>();
+    private YamlNode root;
+    //place for a value of the last key or sequence item in block context
+    private Slot slot;
+    private IElementType previous;
+    private int lineStart = 0;
+    private boolean documentMarker = false;
+
+    private YamlTokenReader(CharSequence text) {
+        this.text = text;
+    }
+
+    //roots of documents in the file (none for empty file), or null if the file can not be read without psi
+    @Nullable
+    public static List<YamlNode> read(CharSequence text) {
+        return new YamlTokenReader(text).read();
+    }
+
+    @Nullable
+    private List<YamlNode> read() {
+        final Lexer lexer = new YAMLFlexLexer();
+        lexer.start(text);
+
+        for (IElementType type = lexer.getTokenType(); type != null; type = lexer.getTokenType()) {
+            if(!process(type, lexer.getTokenStart(), lexer.getTokenEnd())) return null;
+            lexer.advance();
+        }
+
+        if(!flows.isEmpty()) return null;
+
+        return root == null ? Collections.emptyList() : Collections.singletonList(root);
+    }
+
+    private boolean process(IElementType type, int start, int end) {
+        if(type == EOL) {
+            lineStart = end;
+            if(flows.isEmpty()) previous = null;
+            return true;
+        }
+
+        if(type == WHITESPACE || type == COMMENT) return true;
+
+        if(type == INDENT) {
+            return !contains(start, end, '\t');
+        }
+
+        if(type == DOCUMENT_MARKER) {
+            if(documentMarker || root != null || previous != null) return false;
+            documentMarker = true;
+            return true;
+        }
+
+        final boolean processed = flows.isEmpty() ? processBlock(type, start, end) : processFlow(type, start, end);
+        previous = type;
+
+        return processed;
+    }
+
+    private boolean processBlock(IElementType type, int start, int end) {
+        final int column = start - lineStart;
+
+        if(type == SCALAR_KEY) {
+            final String key = readKey(start, end);
+            if(key == null || previous != null && previous != SEQUENCE_MARKER) return false;
+
+            final YamlNode mapping = getBlockContainer(YamlNode.Kind.MAPPING, column, start);
+            if(mapping == null) return false;
+
+            slot = new Slot(mapping, mapping.addEntry(key, start), column);
+            return true;
+        }
+
+        if(type == COLON) {
+            return previous == SCALAR_KEY;
+        }
+
+        if(type == SEQUENCE_MARKER) {
+            if(previous != null && previous != SEQUENCE_MARKER) return false;
+
+            final YamlNode sequence = getBlockContainer(YamlNode.Kind.SEQUENCE, column, start);
+            if(sequence == null) return false;
+
+            slot = new Slot(sequence, null, column);
+            return true;
+        }
+
+        final YamlNode value = readValue(type, start, end);
+        if(value == null) return false;
+
+        if(previous == null && slot != null && column <= slot.indent) return false;
+        if(previous != null && previous != COLON && previous != SEQUENCE_MARKER) return false;
+
+        if(slot != null) {
+            slot.fill(value);
+            slot = null;
+        } else if(root == null && blocks.isEmpty()) {
+            root = value;
+        } else {
+            return false;
+        }
+
+        if(value.getKind() != YamlNode.Kind.SCALAR) {
+            flows.push(new Flow(value));
+        }
+
+        return true;
+    }
+
+    //mapping or sequence which gets new entry or item starting at given column
+    @Nullable
+    private YamlNode getBlockContainer(YamlNode.Kind kind, int column, int offset) {
+        while(!blocks.isEmpty() && blocks.peek().indent > column) {
+            blocks.pop();
+        }
+
+        //compact sequence as value of mapping entry ends with the key on the same column
+        if(kind == YamlNode.Kind.MAPPING && !blocks.isEmpty() && blocks.peek().indent == column &&
+            blocks.peek().node.getKind() == YamlNode.Kind.SEQUENCE && blocks.size() > 1) {
+            final Block sequence = blocks.pop();
+            if(blocks.peek().indent != column || sequence.node.getParent() != blocks.peek().node) return null;
+            slot = null;
+        }
+
+        final Block top = blocks.peek();
+
+        if(top != null && top.indent == column) {
+            if(top.node.getKind() == kind) {
+                slot = null;
+                return top.node;
+            }
+
+            if(kind == YamlNode.Kind.SEQUENCE && slot != null && slot.container == top.node && slot.entry != null) {
+                return openBlock(kind, column, offset);
+            }
+
+            return null;
+        }
+
+        if(slot != null && top != null && slot.container == top.node || top == null && root == null) {
+            return openBlock(kind, column, offset);
+        }
+
+        return null;
+    }
+
+    private YamlNode openBlock(YamlNode.Kind kind, int column, int offset) {
+        final YamlNode node = kind == YamlNode.Kind.MAPPING ? YamlNode.mapping(offset) : YamlNode.sequence(offset);
+
+        if(slot != null) {
+            slot.fill(node);
+            slot = null;
+        } else {
+            root = node;
+        }
+
+        blocks.push(new Block(node, column));
+
+        return node;
+    }
+
+    private boolean processFlow(IElementType type, int start, int end) {
+        final Flow flow = flows.peek();
+        final boolean isMapping = flow.node.getKind() == YamlNode.Kind.MAPPING;
+
+        if(type == SCALAR_KEY) {
+            final String key = readKey(start, end);
+            if(key == null || !isMapping || flow.entry != null || previous != LBRACE && previous != COMMA) return false;
+
+            flow.entry = flow.node.addEntry(key, start);
+            return true;
+        }
+
+        if(type == COLON) {
+            return previous == SCALAR_KEY;
+        }
+
+        if(type == COMMA) {
+            flow.entry = null;
+            return previous != LBRACE && previous != LBRACKET && previous != COMMA;
+        }
+
+        if(type == RBRACE || type == RBRACKET) {
+            if(isMapping != (type == RBRACE) || previous == COMMA) return false;
+            flows.pop();
+            return true;
+        }
+
+        final YamlNode value = readValue(type, start, end);
+        if(value == null) return false;
+
+        if(isMapping) {
+            if(flow.entry == null || previous != COLON) return false;
+            flow.entry.setValue(value);
+        } else {
+            if(previous != LBRACKET && previous != COMMA) return false;
+            flow.node.addItem(value);
+        }
+
+        if(value.getKind() != YamlNode.Kind.SCALAR) {
+            flows.push(new Flow(value));
+        }
+
+        return true;
+    }
+
+    @Nullable
+    private YamlNode readValue(IElementType type, int start, int end) {
+        if(type == LBRACE) return YamlNode.mapping(start);
+        if(type == LBRACKET) return YamlNode.sequence(start);
+
+        final String value = readScalar(type, start, end);
+
+        return value == null ? null : YamlNode.scalar(start, value);
+    }
+
+    @Nullable
+    private String readScalar(IElementType type, int start, int end) {
+        final String value = text.subSequence(start, end).toString();
+
+        if(value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) return null;
+
+        if(type == TEXT) {
+            final String trimmed = value.trim();
+            return trimmed.isEmpty() || "&*!|>".indexOf(trimmed.charAt(0)) >= 0 ? null : trimmed;
+        }
+
+        if(type == SCALAR_STRING && isQuoted(value, '\'')) {
+            return value.substring(1, value.length() - 1).replace("''", "'");
+        }
+
+        if(type == SCALAR_DSTRING && isQuoted(value, '"') && value.indexOf('\\') < 0) {
+            return value.substring(1, value.length() - 1);
+        }
+
+        return null;
+    }
+
+    @Nullable
+    private String readKey(int start, int end) {
+        final String key = text.subSequence(start, end).toString();
+
+        if(key.isEmpty() || key.trim().length() != key.length()) return null;
+
+        //quoted key is read only when unquoting it is the same as unescaping
+        for (char quote : new char[] {'\'', '"'}) {
+            if(isQuoted(key, quote)) {
+                final String unquoted = key.substring(1, key.length() - 1);
+                return unquoted.indexOf(quote) >= 0 || unquoted.indexOf('\\') >= 0 ? null : unquoted;
+            }
+        }
+
+        return "'\"&*!?".indexOf(key.charAt(0)) >= 0 ? null : key;
+    }
+
+    private static boolean isQuoted(String value, char quote) {
+        return value.length() >= 2 && value.charAt(0) == quote && value.charAt(value.length() - 1) == quote;
+    }
+
+    private boolean contains(int start, int end, char c) {
+        for (int i = start; i < end; i++) {
+            if(text.charAt(i) == c) return true;
+        }
+        return false;
+    }
+
+    private static class Block {
+        private final YamlNode node;
+        private final int indent;
+
+        private Block(YamlNode node, int indent) {
+            this.node = node;
+            this.indent = indent;
+        }
+    }
+
+    private static class Flow {
+        private final YamlNode node;
+        private YamlNode.Entry entry;
+
+        private Flow(YamlNode node) {
+            this.node = node;
+        }
+    }
+
+    private static class Slot {
+        private final YamlNode container;
+        private final YamlNode.Entry entry;
+        private final int indent;
+
+        private Slot(YamlNode container, YamlNode.Entry entry, int indent) {
+            this.container = container;
+            this.entry = entry;
+            this.indent = indent;
+        }
+
+        private void fill(YamlNode value) {
+            if(entry != null) {
+                entry.setValue(value);
+            } else {
+                container.addItem(value);
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.oroplatform.idea.oroplatform.schema;
+
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.oroplatform.idea.oroplatform.intellij.indexes.ImportsModificationTracker;
+import com.oroplatform.idea.oroplatform.settings.OroPlatformSettings;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+//Matching results are remembered per file until imports, files layout or settings change
+class CachedFileMatcher implements FileMatcher {
+    private static final Key<CachedValue<Map<Object, Object>>> CACHE_KEY =
+        new Key<>("com.oroplatform.idea.oroplatform.cache.file_matchers");
+
+    private final FileMatcher matcher;
+
+    CachedFileMatcher(FileMatcher matcher) {
+        this.matcher = matcher;
+    }
+
+    @Override
+    public boolean matches(PsiFile file) {
+        return getCachedValue(file, matcher, matcher::matches);
+    }
+
+    //value computed by key for the file is remembered until imports, files layout or settings change
+    @SuppressWarnings("unchecked")
+    static <T> T getCachedValue(PsiFile file, Object key, Function<PsiFile, T> compute) {
+        final VirtualFile virtualFile = file.getOriginalFile().getVirtualFile();
+
+        if(virtualFile == null || ProgressManager.getInstance().hasModalProgressIndicator()) {
+            //results of ImportedFileMatcher are not reliable during refactoring, do not remember them
+            return compute.apply(file);
+        }
+
+        final Project project = file.getProject();
+        final Map<Object, Object> values = CachedValuesManager.getManager(project).getCachedValue(virtualFile, CACHE_KEY, () ->
+            CachedValueProvider.Result.create(new ConcurrentHashMap<>(), ImportsModificationTracker.getInstance(project), OroPlatformSettings.getInstance(project)),
+            false
+        );
+
+        final Object value = values.get(key);
+
+        if(value != null) return (T) value;
+
+        final T computed = compute.apply(file);
+        values.put(key, computed);
+
+        return computed;
+    }
+}
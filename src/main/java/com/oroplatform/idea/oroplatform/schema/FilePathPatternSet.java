@@ -0,0 +1,63 @@
+package com.oroplatform.idea.oroplatform.schema;
+
+import com.intellij.psi.PsiFile;
+import com.oroplatform.idea.oroplatform.MultiSuffixMatcher;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+
+import static java.util.Arrays.asList;
+
+//All patterns of the set are matched against a file in one pass, matched patterns are remembered per file. Schemas are
+//matched one by one against the same file, so their file path patterns share one set.
+class FilePathPatternSet {
+    private static final FilePathPatternSet SCHEMA_FILES = new FilePathPatternSet(asList(
+        SchemasV1.FilePathPatterns.ACL,
+        SchemasV1.FilePathPatterns.ENTITY,
+        SchemasV1.FilePathPatterns.DATAGRID,
+        SchemasV1.FilePathPatterns.WORKFLOW,
+        SchemasV1.FilePathPatterns.SYSTEM_CONFIGURATION,
+        SchemasV1.FilePathPatterns.API,
+        SchemasV1.FilePathPatterns.ACTIONS,
+        SchemasV1.FilePathPatterns.DASHBOARD,
+        SchemasV1.FilePathPatterns.NAVIGATION,
+        SchemasV1.FilePathPatterns.SEARCH,
+        SchemasV1.FilePathPatterns.LAYOUT_UPDATE,
+        SchemasV1.FilePathPatterns.THEME,
+        SchemasV1.FilePathPatterns.ASSETS,
+        SchemasV1.FilePathPatterns.LAYOUT_REQUIRE_JS,
+        SchemasV1.FilePathPatterns.REQUIRE_JS,
+        SchemasV1.FilePathPatterns.IMAGES,
+        SchemasV2.FilePathPatterns.WORKFLOW,
+        SchemasV2.FilePathPatterns.DATAGRID,
+        SchemasV2.FilePathPatterns.ACL,
+        SchemasV2.FilePathPatterns.SEARCH,
+        SchemasV2.FilePathPatterns.SYSTEM_CONFIGURATION,
+        SchemasV2.FilePathPatterns.DASHBOARD,
+        SchemasV2.FilePathPatterns.NAVIGATION
+    ));
+
+    private final Collection<String> patterns;
+    private final MultiSuffixMatcher<String> matcher;
+
+    FilePathPatternSet(Collection<String> patterns) {
+        this.patterns = new LinkedHashSet<>(patterns);
+        this.matcher = MultiSuffixMatcher.of(this.patterns);
+    }
+
+    static FileMatcher schemaFile(String pattern) {
+        return SCHEMA_FILES.matcher(pattern);
+    }
+
+    FileMatcher matcher(String pattern) {
+        if(!patterns.contains(pattern)) {
+            throw new IllegalArgumentException("Pattern " + pattern + " is not in the set");
+        }
+
+        return file -> match(file).contains(pattern);
+    }
+
+    Collection<String> match(PsiFile file) {
+        return CachedFileMatcher.getCachedValue(file, this, f -> matcher.match(f.getOriginalFile().getVirtualFile().getPath()));
+    }
+}
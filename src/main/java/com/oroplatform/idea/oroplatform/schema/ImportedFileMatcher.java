@@ -1,19 +1,12 @@
 package com.oroplatform.idea.oroplatform.schema;
 
 import com.intellij.openapi.progress.ProgressManager;
-import com.intellij.openapi.vfs.VirtualFile;
-import com.intellij.openapi.vfs.VirtualFileSystem;
 import com.intellij.psi.PsiFile;
-import com.intellij.psi.PsiManager;
-import com.intellij.psi.search.FilenameIndex;
-import com.intellij.psi.search.GlobalSearchScope;
 import com.oroplatform.idea.oroplatform.intellij.indexes.ImportIndex;
 import com.oroplatform.idea.oroplatform.settings.OroPlatformSettings;
-import org.jetbrains.yaml.YAMLFileType;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.stream.Stream;
 
 class ImportedFileMatcher implements FileMatcher {
 
@@ -42,39 +35,11 @@ class ImportedFileMatcher implements FileMatcher {
             return true;
         }
 
-        final GlobalSearchScope scope = GlobalSearchScope.getScopeRestrictedByFileTypes(GlobalSearchScope.allScope(file.getProject()), YAMLFileType.YML);
-        final ImportIndex index = ImportIndex.instance(file.getProject());
-
-        return Stream.of(rootFileName)
-            .flatMap(filename -> Stream.of(FilenameIndex.getFilesByName(file.getProject(), filename, scope)))
-            .anyMatch(rootFile -> isRootFile(filePath(rootFile)) && isImported(index, file, rootFile));
+        return ImportIndex.instance(file.getProject()).getTransitivelyImportingFilesFor(file.getOriginalFile().getVirtualFile()).stream()
+            .anyMatch(importingFile -> isRootFile(importingFile.getPath()));
     }
 
     private boolean isRootFile(String path) {
         return rootFilePatterns.stream().anyMatch(path::endsWith) && path.endsWith(rootFileName);
     }
-
-    private static String filePath(PsiFile file) {
-        return file.getOriginalFile().getVirtualFile().getPath();
-    }
-
-    private boolean isImported(ImportIndex index, PsiFile importedFile, PsiFile importingFile) {
-        for (String nextImportedFilePath : index.getImportedFilePathsFor(importingFile)) {
-            if(nextImportedFilePath.equals(importedFile.getOriginalFile().getVirtualFile().getPath())) {
-                return true;
-            }
-
-            final VirtualFileSystem fileSystem = importedFile.getOriginalFile().getVirtualFile().getFileSystem();
-            final VirtualFile nextImportedFile = fileSystem.findFileByPath(nextImportedFilePath);
-
-            if (nextImportedFile != null) {
-                final PsiFile importedPsiFile = PsiManager.getInstance(importedFile.getProject()).findFile(nextImportedFile);
-                if (importedPsiFile != null && isImported(index, importedFile, importedPsiFile)) {
-                    return true;
-                }
-            }
-        }
-        return false;
-    }
-
 }
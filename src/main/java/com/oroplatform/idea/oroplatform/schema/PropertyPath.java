@@ -2,10 +2,7 @@ package com.oroplatform.idea.oroplatform.schema;
 
 import org.jetbrains.annotations.NotNull;
 
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Optional;
-import java.util.Queue;
+import java.util.*;
 import java.util.function.Function;
 
 public class PropertyPath {
@@ -75,6 +72,21 @@ public class PropertyPath {
         return Optional.ofNullable(condition);
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        PropertyPath that = (PropertyPath) o;
+        return pointsToValue == that.pointsToValue &&
+            Objects.equals(properties, that.properties) &&
+            Objects.equals(condition, that.condition);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(properties, pointsToValue, condition);
+    }
+
     public final static class Property {
         private final String name;
         private final boolean isThis;
@@ -95,6 +107,20 @@ public class PropertyPath {
         public boolean isThis() {
             return isThis;
         }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Property property = (Property) o;
+            return isThis == property.isThis &&
+                Objects.equals(name, property.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, isThis);
+        }
     }
 
     public final static class Condition {
@@ -117,5 +143,19 @@ public class PropertyPath {
         public Condition updatePath(Function<PropertyPath, PropertyPath> update) {
             return new Condition(update.apply(relativePropertyPath), expectedValue);
         }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Condition that = (Condition) o;
+            return Objects.equals(relativePropertyPath, that.relativePropertyPath) &&
+                Objects.equals(expectedValue, that.expectedValue);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(relativePropertyPath, expectedValue);
+        }
     }
 }
@@ -5,7 +5,7 @@ public class Schema {
     public final Element rootElement;
 
     Schema(FileMatcher matcher, Element rootElement) {
-        this.fileMatcher = matcher;
+        this.fileMatcher = new CachedFileMatcher(matcher);
         this.rootElement = rootElement;
     }
 }
@@ -13,6 +13,7 @@ import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
+import static com.oroplatform.idea.oroplatform.schema.FilePathPatternSet.schemaFile;
 import static java.util.Arrays.asList;
 
 public class SchemasV1 {
@@ -42,7 +43,7 @@ public class SchemasV1 {
     );
 
     private static Schema acl() {
-        return new Schema(new FilePathMatcher(FilePathPatterns.ACL), aclElementProperties());
+        return new Schema(schemaFile(FilePathPatterns.ACL), aclElementProperties());
     }
 
     @NotNull
@@ -77,7 +78,7 @@ public class SchemasV1 {
     }
 
     private static Schema entity() {
-        return new Schema(new FilePathMatcher(FilePathPatterns.ENTITY), Container.with(
+        return new Schema(schemaFile(FilePathPatterns.ENTITY), Container.with(
             Property.named("oro_entity",
                 Container.with(
                     Property.named("exclusions", Sequence.of(
@@ -533,7 +534,7 @@ public class SchemasV1 {
     }
 
     private static Schema systemConfiguration() {
-        return new Schema(new FilePathMatcher(FilePathPatterns.SYSTEM_CONFIGURATION), Container.with(
+        return new Schema(schemaFile(FilePathPatterns.SYSTEM_CONFIGURATION), Container.with(
             Property.named("oro_system_configuration", systemConfigurationElementProperties("oro_system_configuration"))
         ));
     }
@@ -651,7 +652,7 @@ public class SchemasV1 {
     }
 
     private static Schema api() {
-        return new Schema(new FilePathMatcher(FilePathPatterns.API), apiElement("oro_api", new Container(), new Container()));
+        return new Schema(schemaFile(FilePathPatterns.API), apiElement("oro_api", new Container(), new Container()));
     }
 
     @NotNull
@@ -784,7 +785,7 @@ public class SchemasV1 {
             return service -> service.getTags().stream().anyMatch(tag -> "oro_importexport.processor".equals(tag.getName()) && processorType.equals(tag.getType()));
         };
 
-        return new Schema(new FilePathMatcher(FilePathPatterns.ACTIONS), Container.with(
+        return new Schema(schemaFile(FilePathPatterns.ACTIONS), Container.with(
             Property.named("operations", Container.with(
                 Property.any(
                     Container.with(
@@ -906,7 +907,7 @@ public class SchemasV1 {
     }
 
     private static Schema dashboard() {
-        return new Schema(new FilePathMatcher(FilePathPatterns.DASHBOARD), dashboardElement("oro_dashboard_config"));
+        return new Schema(schemaFile(FilePathPatterns.DASHBOARD), dashboardElement("oro_dashboard_config"));
     }
 
     @NotNull
@@ -991,7 +992,7 @@ public class SchemasV1 {
             Property.named("id", Scalars.any)
         );
 
-        return new Schema(new FilePathMatcher(FilePathPatterns.NAVIGATION), Container.with(
+        return new Schema(schemaFile(FilePathPatterns.NAVIGATION), Container.with(
             Property.named("oro_" +"menu_config", Container.with(
                 Property.named("templates", Container.with(
                     Container.with(
@@ -1073,7 +1074,7 @@ public class SchemasV1 {
     }
 
     private static Schema search() {
-        return new Schema(new FilePathMatcher(FilePathPatterns.SEARCH), searchElementProperties(new PropertyPath()));
+        return new Schema(schemaFile(FilePathPatterns.SEARCH), searchElementProperties(new PropertyPath()));
     }
 
     @NotNull
@@ -1121,9 +1122,9 @@ public class SchemasV1 {
         final Scalar importId = Scalars.filePathRelativeToElementIn("imports", 1);
 
         final FileMatcher matcher = new AndFileMatcher(
-            new NotFileMatcher(new FilePathMatcher(FilePathPatterns.THEME)),
+            new NotFileMatcher(schemaFile(FilePathPatterns.THEME)),
             new NotFileMatcher(new FilePathMatcher("Resources/views/layouts/*/config/*.yml")),
-            new FilePathMatcher(FilePathPatterns.LAYOUT_UPDATE)
+            schemaFile(FilePathPatterns.LAYOUT_UPDATE)
         );
 
         final Element template = OneOf.from(Scalars.twig("**/Resources/views/layouts/**"), Scalars.relativeFile(new ElementRootDirsFinder(), "twig"));
@@ -1238,7 +1239,7 @@ public class SchemasV1 {
     }
 
     private static Schema theme() {
-        return new Schema(new FilePathMatcher(FilePathPatterns.THEME), Container.with(
+        return new Schema(schemaFile(FilePathPatterns.THEME), Container.with(
             Property.named("label", Scalars.trans),
             Property.named("logo", Scalars.filePathRelativeToAppIn("../web")),
             Property.named("screenshot", Scalars.filePathRelativeToAppIn("../web")),
@@ -1249,7 +1250,7 @@ public class SchemasV1 {
     }
 
     private static Schema assets() {
-        return new Schema(new FilePathMatcher(FilePathPatterns.ASSETS), Container.with(
+        return new Schema(schemaFile(FilePathPatterns.ASSETS), Container.with(
             Property.named("styles", Container.with(
                 Property.named("inputs", Sequence.of(Scalars.file(new PublicResourcesRootDirsFinder(), "css", "less", "sass"))),
                 Property.named("output", Scalars.choices(new LayoutAssetsCssOutputChoicesProvider())),
@@ -1259,7 +1260,7 @@ public class SchemasV1 {
     }
 
     private static Schema requirejs() {
-        return new Schema(new OrFileMatcher(new FilePathMatcher(FilePathPatterns.LAYOUT_REQUIRE_JS), new FilePathMatcher(FilePathPatterns.REQUIRE_JS)), Container.with(
+        return new Schema(new OrFileMatcher(schemaFile(FilePathPatterns.LAYOUT_REQUIRE_JS), schemaFile(FilePathPatterns.REQUIRE_JS)), Container.with(
             Property.named("config", Container.with(
                 Property.named("build_path", Scalars.any),
                 Property.named("shim", Container.with(
@@ -1289,7 +1290,7 @@ public class SchemasV1 {
     }
 
     private static Schema images() {
-        return new Schema(new FilePathMatcher(FilePathPatterns.IMAGES), Container.with(
+        return new Schema(schemaFile(FilePathPatterns.IMAGES), Container.with(
             Property.named("types", Container.with(
                 Container.with(
                     Property.named("label", Scalars.trans),
@@ -2,6 +2,7 @@ package com.oroplatform.idea.oroplatform.schema;
 
 import java.util.Collection;
 
+import static com.oroplatform.idea.oroplatform.schema.FilePathPatternSet.schemaFile;
 import static java.util.Arrays.asList;
 
 public class SchemasV2 {
@@ -34,7 +35,7 @@ public class SchemasV2 {
     }
 
     private static Schema acl() {
-        return new Schema(new FilePathMatcher(FilePathPatterns.ACL), Container.with(
+        return new Schema(schemaFile(FilePathPatterns.ACL), Container.with(
             Property.named("acls", SchemasV1.aclElementProperties())
         ));
     }
@@ -53,7 +54,7 @@ public class SchemasV2 {
             ).allowExtraProperties()
         );
 
-        return new Schema(new FilePathMatcher(FilePathPatterns.API), SchemasV1.apiElement("api", new Container(
+        return new Schema(schemaFile(FilePathPatterns.API), SchemasV1.apiElement("api", new Container(
             Property.named("entity_aliases", Container.with(
                 Property.any(Container.with(
                     Property.named("alias", Scalars.regexp("^[a-z][a-z0-9_]*$")),
@@ -73,19 +74,19 @@ public class SchemasV2 {
     }
 
     private static Schema search() {
-        return new Schema(new FilePathMatcher(FilePathPatterns.SEARCH), Container.with(
+        return new Schema(schemaFile(FilePathPatterns.SEARCH), Container.with(
             Property.named("search", SchemasV1.searchElementProperties(new PropertyPath("search")))
         ));
     }
 
     private static Schema systemConfiguration() {
-        return new Schema(new FilePathMatcher(FilePathPatterns.SYSTEM_CONFIGURATION), Container.with(
+        return new Schema(schemaFile(FilePathPatterns.SYSTEM_CONFIGURATION), Container.with(
             Property.named("system_configuration", SchemasV1.systemConfigurationElementProperties("system_configuration"))
         ));
     }
 
     private static Schema dashboard() {
-        return new Schema(new FilePathMatcher(FilePathPatterns.DASHBOARD), SchemasV1.dashboardElement("dashboards"));
+        return new Schema(schemaFile(FilePathPatterns.DASHBOARD), SchemasV1.dashboardElement("dashboards"));
     }
 
     private static Schema navigation() {
@@ -94,7 +95,7 @@ public class SchemasV2 {
             Property.named("id", Scalars.any)
         );
 
-        return new Schema(new FilePathMatcher(FilePathPatterns.NAVIGATION), Container.with(
+        return new Schema(schemaFile(FilePathPatterns.NAVIGATION), Container.with(
             Property.named("navigation", Container.with(
                 Property.named("menu_config", Container.with(
                     Property.named("templates", Container.with(
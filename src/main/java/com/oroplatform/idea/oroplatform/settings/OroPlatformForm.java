@@ -32,6 +32,7 @@ public class OroPlatformForm implements Configurable {
     private TextFieldWithBrowseButton appDir;
     private JPanel component;
     private JCheckBox pluginEnabled;
+    private JTextField translationLocale;
 
     public OroPlatformForm(@NotNull Project project) {
         this.project = project;
@@ -86,7 +87,8 @@ public class OroPlatformForm implements Configurable {
 
     @Override
     public boolean isModified() {
-        return !appDir.getText().equals(getSettings().getAppDir()) || pluginEnabled.isSelected() != getSettings().isPluginEnabled();
+        return !appDir.getText().equals(getSettings().getAppDir()) || pluginEnabled.isSelected() != getSettings().isPluginEnabled() ||
+            !translationLocale.getText().trim().equals(getSettings().getTranslationLocale());
     }
 
     @Override
@@ -95,6 +97,7 @@ public class OroPlatformForm implements Configurable {
 
         getSettings().setAppDir(appDir.getText());
         getSettings().setPluginEnabled(pluginEnabled.isSelected());
+        getSettings().setTranslationLocale(translationLocale.getText().trim());
 
         if(hasBeenEnabled) {
             rebuildIndexes();
@@ -106,7 +109,10 @@ public class OroPlatformForm implements Configurable {
 
         final ID<?, ?>[] indexIds = new ID<?, ?>[] {
             ImportFileBasedIndex.KEY, ImportFileBasedIndex.KEY, DatagridFileBasedIndex.KEY, ServicesFileBasedIndex.KEY,
-            AclFileBasedIndex.KEY, OperationFileBasedIndex.KEY, RouteFileBasedIndex.KEY, TranslationFileBasedIndex.KEY
+            AclFileBasedIndex.KEY, OperationFileBasedIndex.KEY, RouteFileBasedIndex.KEY, ControllerRouteFileBasedIndex.KEY,
+            TranslationFileBasedIndex.KEY, TranslationLocaleFileBasedIndex.KEY, TranslationDomainFileBasedIndex.KEY,
+            TranslationCatalogueFileBasedIndex.KEY, EntityExtensionFileBasedIndex.KEY, RequireJsConfigFileBasedIndex.KEY,
+            BundleResourceFileBasedIndex.KEY
         };
 
         for (ID<?, ?> indexId : indexIds) {
@@ -118,6 +124,7 @@ public class OroPlatformForm implements Configurable {
     public void reset() {
         appDir.setText(getSettings().getAppDir());
         pluginEnabled.setSelected(getSettings().isPluginEnabled());
+        translationLocale.setText(getSettings().getTranslationLocale());
     }
 
     @Override
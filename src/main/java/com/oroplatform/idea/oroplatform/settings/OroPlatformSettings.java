@@ -33,6 +33,7 @@ public class OroPlatformSettings implements PersistentStateComponent<Element>, M
 
     private String appDir = DEFAULT_APP_DIRECTORY;
     private VerboseBoolean pluginEnabled = new VerboseBoolean(false, false);
+    private String translationLocale = "";
     private long lastModifiedTimeStamp = 0;
 
     public String getAppDir() {
@@ -53,6 +54,16 @@ public class OroPlatformSettings implements PersistentStateComponent<Element>, M
         this.lastModifiedTimeStamp = System.currentTimeMillis();
     }
 
+    //locale of translated values shown next to english ones, empty when only english values are shown
+    public String getTranslationLocale() {
+        return translationLocale;
+    }
+
+    void setTranslationLocale(String translationLocale) {
+        this.translationLocale = translationLocale;
+        this.lastModifiedTimeStamp = System.currentTimeMillis();
+    }
+
     public void setPluginEnabled(boolean f) {
         pluginEnabled = pluginEnabled.set(f);
         lastModifiedTimeStamp = System.currentTimeMillis();
@@ -81,11 +92,15 @@ public class OroPlatformSettings implements PersistentStateComponent<Element>, M
         Element pluginEnabledElement = new Element("pluginEnabled");
         writeVerboseBoolean(pluginEnabledElement, pluginEnabled);
 
+        Element translationLocaleElement = new Element("translationLocale");
+        translationLocaleElement.setText(translationLocale);
+
         Element timeStampElement = new Element("lastModifiedTimeStamp");
         timeStampElement.setText(lastModifiedTimeStamp + "");
 
         element.addContent(appDirElement);
         element.addContent(pluginEnabledElement);
+        element.addContent(translationLocaleElement);
 
         return element;
     }
@@ -104,12 +119,17 @@ public class OroPlatformSettings implements PersistentStateComponent<Element>, M
     public void loadState(Element state) {
         Element appDirElement = state.getChild("appDir");
         Element pluginEnabledElement = state.getChild("pluginEnabled");
+        Element translationLocaleElement = state.getChild("translationLocale");
         Element timeStampElement = state.getChild("lastModifiedTimeStamp");
 
         if(appDirElement != null) {
             appDir = appDirElement.getText();
         }
 
+        if(translationLocaleElement != null) {
+            translationLocale = translationLocaleElement.getText();
+        }
+
         if(pluginEnabledElement != null) {
             pluginEnabled = readVerboseBoolean(pluginEnabledElement);
         }
@@ -0,0 +1,52 @@
+package com.oroplatform.idea.oroplatform.symfony;
+
+import com.google.common.base.Objects;
+import org.jetbrains.annotations.Nullable;
+
+//Public method of class generated by Oro for extended entity (cache/dev/oro_entities/Extend/Entity/EX_*.php)
+public class EntityExtensionMethod {
+    private final String name;
+    private final String parameters;
+    private final String returnType;
+
+    public EntityExtensionMethod(String name, String parameters, @Nullable String returnType) {
+        this.name = name;
+        this.parameters = parameters;
+        this.returnType = returnType;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    //parameters as declared, without parentheses, e.g. "\DateTime $date = null"
+    public String getParameters() {
+        return parameters;
+    }
+
+    //declared return type or type from @return tag
+    @Nullable
+    public String getReturnType() {
+        return returnType;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        EntityExtensionMethod method = (EntityExtensionMethod) o;
+        return Objects.equal(name, method.name) &&
+            Objects.equal(parameters, method.parameters) &&
+            Objects.equal(returnType, method.returnType);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(name, parameters, returnType);
+    }
+
+    @Override
+    public String toString() {
+        return name + "(" + parameters + ")" + (returnType == null ? "" : ": " + returnType);
+    }
+}
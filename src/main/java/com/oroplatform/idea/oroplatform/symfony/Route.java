@@ -1,14 +1,26 @@
 package com.oroplatform.idea.oroplatform.symfony;
 
 import com.google.common.base.Objects;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.List;
 
 public class Route {
     private final String controllerName;
     private final String action;
+    private final String path;
+    private final List<String> methods;
 
     public Route(String controllerName, String action) {
+        this(controllerName, action, null, Collections.emptyList());
+    }
+
+    public Route(String controllerName, String action, @Nullable String path, List<String> methods) {
         this.controllerName = controllerName;
         this.action = action;
+        this.path = path;
+        this.methods = Collections.unmodifiableList(methods);
     }
 
     public String getControllerName() {
@@ -19,17 +31,30 @@ public class Route {
         return action;
     }
 
+    //path pattern with variables in braces, e.g. "/user/view/{id}"
+    @Nullable
+    public String getPath() {
+        return path;
+    }
+
+    //empty when any method is allowed
+    public List<String> getMethods() {
+        return methods;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Route route = (Route) o;
         return Objects.equal(controllerName, route.controllerName) &&
-            Objects.equal(action, route.action);
+            Objects.equal(action, route.action) &&
+            Objects.equal(path, route.path) &&
+            Objects.equal(methods, route.methods);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(controllerName, action);
+        return Objects.hashCode(controllerName, action, path, methods);
     }
 }
@@ -29,6 +29,10 @@ public class Tag {
         return Optional.ofNullable(parameters.get(name));
     }
 
+    public Map<String, String> getParameters() {
+        return Collections.unmodifiableMap(parameters);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,43 @@
+package com.oroplatform.idea.oroplatform.symfony;
+
+import com.google.common.base.Objects;
+
+//Translated value of a message from compiled translation catalogue
+public class TranslatedMessage {
+    private final String locale;
+    private final String domain;
+    private final String text;
+
+    public TranslatedMessage(String locale, String domain, String text) {
+        this.locale = locale;
+        this.domain = domain;
+        this.text = text;
+    }
+
+    public String getLocale() {
+        return locale;
+    }
+
+    public String getDomain() {
+        return domain;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        TranslatedMessage that = (TranslatedMessage) o;
+        return Objects.equal(locale, that.locale) &&
+            Objects.equal(domain, that.domain) &&
+            Objects.equal(text, that.text);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(locale, domain, text);
+    }
+}
@@ -0,0 +1,46 @@
+package com.oroplatform.idea.oroplatform.symfony;
+
+import com.google.common.base.Objects;
+
+import java.util.Collections;
+import java.util.List;
+
+//Occurrences of translation key in a single messages file
+public class Translation {
+    private final String domain;
+    private final String locale;
+    private final List<Integer> offsets;
+
+    public Translation(String domain, String locale, List<Integer> offsets) {
+        this.domain = domain;
+        this.locale = locale;
+        this.offsets = Collections.unmodifiableList(offsets);
+    }
+
+    public String getDomain() {
+        return domain;
+    }
+
+    public String getLocale() {
+        return locale;
+    }
+
+    public List<Integer> getOffsets() {
+        return offsets;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Translation that = (Translation) o;
+        return Objects.equal(domain, that.domain) &&
+            Objects.equal(locale, that.locale) &&
+            Objects.equal(offsets, that.offsets);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(domain, locale, offsets);
+    }
+}
@@ -0,0 +1,72 @@
+package com.oroplatform.idea.oroplatform
+
+import org.junit.Test
+
+import java.util.regex.Pattern
+
+import static org.junit.Assert.*
+
+class MultiSuffixMatcherTest {
+
+    @Test
+    def void "should return all matching patterns"() {
+        def matcher = MultiSuffixMatcher.of([
+            "Resources/views/layouts/**/*.yml",
+            "Resources/views/layouts/*/theme.yml",
+            "Resources/views/layouts/*/config/*.yml",
+            "Resources/config/oro/**.yml"
+        ])
+
+        assertEquals(["Resources/views/layouts/**/*.yml", "Resources/views/layouts/*/theme.yml"] as Set,
+            matcher.match("/project/Resources/views/layouts/default/theme.yml") as Set)
+        assertEquals(["Resources/views/layouts/**/*.yml", "Resources/views/layouts/*/config/*.yml"] as Set,
+            matcher.match("/project/Resources/views/layouts/default/config/assets.yml") as Set)
+        assertEquals(["Resources/config/oro/**.yml"] as Set, matcher.match("/project/Resources/config/oro/some/api.yml") as Set)
+        assertEquals([] as Set, matcher.match("/project/Resources/config/oro/api.yml2") as Set)
+    }
+
+    @Test
+    def void "should return all values registered for the same pattern"() {
+        def matcher = new MultiSuffixMatcher<String>()
+            .add("Resources/config/acl.yml", "v1")
+            .add("Resources/config/acl.yml", "v2")
+
+        assertEquals(["v1", "v2"], matcher.match("Resources/config/acl.yml") as List)
+        assertTrue(matcher.matchesAny("/some/prefix/Resources/config/acl.yml"))
+        assertFalse(matcher.matchesAny("Resources/config/acl.yml/some"))
+    }
+
+    @Test
+    def void "should match adjacent and trailing wildcards"() {
+        assertTrue(MultiSuffixMatcher.of(["a***b"]).matchesAny("a/b"))
+        assertTrue(MultiSuffixMatcher.of(["a***b"]).matchesAny("a/c/b"))
+        assertTrue(MultiSuffixMatcher.of(["**/*.yml"]).matchesAny("a/b/c.yml"))
+        assertTrue(MultiSuffixMatcher.of(["a/**/*"]).matchesAny("a/b/c"))
+        assertTrue(MultiSuffixMatcher.of(["a/**/*"]).matchesAny("a//"))
+        assertFalse(MultiSuffixMatcher.of(["a/**/*"]).matchesAny("b/c"))
+        assertTrue(MultiSuffixMatcher.of(["*/**"]).matchesAny("a/"))
+    }
+
+    @Test
+    def void "should match the same paths as regular expressions"() {
+        def patterns = [
+            "Resources/config/acl.yml", "Resources/config/oro/**.yml", "Resources/views/layouts/**/*.yml",
+            "Resources/views/layouts/*/theme.yml", "Resources/views/layouts/*/config/*.yml", "Resources/translations/*.en.yml",
+            "a*b**c", "*", "**", "a***b", "**/*.yml", "a/**/*", "*/**", "b/**/**"
+        ]
+        def parts = ["Resources", "config", "oro", "views", "layouts", "theme.yml", "acl.yml", "translations", "m.en.yml", "a", "b", "c", ".yml", "/"]
+        def random = new Random(1)
+        def paths = (1..5000).collect {
+            (0..random.nextInt(8)).collect { (random.nextBoolean() ? "/" : "") + parts[random.nextInt(parts.size())] }.join("")
+        }
+        def matcher = MultiSuffixMatcher.of(patterns)
+
+        patterns.each { pattern ->
+            def regex = Pattern.compile(pattern.replaceAll("\\.", "\\\\.").replaceAll("\\*\\*", ".{0,}").replaceAll("\\*", "[^/]*") + '$')
+
+            paths.each { path ->
+                assertEquals("$pattern: $path".toString(), regex.matcher(path).find(), matcher.match(path).contains(pattern))
+            }
+        }
+    }
+}
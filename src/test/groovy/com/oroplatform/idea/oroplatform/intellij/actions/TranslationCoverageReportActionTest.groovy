@@ -0,0 +1,44 @@
+package com.oroplatform.idea.oroplatform.intellij.actions
+
+import com.oroplatform.idea.oroplatform.intellij.indexes.TranslationCoverage
+import org.junit.Test
+
+import static org.junit.Assert.*
+
+class TranslationCoverageReportActionTest {
+
+    @Test
+    def void "should report keys missing in locales by domains"() {
+        def coverages = new TreeMap([
+            "messages": TranslationCoverage.of([
+                "en": ["oro.user.label", "oro.user.plural", "oro.email.label", "oro.email.plural"],
+                "pl": ["oro.user.label", "oro.old.label"],
+            ]),
+            "validators": TranslationCoverage.of([
+                "en": ["oro.user.blank"],
+                "pl": ["oro.user.blank"],
+            ]),
+        ])
+
+        assertEquals(
+            """
+            |Translation coverage, base locale: en
+            |
+            |messages, 4 keys
+            |pl: 1 of 4 keys (25%), 3 missing, 1 not in en
+            |
+            |Missing in messages.pl:
+            |    oro.email.label
+            |    oro.email.plural
+            |    oro.user.plural
+            |
+            |Defined in messages.pl, not in messages.en:
+            |    oro.old.label
+            |
+            |validators, 1 keys
+            |pl: 1 of 1 keys (100%), 0 missing, 0 not in en
+            |""".stripMargin().substring(1),
+            TranslationCoverageReportAction.buildReport(coverages)
+        )
+    }
+}
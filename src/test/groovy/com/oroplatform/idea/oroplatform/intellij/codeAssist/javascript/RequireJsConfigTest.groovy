@@ -46,4 +46,17 @@ class RequireJsConfigTest {
         assertEquals(Optional.of("alias2"), actual.getPackageAliasFor("pkg1", "somePkg2"))
         assertEquals(Optional.of("alias1"), actual.getPackageAliasFor("pkg1", "somePkg1"))
     }
+
+    @Test
+    void "merge many configs in order"() {
+        def configs = (1..3).collect { new RequireJsConfig([common: "path$it".toString(), ("alias$it".toString()): "path$it".toString()], [pkg: [("somePkg$it".toString()): "alias$it".toString()]]) }
+
+        def actual = RequireJsConfig.merge(configs)
+
+        assertEquals(Optional.of("path3"), actual.getPathForAlias("common"))
+        assertEquals(Optional.of("path1"), actual.getPathForAlias("alias1"))
+        assertEquals(Optional.of("alias1"), actual.getAliasForPath("path1"))
+        assertEquals(Optional.of("alias2"), actual.getPackageAliasFor("pkg", "somePkg2"))
+        assertEquals(Optional.of("somePkg1"), actual.getPackageForAlias("pkg", "alias1"))
+    }
 }
@@ -1,5 +1,8 @@
 package com.oroplatform.idea.oroplatform.intellij.codeAssist.javascript
 
+import com.intellij.lang.javascript.psi.JSLiteralExpression
+import com.intellij.psi.util.PsiTreeUtil
+import com.intellij.testFramework.PlatformTestUtil
 import com.oroplatform.idea.oroplatform.intellij.codeAssist.CompletionTest
 
 class RequireJsReferenceTest extends CompletionTest {
@@ -232,4 +235,23 @@ class RequireJsReferenceTest extends CompletionTest {
             ["orodashboard/js/some/index.html"]
         )
     }
+
+    def void "test: resolve module among many bundles"() {
+        (1..200).each {
+            myFixture.addFileToProject("vendor/Acme/Bundle/Demo${it}Bundle/AcmeDemo${it}Bundle.php", "<?php\nnamespace Acme\\Bundle\\Demo${it}Bundle;\n\nclass AcmeDemo${it}Bundle extends \\Symfony\\Component\\HttpKernel\\Bundle\\Bundle {}\n")
+            myFixture.addFileToProject("vendor/Acme/Bundle/Demo${it}Bundle/Resources/public/js/module.js", "")
+        }
+
+        configureByText("require(${(1..200).collect { "'acmedemo$it/js/module'" }.join(", ")})")
+
+        def literals = PsiTreeUtil.findChildrenOfType(myFixture.file, JSLiteralExpression)
+
+        PlatformTestUtil.startPerformanceTest("requirejs modules resolving", 3000, {
+            10.times {
+                myFixture.psiManager.dropResolveCaches()
+                def resolved = literals.findAll { literal -> literal.references.any { it.resolve()?.name == "module.js" } }
+                assertEquals(200, resolved.size())
+            }
+        }).cpuBound().assertTiming()
+    }
 }
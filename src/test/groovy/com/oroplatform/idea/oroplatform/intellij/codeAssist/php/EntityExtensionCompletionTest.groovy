@@ -1,5 +1,9 @@
 package com.oroplatform.idea.oroplatform.intellij.codeAssist.php
 
+import com.intellij.codeInsight.lookup.LookupElementPresentation
+import com.intellij.openapi.command.WriteCommandAction
+import com.intellij.openapi.vfs.VfsUtil
+import com.intellij.openapi.vfs.VirtualFile
 import com.intellij.testFramework.PsiTestUtil
 import com.oroplatform.idea.oroplatform.intellij.codeAssist.CompletionTest
 
@@ -10,6 +14,8 @@ class EntityExtensionCompletionTest extends CompletionTest {
         return "test.php"
     }
 
+    VirtualFile extensionFile
+
     @Override
     protected void setUp() throws Exception {
         super.setUp()
@@ -25,6 +31,7 @@ class EntityExtensionCompletionTest extends CompletionTest {
             """.stripMargin()
         )
 
+        extensionFile = myFixture.getFile().getVirtualFile()
         PsiTestUtil.addExcludedRoot(myFixture.getModule(), myFixture.getFile().getParent().getVirtualFile())
 
         configureByText(
@@ -92,4 +99,37 @@ class EntityExtensionCompletionTest extends CompletionTest {
             ["getFullName()"]
         )
     }
+
+    def void "test: suggest methods of regenerated extension with signatures"() {
+        WriteCommandAction.runWriteCommandAction(project) {
+            VfsUtil.saveText(extensionFile,
+                """
+                |<?php
+                |class Ex_OroAcmeBundle_User {
+                |  /**
+                |   * @return \\DateTime
+                |   */
+                |  public function getBirthday(\\DateTimeZone \$timezone = null) {}
+                |}
+                """.stripMargin()
+            )
+        }
+
+        suggestions(
+            """
+            |<?php
+            |\$user = new Oro\\Bundle\\AcmeBundle\\Entity\\User();
+            |\$user-><caret>
+            """.stripMargin(),
+            ["getBirthday()"],
+            ["getFullName()"]
+        )
+
+        def presentation = new LookupElementPresentation()
+        myFixture.lookupElements.find { it.lookupString == "getBirthday()" }.renderElement(presentation)
+
+        assertEquals("getBirthday", presentation.itemText)
+        assertEquals("(\\DateTimeZone \$timezone = null)", presentation.tailText)
+        assertEquals("\\DateTime", presentation.typeText)
+    }
 }
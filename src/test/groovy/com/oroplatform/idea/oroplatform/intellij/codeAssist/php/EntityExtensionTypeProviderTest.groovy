@@ -0,0 +1,120 @@
+package com.oroplatform.idea.oroplatform.intellij.codeAssist.php
+
+import com.intellij.psi.util.PsiTreeUtil
+import com.intellij.testFramework.PlatformTestUtil
+import com.jetbrains.php.lang.psi.elements.Variable
+import com.oroplatform.idea.oroplatform.intellij.codeAssist.TestCase
+import com.oroplatform.idea.oroplatform.intellij.indexes.EntityExtensionsModificationTracker
+
+class EntityExtensionTypeProviderTest extends TestCase {
+    @Override
+    String fileName() {
+        return "test.php"
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp()
+
+        myFixture.addFileToProject(
+            "app/cache/dev/oro_entities/Extend/Entity/EX_OroAcmeBundle_User.php",
+            """
+            |<?php
+            |namespace Extend\\Entity;
+            |class EX_OroAcmeBundle_User {
+            |  public function getFullName() {}
+            |}
+            """.stripMargin()
+        )
+
+        myFixture.addFileToProject(
+            "classes.php",
+            """
+            |<?php
+            |
+            |namespace Oro\\Bundle\\AcmeBundle\\Entity {
+            |  class User {}
+            |  class Address {}
+            |}
+            |
+            |namespace Oro\\Bundle\\AcmeBundle {
+            |  class AcmeBundle extends \\Symfony\\Component\\HttpKernel\\Bundle\\Bundle {}
+            |}
+            """.stripMargin()
+        )
+    }
+
+    def void "test: find extension class only for extended entities"() {
+        def extensions = EntityExtensions.instance(myFixture.project)
+
+        assertEquals("\\Extend\\Entity\\EX_OroAcmeBundle_User", extensions.findExtensionClassName("\\Oro\\Bundle\\AcmeBundle\\Entity\\User"))
+        assertNull(extensions.findExtensionClassName("\\Oro\\Bundle\\AcmeBundle\\Entity\\Address"))
+        assertNull(extensions.findExtensionClassName("\\Oro\\Bundle\\AcmeBundle\\Mailer"))
+    }
+
+    def void "test: find extension class generated after previous lookup"() {
+        def extensions = EntityExtensions.instance(myFixture.project)
+
+        assertNull(extensions.findExtensionClassName("\\Oro\\Bundle\\AcmeBundle\\Entity\\Address"))
+
+        myFixture.addFileToProject(
+            "app/cache/dev/oro_entities/Extend/Entity/EX_OroAcmeBundle_Address.php",
+            "<?php\nnamespace Extend\\Entity;\nclass EX_OroAcmeBundle_Address {}\n"
+        )
+
+        assertEquals("\\Extend\\Entity\\EX_OroAcmeBundle_Address", extensions.findExtensionClassName("\\Oro\\Bundle\\AcmeBundle\\Entity\\Address"))
+    }
+
+    def void "test: find extension class defined in project"() {
+        myFixture.addFileToProject("Extend.php", "<?php\nnamespace Extend\\Entity;\nclass EX_OroAcmeBundle_Address {}\n")
+
+        assertEquals("\\Extend\\Entity\\EX_OroAcmeBundle_Address", EntityExtensions.instance(myFixture.project).findExtensionClassName("\\Oro\\Bundle\\AcmeBundle\\Entity\\Address"))
+    }
+
+    def void "test: find extension class added to project after previous lookup"() {
+        def extensions = EntityExtensions.instance(myFixture.project)
+
+        assertNull(extensions.findExtensionClassName("\\Oro\\Bundle\\AcmeBundle\\Entity\\Address"))
+
+        myFixture.addFileToProject("src/Extend/Entity/EX_OroAcmeBundle_Address.php", "<?php\nnamespace Extend\\Entity;\nclass EX_OroAcmeBundle_Address {}\n")
+
+        assertEquals("\\Extend\\Entity\\EX_OroAcmeBundle_Address", extensions.findExtensionClassName("\\Oro\\Bundle\\AcmeBundle\\Entity\\Address"))
+    }
+
+    def void "test: remember classes without extension after unrelated php changes"() {
+        def extensions = EntityExtensions.instance(myFixture.project)
+
+        assertNull(extensions.findExtensionClassName("\\Oro\\Bundle\\AcmeBundle\\Entity\\Address"))
+
+        def count = EntityExtensionsModificationTracker.getInstance(myFixture.project).modificationCount
+        myFixture.addFileToProject("Other.php", "<?php\nclass Other {}\n")
+
+        assertEquals(count, EntityExtensionsModificationTracker.getInstance(myFixture.project).modificationCount)
+    }
+
+    def void "test: benchmark type inference of large service"() {
+        def methods = (1..300).collect { i ->
+            """
+            |  public function method$i(\\Oro\\Bundle\\AcmeBundle\\Entity\\User \$user, \\Oro\\Bundle\\AcmeBundle\\Entity\\Address \$address)
+            |  {
+            |    \$mailer$i = new \\Oro\\Bundle\\AcmeBundle\\Mailer();
+            |    \$other$i = new \\Oro\\Bundle\\AcmeBundle\\Entity\\User();
+            |    \$address->getId();
+            |    \$mailer$i->send(\$user, \$other$i, \$this->method${Math.max(1, i - 1)}(\$user, \$address));
+            |    return \$other$i;
+            |  }
+            """.stripMargin()
+        }
+        configureByText("<?php\nnamespace Oro\\Bundle\\AcmeBundle;\nclass Mailer {}\nclass SomeService {\n${methods.join("\n")}\n}\n")
+
+        def variables = PsiTreeUtil.findChildrenOfType(myFixture.file, Variable)
+
+        PlatformTestUtil.startPerformanceTest("entity extension type inference", 3000, {
+            10.times {
+                myFixture.psiManager.dropResolveCaches()
+                def types = variables.collect { it.type.toString() }
+                assertTrue(types.every { !it.contains("EX_OroAcmeBundle_Address") })
+            }
+        }).cpuBound().assertTiming()
+    }
+}
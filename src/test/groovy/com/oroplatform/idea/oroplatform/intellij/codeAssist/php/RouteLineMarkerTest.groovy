@@ -0,0 +1,87 @@
+package com.oroplatform.idea.oroplatform.intellij.codeAssist.php
+
+import com.intellij.codeInsight.daemon.LineMarkerInfo
+import com.intellij.codeInsight.daemon.RelatedItemLineMarkerInfo
+import com.jetbrains.php.lang.psi.elements.StringLiteralExpression
+import com.oroplatform.idea.oroplatform.intellij.codeAssist.RandomIdentifiers
+import com.oroplatform.idea.oroplatform.intellij.codeAssist.TestCase
+import com.oroplatform.idea.oroplatform.intellij.indexes.RouteIndex
+
+class RouteLineMarkerTest extends TestCase implements RandomIdentifiers {
+    @Override
+    String fileName() {
+        return "src/Oro/UserController.php"
+    }
+
+    def viewRoute = randomIdentifier("view")
+    def otherViewRoute = randomIdentifier("other_view")
+    def createRoute = randomIdentifier("create")
+    def dump
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp()
+
+        dump = myFixture.addFileToProject(
+            "app/cache/dev/appDevUrlGenerator.php",
+            """
+            |<?php
+            |
+            |class appDevUrlGenerator extends Symfony\\Component\\Routing\\Generator\\UrlGenerator {
+            |   private static \$declaredRoutes = array(
+            |       'redirect_route' => array(1 => array('_controller' => 'Oro\\\\RedirectController::redirectAction', 'route' => '$viewRoute')),
+            |       '$viewRoute' => array(1 => array('_controller' => 'Oro\\\\UserController::viewAction')),
+            |       '$otherViewRoute' => array(1 => array('_controller' => 'Oro\\\\UserController::viewAction')),
+            |       '$createRoute' => array(1 => array('_controller' => 'Oro\\\\UserController::createAction')),
+            |       'service_route' => array(1 => array('_controller' => 'oro_user.controller:viewAction')),
+            |   );
+            |}
+            """.stripMargin()
+        )
+    }
+
+    def void "test: find routes of controller action"() {
+        assertEquals([otherViewRoute, viewRoute].sort(), RouteIndex.instance(myFixture.project).findRouteNames("\\Oro\\UserController", "viewAction") as List)
+        assertEquals([createRoute], RouteIndex.instance(myFixture.project).findRouteNames("Oro\\UserController", "createAction") as List)
+        assertEquals([], RouteIndex.instance(myFixture.project).findRouteNames("Oro\\UserController", "listAction") as List)
+    }
+
+    def void "test: show routes of controller actions in gutter"() {
+        configureByText(
+            """
+            |<?php
+            |namespace Oro;
+            |class UserController {
+            |    public function viewAction(){}
+            |    public function createAction(){}
+            |    public function listAction(){}
+            |}
+            """.stripMargin()
+        )
+
+        def tooltips = myFixture.findAllGutters().collect { it.tooltipText }.sort()
+
+        assertEquals(["Route: $createRoute".toString(), "Route: ${[otherViewRoute, viewRoute].sort().join(", ")}".toString()].sort(), tooltips)
+    }
+
+    def void "test: navigate to route definitions from gutter"() {
+        configureByText(
+            """
+            |<?php
+            |namespace Oro;
+            |class UserController {
+            |    public function viewAction(){}
+            |}
+            """.stripMargin()
+        )
+
+        def gutter = myFixture.findAllGutters().find { it.tooltipText?.startsWith("Route:") } as LineMarkerInfo.LineMarkerGutterIconRenderer
+        def targets = (gutter.lineMarkerInfo as RelatedItemLineMarkerInfo).createGotoRelatedItems().collect { it.element }
+
+        assertEquals(
+            ["'$otherViewRoute' =>", "'$viewRoute' =>"].collect { dump.text.indexOf(it) }.sort(),
+            targets.collect { it.textRange.startOffset }.sort()
+        )
+        assertEquals([otherViewRoute, viewRoute].sort(), targets.collect { (it as StringLiteralExpression).contents }.sort())
+    }
+}
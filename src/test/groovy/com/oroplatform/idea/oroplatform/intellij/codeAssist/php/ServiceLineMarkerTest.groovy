@@ -0,0 +1,105 @@
+package com.oroplatform.idea.oroplatform.intellij.codeAssist.php
+
+import com.intellij.codeInsight.daemon.LineMarkerInfo
+import com.intellij.codeInsight.daemon.RelatedItemLineMarkerInfo
+import com.intellij.psi.xml.XmlTag
+import com.oroplatform.idea.oroplatform.intellij.codeAssist.TestCase
+import org.jetbrains.yaml.psi.YAMLKeyValue
+
+class ServiceLineMarkerTest extends TestCase {
+    @Override
+    String fileName() {
+        return "src/Oro/UserManager.php"
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp()
+
+        myFixture.addFileToProject("Resources/config/services.yml",
+            """
+            |parameters:
+            |  acme.user_manager.class: Oro\\UserManager
+            |services:
+            |  acme.user_manager:
+            |    class: Oro\\UserManager
+            |    tags:
+            |      - { name: kernel.event_listener }
+            |      - { name: "acme.tag<b>" }
+            |  acme.parameter_manager:
+            |    class: '%acme.user_manager.class%'
+            |  acme.other_manager:
+            |    class: Oro\\OtherManager
+            """.stripMargin()
+        )
+        myFixture.addFileToProject("Resources/config/services.xml",
+            """
+            |<?xml version="1.0" ?>
+            |<container>
+            |  <services>
+            |    <service id="acme.xml_manager" class="Oro\\UserManager"/>
+            |  </services>
+            |</container>
+            """.stripMargin()
+        )
+    }
+
+    def void "test: show services of class in gutter"() {
+        configureByText(
+            """
+            |<?php
+            |namespace Oro;
+            |class UserManager {}
+            |class UnregisteredManager {}
+            """.stripMargin()
+        )
+
+        def gutters = serviceGutters()
+
+        assertEquals(1, gutters.size())
+        assertTrue(gutters[0].tooltipText.startsWith("<html>"))
+        assertTrue(gutters[0].tooltipText.endsWith("</html>"))
+        assertEquals(
+            [
+                "Registered as service 'acme.parameter_manager'",
+                "Registered as service 'acme.user_manager', tagged acme.tag&lt;b&gt;, kernel.event_listener",
+                "Registered as service 'acme.xml_manager'",
+            ],
+            gutters[0].tooltipText.replace("<html>", "").replace("</html>", "").split("<br/>").toList().sort()
+        )
+    }
+
+    def void "test: navigate to service definitions from gutter"() {
+        configureByText(
+            """
+            |<?php
+            |namespace Oro;
+            |class UserManager {}
+            """.stripMargin()
+        )
+
+        def targets = ((serviceGutters()[0] as LineMarkerInfo.LineMarkerGutterIconRenderer).lineMarkerInfo as RelatedItemLineMarkerInfo)
+            .createGotoRelatedItems()
+            .collect { it.element }
+
+        assertEquals(["acme.parameter_manager", "acme.user_manager"], targets.findAll { it instanceof YAMLKeyValue }.collect { it.keyText }.sort())
+        assertEquals(["acme.xml_manager"], targets.findAll { it instanceof XmlTag }.collect { it.getAttributeValue("id") })
+        assertEquals(3, targets.size())
+    }
+
+    def void "test: show no gutter for class without services"() {
+        configureByText(
+            """
+            |<?php
+            |namespace Oro;
+            |class UnregisteredManager {}
+            """.stripMargin()
+        )
+
+        assertEquals([], serviceGutters())
+    }
+
+    private def serviceGutters() {
+        myFixture.findAllGutters().findAll { it.tooltipText?.contains("Registered as service") }
+    }
+}
@@ -0,0 +1,75 @@
+package com.oroplatform.idea.oroplatform.intellij.codeAssist.yml
+
+import com.oroplatform.idea.oroplatform.intellij.codeAssist.TestCase
+import com.oroplatform.idea.oroplatform.intellij.indexes.yaml.YamlNodes
+import com.oroplatform.idea.oroplatform.intellij.indexes.yaml.YamlTokenReader
+import com.oroplatform.idea.oroplatform.schema.PropertyPath
+
+class MultiPropertyPathQueryTest extends TestCase {
+    @Override
+    String fileName() {
+        return "Resources/views/layouts/default/update.yml"
+    }
+
+    def void "test: find properties of all paths at once"() {
+        def file = myFixture.addFileToProject(fileName(), """
+            |layout:
+            |  actions:
+            |    - '@setBlockTheme':
+            |        themes: 'theme1.html.twig'
+            |    - '@setBlockTheme':
+            |        themes: ['theme2.html.twig', 'theme3.html.twig']
+            |    - '@add':
+            |        id: block1
+            """.stripMargin())
+        def themes = new PropertyPath("layout", "actions", "*", "*", "themes").pointsToValue()
+        def themesSequence = new PropertyPath("layout", "actions", "*", "*", "themes", "*").pointsToValue()
+        def ids = new PropertyPath("layout", "actions", "*", "*", "id").pointsToValue()
+        def query = new MultiPropertyPathQuery<String>()
+            .add(themes, "themes")
+            .add(themesSequence, "themes")
+            .add(ids, "ids")
+        def roots = YamlPsiElements.getMappingsFrom(file)
+        def found = [:].withDefault { [] }
+
+        query.getPropertiesFrom(roots, ["themes", "ids"], { value, property -> found[value] << property })
+
+        assertEquals(["theme1.html.twig", "theme2.html.twig", "theme3.html.twig"], found["themes"].sort())
+        assertEquals(["block1"], found["ids"])
+        assertEquals(
+            (YamlPsiElements.getPropertyFrom(themes, roots, [] as Set) + YamlPsiElements.getPropertyFrom(themesSequence, roots, [] as Set)).sort(),
+            found["themes"].sort()
+        )
+    }
+
+    def void "test: evaluate only paths of given values"() {
+        def file = myFixture.addFileToProject(fileName(), "a:\n  b: x\n  c: y\n")
+        def query = new MultiPropertyPathQuery<String>()
+            .add(new PropertyPath("a", "b").pointsToValue(), "b")
+            .add(new PropertyPath("a", "c").pointsToValue(), "c")
+        def found = []
+
+        query.getPropertiesFrom(YamlPsiElements.getMappingsFrom(file), ["c"], { value, property -> found << property })
+
+        assertEquals(["y"], found)
+    }
+
+    def void "test: find the same properties in nodes read without psi"() {
+        def contents = "a:\n  - b: x\n    c: y\n  - b: z\n  - { b: w, c: y }\nd: [a, b]\n"
+        def file = myFixture.addFileToProject(fileName(), contents)
+        def query = new MultiPropertyPathQuery<String>()
+            .add(new PropertyPath("a", "*", "b").pointsToValue(), "values")
+            .add(new PropertyPath("a", "*", "c"), "keys")
+            .add(new PropertyPath("a", "*", "b").pointsToValue().withCondition(new PropertyPath.Condition(new PropertyPath("..", "c"), "y")), "condition")
+            .add(new PropertyPath("d", "..").pointsToValue(), "parent")
+        def values = ["values", "keys", "condition", "parent"]
+        def fromPsi = []
+        def fromNodes = []
+
+        query.getPropertiesFrom(YamlPsiElements.getMappingsFrom(file), values, { value, property -> fromPsi << [value, property] })
+        query.getPropertiesFromNodes(YamlNodes.getMappingNodes(YamlTokenReader.read(contents)), values, { value, property -> fromNodes << [value, property] })
+
+        assertFalse(fromPsi.isEmpty())
+        assertEquals(fromPsi, fromNodes)
+    }
+}
@@ -0,0 +1,150 @@
+package com.oroplatform.idea.oroplatform.intellij.codeAssist.yml
+
+import com.intellij.openapi.command.WriteCommandAction
+import com.intellij.psi.PsiDocumentManager
+import com.intellij.psi.PsiElement
+import com.intellij.psi.util.PsiElementFilter
+import com.intellij.psi.util.PsiTreeUtil
+import com.oroplatform.idea.oroplatform.intellij.codeAssist.TestCase
+import com.oroplatform.idea.oroplatform.schema.PropertyPath
+import org.jetbrains.yaml.psi.*
+
+class PropertyPathQueryTest extends TestCase {
+    def random = new Random(1)
+    def keys = ["a", "b", "c"]
+    def scalars = ["x", "y", "a", "b"]
+
+    @Override
+    String fileName() {
+        return "Resources/config/some.yml"
+    }
+
+    def void "test: query the same values as walking the tree"() {
+        100.times { fileIndex ->
+            def file = myFixture.addFileToProject("Resources/config/some$fileIndex.yml", render(randomMapping(3), 0).join("\n"))
+            def elements = PsiTreeUtil.collectElements(file, { true } as PsiElementFilter)
+
+            50.times {
+                def path = randomPath()
+                def element = elements[random.nextInt(elements.length)]
+                def message = "${file.text}\npath: ${path.properties.collect { it.isThis() ? '$this' : it.name }}, value: ${path.doesPointToValue()}, element: ${element.text}".toString()
+
+                assertEquals(message, expectedProperties(path, element), YamlPsiElements.getPropertyFrom(path, element) as List)
+                assertSameElements(message, expectedElements(path, element), YamlPsiElements.getElementsByPath(path, element) as List)
+                //cached result
+                assertEquals(message, expectedProperties(path, element), YamlPsiElements.getPropertyFrom(path, element) as List)
+            }
+        }
+    }
+
+    def void "test: forget cached values when file changes"() {
+        def file = myFixture.configureByText("some.yml", "a:\n  b: x\n")
+        def path = new PropertyPath("a", "b").pointsToValue()
+
+        assertEquals(["x"], YamlPsiElements.getPropertyFrom(path, file.firstChild) as List)
+
+        WriteCommandAction.runWriteCommandAction(project) {
+            myFixture.editor.document.setText("a:\n  b: z\n")
+            PsiDocumentManager.getInstance(project).commitAllDocuments()
+        }
+
+        assertEquals(["z"], YamlPsiElements.getPropertyFrom(path, myFixture.file.firstChild) as List)
+    }
+
+    private static void assertSameElements(String message, List expected, List actual) {
+        assertEquals(message, expected.size(), actual.size())
+        expected.eachWithIndex { element, i -> assertSame(message, element, actual[i]) }
+    }
+
+    private def randomValue(int depth) {
+        def type = depth == 0 ? 0 : random.nextInt(3)
+        type == 0 ? scalars[random.nextInt(scalars.size())] : type == 1 ? randomMapping(depth - 1) : randomSequence(depth - 1)
+    }
+
+    private def randomMapping(int depth) {
+        def shuffled = new ArrayList(keys)
+        Collections.shuffle(shuffled, random)
+        shuffled.take(1 + random.nextInt(keys.size())).collectEntries { [(it): randomValue(depth)] }
+    }
+
+    private def randomSequence(int depth) {
+        (0..random.nextInt(3)).collect { random.nextBoolean() || depth == 0 ? scalars[random.nextInt(scalars.size())] : randomMapping(depth) }
+    }
+
+    private static List<String> render(value, int indent) {
+        def pad = " " * indent
+
+        if(value instanceof Map) {
+            value.collectMany { key, child ->
+                child instanceof String ? ["$pad$key: $child".toString()] : ["$pad$key:".toString()] + render(child, indent + 2)
+            }
+        } else {
+            value.collectMany { item ->
+                if(item instanceof String) return ["$pad- $item".toString()]
+                def lines = render(item, indent + 2)
+                ["$pad- ${lines[0].substring(indent + 2)}".toString()] + lines.drop(1)
+            }
+        }
+    }
+
+    private def randomPath() {
+        def steps = ["a", "b", "c", "*", '$this', ".."]
+        def path = new PropertyPath((0..<random.nextInt(5)).collect { steps[random.nextInt(steps.size())] } as String[])
+
+        if(random.nextBoolean()) path = path.pointsToValue()
+        if(random.nextInt(5) == 0) {
+            path = path.withCondition(new PropertyPath.Condition(new PropertyPath(steps[random.nextInt(3)]), scalars[random.nextInt(scalars.size())]))
+        }
+
+        path
+    }
+
+    //reference implementation - straightforward walk of the tree, step by step
+
+    private static List<String> expectedProperties(PropertyPath path, PsiElement element) {
+        def elements = select(path.properties as List, YamlPsiElements.getMappingsFrom(element.containingFile), YamlPsiElements.getAncestors(element))
+        path.doesPointToValue() ? values(path, elements) : parentKeyValues(elements).collect { it.keyText }
+    }
+
+    private static List expectedElements(PropertyPath path, PsiElement element) {
+        def elements = select(path.properties as List, YamlPsiElements.getMappingsFrom(element.containingFile), YamlPsiElements.getAncestors(element))
+        path.doesPointToValue() ? elements.findAll { it instanceof YAMLScalar } + elements.findAll { it instanceof YAMLMapping }.collectMany { it.keyValues } : parentKeyValues(elements)
+    }
+
+    private static List select(List<PropertyPath.Property> properties, List elements, Set ancestors) {
+        if(properties.isEmpty()) return elements
+
+        def property = properties.head()
+        def selected
+
+        if(property.isThis()) {
+            selected = elements.collectMany { it.children.findAll { it instanceof YAMLKeyValue } }.collect { it.value }.findAll { it != null && ancestors.contains(it) } +
+                sequenceItems(elements).findAll { ancestors.contains(it) }
+        } else {
+            selected = elements.findAll { it instanceof YAMLMapping }.collectMany { mapping ->
+                (property.isWildcard() ? mapping.keyValues : [mapping.getKeyValueByKey(property.name)]).findAll { it != null }.collect { it.value }.findAll { it != null }
+            } + (property.isWildcard() ? sequenceItems(elements) : elements.findAll { it instanceof YAMLSequence }) +
+                (property.name == ".." ? elements.collect { it.parent?.parent }.findAll { it instanceof YAMLPsiElement } : [])
+        }
+
+        select(properties.tail(), selected, ancestors)
+    }
+
+    private static List sequenceItems(List elements) {
+        elements.findAll { it instanceof YAMLSequence }.collectMany { it.items }.collect { it.value }.findAll { it != null }
+    }
+
+    private static List<YAMLKeyValue> parentKeyValues(List elements) {
+        elements.collect { it.parent }.findAll { it instanceof YAMLKeyValue }
+    }
+
+    private static List<String> values(PropertyPath path, List elements) {
+        def condition = path.condition.orElse(null)
+
+        if(condition != null && !elements.isEmpty() && !values(new PropertyPath(), select(condition.relativePropertyPath.properties as List, elements, [] as Set)).contains(condition.expectedValue)) {
+            return []
+        }
+
+        elements.findAll { it instanceof YAMLScalar }.collect { it.textValue } + elements.findAll { it instanceof YAMLMapping }.collectMany { it.keyValues }.collect { it.keyText }
+    }
+}
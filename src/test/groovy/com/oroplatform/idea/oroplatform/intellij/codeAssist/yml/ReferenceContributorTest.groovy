@@ -0,0 +1,54 @@
+package com.oroplatform.idea.oroplatform.intellij.codeAssist.yml
+
+import com.intellij.psi.PsiElement
+import com.intellij.psi.impl.source.tree.LeafPsiElement
+import com.intellij.psi.util.PsiTreeUtil
+import com.intellij.testFramework.PlatformTestUtil
+import com.oroplatform.idea.oroplatform.intellij.codeAssist.TestCase
+import com.oroplatform.idea.oroplatform.schema.SchemasV2
+
+class ReferenceContributorTest extends TestCase {
+    @Override
+    String fileName() {
+        return SchemasV2.FilePathPatterns.DATAGRID
+    }
+
+    def void "test: provide schema references only for scalars and keys"() {
+        configureByText("datagrids:${grids(5)}\n")
+        def elements = PsiTreeUtil.collectElements(myFixture.file, { true }) as PsiElement[]
+
+        assertTrue(elements.any { it.references.length > 0 })
+        assertEquals([], elements.findAll { it instanceof LeafPsiElement && it.references.length > 0 }.collect { it.text })
+    }
+
+    def void "test: collect references quickly in large file"() {
+        configureByText("datagrids:${grids(200)}\n")
+        def elements = PsiTreeUtil.collectElements(myFixture.file, { true }) as PsiElement[]
+
+        PlatformTestUtil.startPerformanceTest("datagrid references", 3000, {
+            def references = elements.sum { it.references.length }
+            assertTrue(references > 0)
+        }).cpuBound().assertTiming()
+    }
+
+    private static def grids(int count) {
+        (1..count).collect { i ->
+            """
+            |  grid$i:
+            |    extended_entity_name: Oro\\Bundle\\SomeBundle\\Entity\\Entity$i
+            |    acl_resource: acl_$i
+            |    source:
+            |      type: orm
+            |      query:
+            |        select: [e.id, e.name]
+            |        from:
+            |          - { table: Oro\\Bundle\\SomeBundle\\Entity\\Entity$i, alias: e }
+            |    columns:
+            |      id:
+            |        label: some.label.id
+            |      name:
+            |        label: some.label.name
+            |        frontend_type: string""".stripMargin()
+        }.join("")
+    }
+}
@@ -0,0 +1,89 @@
+package com.oroplatform.idea.oroplatform.intellij.codeAssist.yml
+
+import com.intellij.testFramework.PlatformTestUtil
+import com.oroplatform.idea.oroplatform.intellij.codeAssist.InspectionTest
+import com.oroplatform.idea.oroplatform.intellij.indexes.TranslationIndex
+import com.oroplatform.idea.oroplatform.intellij.indexes.TranslationsModificationTracker
+
+class TranslationCoverageInspectionTest extends InspectionTest {
+    @Override
+    String fileName() {
+        return "Resources/translations/messages.en.yml"
+    }
+
+    @Override
+    def void setUp() {
+        super.setUp()
+        myFixture.enableInspections(TranslationCoverageInspection.class)
+
+        myFixture.addFileToProject("Acme/Resources/translations/messages.pl.yml", "oro:\n  user:\n    label: Użytkownik\n    old: Stary\n")
+        myFixture.addFileToProject("Acme/Resources/translations/messages.de.yml", "oro.user.plural: Benutzer\n")
+        myFixture.addFileToProject("Acme/Resources/translations/validators.de.yml", "oro.user.label: Benutzer\n")
+    }
+
+    def void "test: detect translations missing in other locales of the same domain"() {
+        checkInspection(
+            """
+            |oro:
+            |  user:
+            |    label: <weak_warning descr="Translation 'oro.user.label' is missing in locales: de.">User</weak_warning>
+            |    plural: <weak_warning descr="Translation 'oro.user.plural' is missing in locales: pl.">Users</weak_warning>
+            """.stripMargin()
+        )
+    }
+
+    def void "test: detect translations missing in base locale of the same domain"() {
+        myFixture.addFileToProject("Acme/Resources/translations/messages.en.yml", "oro.user.label: User\n")
+        myFixture.addFileToProject("Acme/Resources/translations/validators.en.yml", "oro.user.blank: Blank\n")
+
+        checkInspection(
+            """
+            |oro:
+            |  user:
+            |    label: <weak_warning descr="Translation 'oro.user.label' is not defined in the 'en' locale.">Benutzer</weak_warning>
+            """.stripMargin(),
+            "Other/Resources/translations/validators.de.yml"
+        )
+    }
+
+    def void "test: detect translations missing in base locale"() {
+        myFixture.addFileToProject("Acme/Resources/translations/messages.en.yml", "oro.user.label: User\n")
+
+        checkInspection(
+            """
+            |oro:
+            |  user:
+            |    label: Użytkownik
+            |    old: <weak_warning descr="Translation 'oro.user.old' is not defined in the 'en' locale.">Stary</weak_warning>
+            """.stripMargin(),
+            "Other/Resources/translations/messages.pl.yml"
+        )
+    }
+
+    def void "test: ignore other yaml files"() {
+        checkInspection(
+            """
+            |oro:
+            |  user:
+            |    plural: Users
+            """.stripMargin(),
+            "Resources/config/messages.en.yml"
+        )
+    }
+
+    def void "test: coverage of many locales is built quickly"() {
+        ["pl", "de", "fr", "es", "it", "ru", "uk", "en"].each { locale ->
+            myFixture.addFileToProject("Big/Resources/translations/messages.${locale}.yml", (1..5000).collect { "oro.big.key$it: Value $it" }.join("\n"))
+        }
+
+        PlatformTestUtil.startPerformanceTest("translation coverage", 2000, {
+            10.times {
+                //as after a save of translation file
+                TranslationsModificationTracker.getInstance(myFixture.project).incModificationCount()
+                def coverage = TranslationIndex.instance(myFixture.project).getTranslationCoverage("messages")
+                assertEquals(5000, coverage.countKeys("en"))
+                assertEquals([], coverage.getMissingKeys("pl"))
+            }
+        }).cpuBound().assertTiming()
+    }
+}
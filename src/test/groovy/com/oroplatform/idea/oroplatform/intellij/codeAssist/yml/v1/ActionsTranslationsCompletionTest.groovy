@@ -1,7 +1,12 @@
 package com.oroplatform.idea.oroplatform.intellij.codeAssist.yml.v1
 
+import com.intellij.codeInsight.lookup.Lookup
+import com.intellij.codeInsight.lookup.LookupElementPresentation
 import com.oroplatform.idea.oroplatform.intellij.codeAssist.CompletionTest
 import com.oroplatform.idea.oroplatform.intellij.codeAssist.RandomIdentifiers
+import com.oroplatform.idea.oroplatform.intellij.codeAssist.TranslationCompletionContributor
+import com.oroplatform.idea.oroplatform.intellij.codeAssist.TranslationDocumentationProvider
+import com.oroplatform.idea.oroplatform.settings.OroPlatformSettings
 import com.oroplatform.idea.oroplatform.schema.SchemasV1
 
 
@@ -29,6 +34,12 @@ class ActionsTranslationsCompletionTest extends CompletionTest implements Random
         )
     }
 
+    @Override
+    protected void tearDown() throws Exception {
+        OroPlatformSettings.getInstance(myFixture.project).setTranslationLocale("")
+        super.tearDown()
+    }
+
     def void "test: suggest translation messages"() {
         suggestions(
             """
@@ -64,4 +75,105 @@ class ActionsTranslationsCompletionTest extends CompletionTest implements Random
             ["Value"]
         )
     }
+
+    def void "test: suggest limited number of translations with typed prefix"() {
+        def keys = (1..TranslationCompletionContributor.LIMIT + 10).collect { String.format("many.key%04d", it) }
+        myFixture.addFileToProject("other/Resources/translations/messages.en.yml", keys.collect { "$it: Value" }.join("\n"))
+
+        configureByText(
+            """
+            |operations:
+            |  op1:
+            |    frontend_options:
+            |      confirmation: many.k<caret>
+            """.stripMargin()
+        )
+        myFixture.completeBasic()
+
+        def lookupElements = myFixture.getLookupElementStrings()
+
+        assertEquals(TranslationCompletionContributor.LIMIT + 1, lookupElements.size())
+        assertContainsElements(lookupElements, keys.take(TranslationCompletionContributor.LIMIT))
+        assertContainsElements(lookupElements, TranslationCompletionContributor.MORE)
+        assertDoesntContain(lookupElements, keys[TranslationCompletionContributor.LIMIT], "oro.user.$trans1".toString())
+    }
+
+    def void "test: show more translations without inserting text"() {
+        def keys = (1..TranslationCompletionContributor.LIMIT + 10).collect { String.format("many.key%04d", it) }
+        myFixture.addFileToProject("other/Resources/translations/messages.en.yml", keys.collect { "$it: Value" }.join("\n"))
+
+        configureByText(
+            """
+            |operations:
+            |  op1:
+            |    frontend_options:
+            |      confirmation: many.k<caret>
+            """.stripMargin()
+        )
+        myFixture.completeBasic()
+        myFixture.lookup.currentItem = myFixture.lookupElements.find { it.lookupString == TranslationCompletionContributor.MORE }
+        myFixture.finishLookup(Lookup.NORMAL_SELECT_CHAR)
+
+        assertTrue(myFixture.editor.document.text.trim().endsWith("confirmation: many.k"))
+        assertEquals(myFixture.editor.document.text.indexOf("many.k") + "many.k".length(), myFixture.caretOffset)
+    }
+
+    def void "test: show translated values of suggested translations"() {
+        addCatalogues()
+        OroPlatformSettings.getInstance(myFixture.project).setTranslationLocale("pl")
+
+        configureByText(
+            """
+            |operations:
+            |  op1:
+            |    frontend_options:
+            |      confirmation: oro.user.<caret>
+            """.stripMargin()
+        )
+        myFixture.completeBasic()
+
+        def typeTexts = myFixture.lookupElements.collectEntries {
+            def presentation = new LookupElementPresentation()
+            it.renderElement(presentation)
+            [(it.lookupString): presentation.typeText]
+        }
+
+        assertEquals("Action <1> / Akcja", typeTexts["oro.user.$trans1".toString()])
+        assertNull(typeTexts["oro.user.value.$trans2".toString()])
+    }
+
+    def void "test: show translated values in documentation"() {
+        addCatalogues()
+
+        configureByText(
+            """
+            |operations:
+            |  op1:
+            |    frontend_options:
+            |      confirmation: oro.us<caret>er.$trans1
+            """.stripMargin()
+        )
+
+        def provider = new TranslationDocumentationProvider()
+        def element = provider.getCustomDocumentationElement(myFixture.editor, myFixture.file, myFixture.file.findElementAt(myFixture.caretOffset))
+        def documentation = provider.generateDoc(element, null)
+
+        assertTrue(documentation, documentation.contains("Action &lt;1&gt;"))
+        assertFalse(documentation, documentation.contains("Akcja"))
+
+        OroPlatformSettings.getInstance(myFixture.project).setTranslationLocale("pl")
+
+        assertTrue(provider.generateDoc(element, null).contains("Akcja"))
+    }
+
+    private def addCatalogues() {
+        myFixture.addFileToProject(
+            "app/cache/dev/translations/catalogue.en.abc.php",
+            "<?php\n\$catalogue = new MessageCatalogue('en', array('messages' => array('oro.user.$trans1' => 'Action <1>')));\n"
+        )
+        myFixture.addFileToProject(
+            "app/cache/dev/translations/catalogue.pl.abc.php",
+            "<?php\n\$catalogue = new MessageCatalogue('pl', array('messages' => array('oro.user.$trans1' => 'Akcja')));\n"
+        )
+    }
 }
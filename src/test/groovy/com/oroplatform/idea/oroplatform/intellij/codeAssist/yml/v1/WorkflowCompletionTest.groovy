@@ -1,5 +1,7 @@
 package com.oroplatform.idea.oroplatform.intellij.codeAssist.yml.v1
 
+import com.intellij.codeInsight.lookup.LookupManager
+import com.intellij.testFramework.PlatformTestUtil
 import com.oroplatform.idea.oroplatform.intellij.codeAssist.CompletionTest
 import com.oroplatform.idea.oroplatform.intellij.codeAssist.RandomIdentifiers
 import com.oroplatform.idea.oroplatform.schema.SchemasV1
@@ -696,4 +698,35 @@ class WorkflowCompletionTest extends CompletionTest implements RandomIdentifiers
             """.stripMargin()
         )
     }
+
+    def void "test: complete quickly in large file"() {
+        def workflows = (1..300).collect { i ->
+            """
+            |  workflow$i:
+            |    entity: Oro\\Bundle\\SomeBundle\\Entity\\Entity$i
+            |    steps:
+            |      step$i:
+            |        order: $i
+            |        allowed_transitions: [transition$i]
+            |    attributes:
+            |      attribute$i:
+            |        type: entity
+            |        options:
+            |          class: Oro\\Bundle\\SomeBundle\\Entity\\Entity$i
+            |    transitions:
+            |      transition$i:
+            |        step_to: step$i
+            |        transition_definition: transition${i}_definition""".stripMargin()
+        }.join("")
+
+        configureByText("workflows:$workflows\n  last:\n    <caret>\n")
+
+        PlatformTestUtil.startPerformanceTest("workflow completion", 3000, {
+            10.times {
+                myFixture.completeBasic()
+                assertContainsElements(myFixture.getLookupElementStrings(), "entity", "steps")
+                LookupManager.getInstance(myFixture.project).hideActiveLookup()
+            }
+        }).cpuBound().assertTiming()
+    }
 }
@@ -0,0 +1,92 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes
+
+import com.intellij.testFramework.PlatformTestUtil
+import com.intellij.testFramework.fixtures.LightPlatformCodeInsightFixtureTestCase
+import com.intellij.util.indexing.FileContent
+import com.jetbrains.php.lang.psi.PhpFile
+import com.oroplatform.idea.oroplatform.settings.OroPlatformSettings
+
+class CatalogueReaderTest extends LightPlatformCodeInsightFixtureTestCase {
+
+    def void "test: read the same messages as psi indexer"() {
+        assertSameMessages(
+            """
+            |<?php
+            |
+            |use Symfony\\Component\\Translation\\MessageCatalogue;
+            |
+            |\$catalogue = new MessageCatalogue('pl', array (
+            |  'messages' =>
+            |  array (
+            |    'oro.user.save' => 'Zapisz',
+            |    'oro.user.quoted' => 'it\\'s \\\\ quoted',
+            |    0 => "double",
+            |  ),
+            |  'validators' =>
+            |  array (
+            |  ),
+            |));
+            |
+            |\$catalogueEn = new MessageCatalogue('en', [
+            |  'messages' => [
+            |    'oro.user.save' => 'Save',
+            |  ],
+            |]);
+            |\$catalogue->addFallbackCatalogue(\$catalogueEn);
+            |
+            |return \$catalogue;
+            """.stripMargin().trim()
+        )
+    }
+
+    def void "test: read nothing from file without catalogues"() {
+        assertSameMessages("<?php\nreturn array();\n")
+    }
+
+    def void "test: give up on content exposed differently by psi"() {
+        [
+            "<?php new MessageCatalogue('en', array('messages' => array('a' => \"b\\nc\")));",
+            "<?php new MessageCatalogue('en', array('messages' => array('a' => \"\$b\")));",
+            "<?php new MessageCatalogue('en', array('messages' => array('a' => 'b' . 'c')));",
+            "<?php new MessageCatalogue('en', array('messages' => array('a' => B)));",
+            "<?php new MessageCatalogue(\$locale, array());",
+            "<?php new MessageCatalogue('en', \$messages);",
+            "<?php new MessageCatalogue('en', array('messages' => array('a' => 'b' 'c' => 'd')));",
+            "<?php new MessageCatalogue('en', array('messages' => array('a' => 'b') 'validators' => array()));",
+        ].each {
+            assertFalse(it, CatalogueReader.read(it, { locale, domain, messages -> }))
+        }
+    }
+
+    def void "test: stream indexer falls back to psi indexer"() {
+        def contents = "<?php\n\$catalogue = new MessageCatalogue('en', array('messages' => array('a' => \"b\\nc\", 'd' => 'e')));\n"
+        def file = myFixture.configureByText("catalogue.en.php", contents) as PhpFile
+        OroPlatformSettings.getInstance(project).setPluginEnabled(true)
+        def fileContent = [getContentAsText: { contents }, getPsiFile: { file }, getProject: { project }] as FileContent
+
+        assertEquals(new TranslationCatalogueFileBasedIndex().indexer.map(file), new TranslationCatalogueFileBasedIndex().indexer.map(fileContent))
+        assertEquals(["a", "d"] as Set, new TranslationCatalogueFileBasedIndex().indexer.map(fileContent).keySet())
+    }
+
+    def void "test: reading throughput"() {
+        def messages = (1..5000).collect { "    'oro.some.message$it' => 'Some message $it',\n" }.join("")
+        def contents = "<?php\n\$catalogue = new MessageCatalogue('en', array (\n  'messages' =>\n  array (\n$messages  ),\n));\n"
+
+        PlatformTestUtil.startPerformanceTest("translation catalogue reading", 2000, {
+            10.times {
+                def count = 0
+                assertTrue(CatalogueReader.read(contents, { locale, domain, domainMessages -> count += domainMessages.size() }))
+                assertEquals(5000, count)
+            }
+        }).cpuBound().assertTiming()
+    }
+
+    private def assertSameMessages(String contents) {
+        def file = myFixture.configureByText("catalogue.pl.php", contents) as PhpFile
+        def streamed = [:]
+        def indexer = new TranslationCatalogueFileBasedIndex().indexer as TranslationsDataIndexer
+
+        assertTrue(CatalogueReader.read(contents, { locale, domain, messages -> indexer.indexDomain(streamed, locale, domain, messages) }))
+        assertEquals(indexer.map(file), streamed)
+    }
+}
@@ -0,0 +1,97 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes
+
+import com.intellij.openapi.command.WriteCommandAction
+import com.oroplatform.idea.oroplatform.intellij.codeAssist.TestCase
+
+class ContainerDumpTest extends TestCase {
+    @Override
+    String fileName() {
+        return "Resources/config/services.yml"
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp()
+
+        myFixture.addFileToProject("Resources/config/services.yml",
+            """
+            |services:
+            |  config_service:
+            |    class: Oro\\AcmeBundle\\ConfigService
+            |  decorated_service:
+            |    class: Oro\\AcmeBundle\\DecoratedService
+            |    tags:
+            |      - { name: form.type, alias: config_alias }
+            """.stripMargin()
+        )
+    }
+
+    def void "test: use services config files without container dump"() {
+        assertEquals(["config_service", "decorated_service"], ServicesIndex.instance(myFixture.project).findServices().sort())
+        assertEquals(["config_alias"], aliases("form.type"))
+    }
+
+    def void "test: use container dump when it is present"() {
+        addContainerDump()
+
+        def servicesIndex = ServicesIndex.instance(myFixture.project)
+
+        assertEquals(["alias_service", "decorated_service", "decorator_service"], servicesIndex.findServices().sort())
+        assertEquals("Oro\\AcmeBundle\\Decorator", servicesIndex.findService("decorated_service").get().className.get().className)
+        assertEquals(["dump_alias"], aliases("form.type"))
+    }
+
+    def void "test: resolve aliases from container dump"() {
+        addContainerDump()
+
+        def service = ServicesIndex.instance(myFixture.project).findService("alias_service").get()
+
+        assertEquals("Oro\\AcmeBundle\\Decorator", service.className.get().className)
+        assertEquals(["form.type"], service.tags.collect { it.name })
+    }
+
+    def void "test: switch between container dump and config files when dump is created or removed"() {
+        def servicesIndex = ServicesIndex.instance(myFixture.project)
+
+        assertEquals(["config_service", "decorated_service"], servicesIndex.findServices().sort())
+
+        def dump = addContainerDump()
+
+        assertEquals(["alias_service", "decorated_service", "decorator_service"], servicesIndex.findServices().sort())
+        assertEquals(["decorated_service"], servicesIndex.findServices { it.className.present }.findAll { it == "decorated_service" })
+
+        WriteCommandAction.runWriteCommandAction(project) {
+            dump.virtualFile.delete(this)
+        }
+
+        assertEquals(["config_service", "decorated_service"], servicesIndex.findServices().sort())
+        assertEquals(["config_alias"], aliases("form.type"))
+    }
+
+    private def addContainerDump() {
+        myFixture.addFileToProject("app/cache/dev/appDevDebugProjectContainer.xml",
+            """
+            |<?xml version="1.0" encoding="utf-8"?>
+            |<container xmlns="http://symfony.com/schema/dic/services">
+            |  <parameters>
+            |    <parameter key="some.class">Oro\\AcmeBundle\\Other</parameter>
+            |  </parameters>
+            |  <services>
+            |    <service id="decorated_service" class="Oro\\AcmeBundle\\Decorator">
+            |      <tag name="form.type" alias="dump_alias"/>
+            |      <argument type="service">
+            |        <service class="Oro\\AcmeBundle\\Inline"/>
+            |      </argument>
+            |    </service>
+            |    <service id="decorator_service" class="Oro\\AcmeBundle\\DecoratedService"/>
+            |    <service id="alias_service" alias="decorated_service"/>
+            |  </services>
+            |</container>
+            """.stripMargin().trim()
+        )
+    }
+
+    private def aliases(String tag) {
+        ServicesIndex.instance(myFixture.project).getServiceAliasesByTag(tag).collect { it.alias }
+    }
+}
@@ -0,0 +1,68 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes
+
+import com.intellij.psi.util.PsiTreeUtil
+import com.intellij.testFramework.fixtures.LightPlatformCodeInsightFixtureTestCase
+import com.jetbrains.php.lang.psi.elements.PhpClass
+import com.oroplatform.idea.oroplatform.symfony.EntityExtensionMethod
+
+class EntityExtensionReaderTest extends LightPlatformCodeInsightFixtureTestCase {
+
+    def void "test: read public methods with signatures and return types"() {
+        def methods = EntityExtensionReader.read(
+            """
+            |<?php
+            |namespace Extend\\Entity;
+            |
+            |class EX_OroUserBundle_User
+            |{
+            |    public function __construct() {}
+            |
+            |    /**
+            |     * @param \\DateTime \$date
+            |     * @return \\Oro\\Bundle\\UserBundle\\Entity\\User|null
+            |     */
+            |    public function getOwner(\\DateTime \$date = null,
+            |        array \$items = array())
+            |    {
+            |    }
+            |
+            |    /** @return string */
+            |    protected function getHidden() {}
+            |
+            |    public function getName(): ?string {}
+            |
+            |    public static function &create(\$value) {}
+            |}
+            """.stripMargin()
+        )
+
+        assertEquals([
+            new EntityExtensionMethod("getOwner", "\\DateTime \$date = null, array \$items = array()", "\\Oro\\Bundle\\UserBundle\\Entity\\User|null"),
+            new EntityExtensionMethod("getName", "", "string"),
+            new EntityExtensionMethod("create", "\$value", null)
+        ], methods)
+    }
+
+    def void "test: read the same method names as psi"() {
+        def random = new Random(1)
+        def types = ["string", "int", "\\DateTime", "\\Oro\\Bundle\\UserBundle\\Entity\\User"]
+
+        20.times { fileIndex ->
+            def methods = (0..random.nextInt(20)).collect { i ->
+                def visibility = ["public", "protected", "private", "public static"][random.nextInt(4)]
+                def name = (random.nextInt(5) == 0 ? "__" : "") + "method$i"
+                def doc = random.nextBoolean() ? "/**\n * @return ${types[random.nextInt(types.size())]}\n */\n" : ""
+                def parameters = (0..<random.nextInt(3)).collect { "\$p$it" + (random.nextBoolean() ? " = array()" : "") }.join(", ")
+
+                "$doc$visibility function $name($parameters)\n{\n    return \$this->field$i;\n}"
+            }
+            def file = myFixture.configureByText("EX_OroAcmeBundle_Entity${fileIndex}.php", "<?php\nclass EX_OroAcmeBundle_Entity$fileIndex {\n${methods.join("\n\n")}\n}\n")
+
+            def expected = PsiTreeUtil.findChildrenOfType(file, PhpClass).collectMany { it.ownMethods as List }
+                .findAll { it.access.isPublic() && !it.name.startsWith("_") }
+                .collect { it.name }
+
+            assertEquals(file.text, expected, EntityExtensionReader.read(file.text).collect { it.name })
+        }
+    }
+}
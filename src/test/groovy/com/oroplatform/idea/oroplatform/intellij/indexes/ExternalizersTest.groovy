@@ -0,0 +1,141 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes
+
+import com.intellij.util.io.DataExternalizer
+import com.oroplatform.idea.oroplatform.intellij.codeAssist.javascript.RequireJsConfig
+import com.oroplatform.idea.oroplatform.symfony.EntityExtensionMethod
+import com.oroplatform.idea.oroplatform.symfony.Route
+import com.oroplatform.idea.oroplatform.symfony.Service
+import com.oroplatform.idea.oroplatform.symfony.Tag
+import com.oroplatform.idea.oroplatform.symfony.TranslatedMessage
+import com.oroplatform.idea.oroplatform.symfony.Translation
+import org.junit.Test
+
+import static org.junit.Assert.*
+
+class ExternalizersTest {
+
+    @Test
+    def void "should read saved strings"() {
+        def externalizer = new EnumeratedStringExternalizer("name", "alias")
+
+        assertEquals("name", roundTrip(externalizer, "name"))
+        assertEquals("alias", roundTrip(externalizer, "alias"))
+        assertEquals("some", roundTrip(externalizer, "some"))
+        assertEquals("", roundTrip(externalizer, ""))
+        assertEquals("za\u017c\u00f3\u0142\u0107", roundTrip(externalizer, "za\u017c\u00f3\u0142\u0107"))
+        assertNull(roundTrip(externalizer, null))
+    }
+
+    @Test
+    def void "should store known strings as single byte"() {
+        def externalizer = new EnumeratedStringExternalizer("name", "alias")
+
+        assertEquals(1, save(externalizer, "alias").length)
+        assertEquals(1, save(externalizer, null).length)
+    }
+
+    @Test
+    def void "should read saved tag"() {
+        def tag = new Tag(["name": "oro_action.condition", "alias": "a|b", "custom": "value"])
+
+        assertEquals(tag, roundTrip(new TagExternalizer(), tag))
+        assertEquals(new Tag([:]), roundTrip(new TagExternalizer(), new Tag([:])))
+    }
+
+    @Test
+    def void "should read saved service"() {
+        def service = new Service("some_id", [
+            new Tag(["name": "oro_action.condition", "alias": "condition"]),
+            new Tag(["name": "oro_service_link", "service": "other_id"])
+        ], "Oro\\AcmeBundle\\SomeClass")
+
+        assertEquals(service, roundTrip(new ServiceExternalizer(), service))
+    }
+
+    @Test
+    def void "should read saved service without class and tags"() {
+        def service = new Service("some_id", [], null)
+
+        assertEquals(service, roundTrip(new ServiceExternalizer(), service))
+    }
+
+    @Test
+    def void "should read saved collection"() {
+        def externalizer = new CollectionExternalizer<Service>(new ServiceExternalizer())
+        def services = [new Service("id1", [], "Class1"), new Service("id2", [new Tag(["name": "tag"])], null)] as Set
+
+        assertEquals(services, roundTrip(externalizer, services) as Set)
+        assertEquals([] as Set, roundTrip(externalizer, []) as Set)
+    }
+
+    @Test
+    def void "should read values saved one after another"() {
+        def externalizer = new CollectionExternalizer<Service>(new ServiceExternalizer())
+        def bytes = new ByteArrayOutputStream()
+        def out = new DataOutputStream(bytes)
+        externalizer.save(out, [new Service("id1", [], null)])
+        externalizer.save(out, [new Service("id2", [], null)])
+
+        def input = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))
+
+        assertEquals([new Service("id1", [], null)] as Set, externalizer.read(input) as Set)
+        assertEquals([new Service("id2", [], null)] as Set, externalizer.read(input) as Set)
+    }
+
+    @Test
+    def void "should read saved route"() {
+        def route = new Route("Oro\\AcmeBundle\\Controller\\SomeController", "viewAction")
+
+        assertEquals(route, roundTrip(new RouteExternalizer(), route))
+        assertNull(roundTrip(new RouteExternalizer(), null))
+    }
+
+    @Test
+    def void "should read saved route with path and methods"() {
+        def route = new Route("Oro\\AcmeBundle\\Controller\\SomeController", "viewAction", "/some/view/{id}", ["GET", "PURGE"])
+
+        assertEquals(route, roundTrip(new RouteExternalizer(), route))
+    }
+
+    @Test
+    def void "should read saved translation"() {
+        def translation = new Translation("messages", "en", [4, 130, 131, 70000])
+
+        assertEquals(translation, roundTrip(new TranslationExternalizer(), translation))
+        assertEquals(new Translation("custom", "pt_BR", []), roundTrip(new TranslationExternalizer(), new Translation("custom", "pt_BR", [])))
+    }
+
+    @Test
+    def void "should read saved translated message"() {
+        def message = new TranslatedMessage("pl", "messages", "Zapisz \u017c\u00f3\u0142\u0107")
+
+        assertEquals(message, roundTrip(new TranslatedMessageExternalizer(), message))
+        assertEquals(new TranslatedMessage("en", "custom", ""), roundTrip(new TranslatedMessageExternalizer(), new TranslatedMessage("en", "custom", "")))
+    }
+
+    @Test
+    def void "should read saved entity extension method"() {
+        def method = new EntityExtensionMethod("getOwner", "\\DateTime \$date = null", "\\Oro\\Bundle\\UserBundle\\Entity\\User")
+
+        assertEquals(method, roundTrip(new EntityExtensionMethodExternalizer(), method))
+        assertEquals(new EntityExtensionMethod("getName", "", null), roundTrip(new EntityExtensionMethodExternalizer(), new EntityExtensionMethod("getName", "", null)))
+    }
+
+    @Test
+    def void "should read saved requirejs config"() {
+        def config = new RequireJsConfig(["alias": "bundles/oroui/js/path.js"], ["*": ["mapped": "oroui/js/mapped"], "oroui/js/app": [:]])
+
+        assertEquals(config, roundTrip(new RequireJsConfigExternalizer(), config))
+        assertEquals(new RequireJsConfig([:], [:]), roundTrip(new RequireJsConfigExternalizer(), new RequireJsConfig([:], [:])))
+    }
+
+    private static <T> T roundTrip(DataExternalizer<T> externalizer, T value) {
+        return externalizer.read(new DataInputStream(new ByteArrayInputStream(save(externalizer, value))))
+    }
+
+    private static <T> byte[] save(DataExternalizer<T> externalizer, T value) {
+        def bytes = new ByteArrayOutputStream()
+        externalizer.save(new DataOutputStream(bytes), value)
+        return bytes.toByteArray()
+    }
+}
@@ -0,0 +1,69 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes
+
+import com.intellij.openapi.command.WriteCommandAction
+import com.oroplatform.idea.oroplatform.intellij.codeAssist.TestCase
+
+class FilesModificationTrackerTest extends TestCase {
+    @Override
+    String fileName() {
+        return "Resources/translations/messages.en.yml"
+    }
+
+    def void "test: change on created, edited, moved and removed tracked files"() {
+        def file = changes { myFixture.addFileToProject("Resources/translations/messages.en.yml", "a: b").virtualFile }
+
+        changes { myFixture.saveText(file, "a: c") }
+        changes { write { file.rename(this, "messages.pl.yml") } }
+        def movedDir = myFixture.tempDirFixture.findOrCreateDir("Moved")
+        def otherDir = myFixture.tempDirFixture.findOrCreateDir("Other")
+
+        changes { write { file.move(this, movedDir) } }
+        noChanges { write { file.move(this, otherDir) } }
+        noChanges { write { file.delete(this) } }
+    }
+
+    def void "test: change on directories without walking them"() {
+        myFixture.addFileToProject("Bundle/Resources/config/services.yml", "services: ~")
+        def bundleDir = myFixture.findFileInTempDir("Bundle")
+
+        changes { myFixture.tempDirFixture.findOrCreateDir("Some/Dir") }
+        changes { write { bundleDir.rename(this, "RenamedBundle") } }
+        changes { write { bundleDir.delete(this) } }
+    }
+
+    def void "test: ignore created, moved and removed other files"() {
+        def file = myFixture.addFileToProject("Resources/config/services.yml", "services: ~").virtualFile
+        def movedDir = myFixture.tempDirFixture.findOrCreateDir("Moved")
+
+        noChanges { myFixture.addFileToProject("Resources/config/other.yml", "services: ~") }
+        noChanges { write { file.move(this, movedDir) } }
+        noChanges { write { file.delete(this) } }
+    }
+
+    def void "test: ignore edits of other files"() {
+        def file = myFixture.addFileToProject("Resources/config/services.yml", "services: ~").virtualFile
+
+        noChanges { myFixture.saveText(file, "services: []") }
+    }
+
+    private def changes(Closure action) {
+        def count = tracker().modificationCount
+        def result = action()
+        assertTrue(tracker().modificationCount > count)
+        result
+    }
+
+    private def noChanges(Closure action) {
+        def count = tracker().modificationCount
+        action()
+        assertEquals(count, tracker().modificationCount)
+    }
+
+    private def write(Closure action) {
+        WriteCommandAction.runWriteCommandAction(project) { action() }
+    }
+
+    private def tracker() {
+        TranslationsModificationTracker.getInstance(myFixture.project)
+    }
+}
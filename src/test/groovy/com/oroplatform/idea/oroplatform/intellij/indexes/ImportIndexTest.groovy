@@ -0,0 +1,39 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes
+
+import com.oroplatform.idea.oroplatform.intellij.codeAssist.TestCase
+
+class ImportIndexTest extends TestCase {
+    @Override
+    String fileName() {
+        return "Resources/config/workflow.yml"
+    }
+
+    def void "test: find files importing file directly"() {
+        myFixture.addFileToProject("Resources/config/workflow.yml", "imports:\n  - { resource: 'oro/imported.yml' }")
+        def imported = myFixture.addFileToProject("Resources/config/oro/imported.yml", "")
+
+        assertEquals(["workflow.yml"], names(ImportIndex.instance(myFixture.project).getImportingFilesFor(imported.virtualFile)))
+    }
+
+    def void "test: find files importing file through nested imports"() {
+        myFixture.addFileToProject("Resources/config/workflow.yml", "imports:\n  - { resource: 'oro/imported1.yml' }")
+        myFixture.addFileToProject("Resources/config/oro/imported1.yml", "imports:\n  - { resource: '../other/imported2.yml' }")
+        myFixture.addFileToProject("Resources/config/other/imported2.yml", "imports:\n  - { resource: 'imported3.yml' }")
+        def imported = myFixture.addFileToProject("Resources/config/other/imported3.yml", "imports:\n  - { resource: 'imported2.yml' }")
+
+        assertEquals(
+            ["imported1.yml", "imported2.yml", "imported3.yml", "workflow.yml"],
+            names(ImportIndex.instance(myFixture.project).getTransitivelyImportingFilesFor(imported.virtualFile))
+        )
+    }
+
+    def void "test: find no importing files for not imported file"() {
+        def file = myFixture.addFileToProject("Resources/config/workflow.yml", "")
+
+        assertEquals([], names(ImportIndex.instance(myFixture.project).getTransitivelyImportingFilesFor(file.virtualFile)))
+    }
+
+    private static def names(files) {
+        files.collect { it.name }.sort()
+    }
+}
@@ -0,0 +1,95 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes
+
+import com.intellij.openapi.application.ApplicationManager
+import com.intellij.openapi.command.WriteCommandAction
+import com.intellij.openapi.util.Computable
+import com.intellij.psi.PsiDocumentManager
+import com.oroplatform.idea.oroplatform.intellij.codeAssist.TestCase
+
+import java.util.concurrent.Callable
+import java.util.concurrent.Executors
+
+class RequireJsIndexTest extends TestCase {
+    @Override
+    String fileName() {
+        return "Resources/config/requirejs.yml"
+    }
+
+    def void "test: merge configs of all requirejs files"() {
+        myFixture.addFileToProject("A/Resources/config/requirejs.yml", "config:\n  paths:\n    alias1: bundles/a/js/path1.js\n    common: bundles/a/js/common.js")
+        myFixture.addFileToProject("B/Resources/config/requirejs.yml", "config:\n  paths:\n    alias2: bundles/b/js/path2.js\n    common: bundles/b/js/common.js\n  map:\n    '*':\n      alias3: b/js/mapped")
+        myFixture.addFileToProject("B/Resources/config/other.yml", "config:\n  paths:\n    alias4: bundles/b/js/path4.js")
+
+        def config = RequireJsIndex.instance(myFixture.project).getRequireJsConfig()
+
+        assertEquals(Optional.of("bundles/a/js/path1.js"), config.getPathForAlias("alias1"))
+        assertEquals(Optional.of("bundles/b/js/path2.js"), config.getPathForAlias("alias2"))
+        assertEquals(Optional.of("bundles/b/js/common.js"), config.getPathForAlias("common"))
+        assertEquals(Optional.of("alias3"), config.getPackageAliasFor("some", "b/js/mapped"))
+        assertEquals(Optional.empty(), config.getPathForAlias("alias4"))
+    }
+
+    def void "test: forget merged config when requirejs file changes"() {
+        configureByText("config:\n  paths:\n    alias1: bundles/a/js/path1.js")
+
+        assertEquals(Optional.of("bundles/a/js/path1.js"), RequireJsIndex.instance(myFixture.project).getRequireJsConfig().getPathForAlias("alias1"))
+
+        WriteCommandAction.runWriteCommandAction(project) {
+            myFixture.editor.document.setText("config:\n  paths:\n    alias2: bundles/a/js/path2.js")
+            PsiDocumentManager.getInstance(project).commitAllDocuments()
+        }
+
+        def config = RequireJsIndex.instance(myFixture.project).getRequireJsConfig()
+
+        assertEquals(Optional.empty(), config.getPathForAlias("alias1"))
+        assertEquals(Optional.of("bundles/a/js/path2.js"), config.getPathForAlias("alias2"))
+    }
+
+    def void "test: read the same merged config from many threads"() {
+        (1..20).each {
+            myFixture.addFileToProject("Bundle$it/Resources/config/requirejs.yml", "config:\n  paths:\n    alias$it: bundles/bundle$it/js/path.js")
+        }
+        def expected = RequireJsIndex.instance(myFixture.project).getRequireJsConfig()
+        def executor = Executors.newFixedThreadPool(4)
+
+        try {
+            def futures = (1..100).collect {
+                executor.submit({
+                    ApplicationManager.application.runReadAction({
+                        RequireJsIndex.instance(myFixture.project).getRequireJsConfig().getAliasForPath("bundles/bundle20/js/path.js")
+                    } as Computable)
+                } as Callable)
+            }
+
+            futures.each { assertEquals(Optional.of("alias20"), it.get()) }
+            assertSame(expected, RequireJsIndex.instance(myFixture.project).getRequireJsConfig())
+        } finally {
+            executor.shutdown()
+        }
+    }
+
+    def void "test: find bundle dirs by module prefix"() {
+        myFixture.addFileToProject("vendor/Oro/Bundle/UIBundle/OroUIBundle.php", "<?php\nnamespace Oro\\Bundle\\UIBundle;\n\nclass OroUIBundle extends Bundle {}\n")
+        myFixture.addFileToProject("src/Acme/Bundle/DemoBundle/AcmeDemoBundle.php", "<?php\nnamespace Acme\\Bundle\\DemoBundle {\n  class AcmeDemoBundle extends Bundle {}\n}\n")
+        myFixture.addFileToProject("src/Acme/Bundle/DemoBundle/Entity/NotBundle.php", "<?php\nnamespace Acme\\Bundle\\DemoBundle\\Entity;\n\nclass NotBundle {}\n")
+
+        def index = RequireJsIndex.instance(myFixture.project)
+        def uiDir = myFixture.findFileInTempDir("vendor/Oro/Bundle/UIBundle")
+
+        assertEquals([uiDir], index.findBundleDirs("oroui") as List)
+        assertEquals(["DemoBundle"], index.findBundleDirs("acmedemo").collect { it.name })
+        assertEquals([], index.findBundleDirs("acmeentity") as List)
+        assertEquals(Optional.of("oroui"), index.findModulePrefix(uiDir))
+        assertEquals(2, index.findAllBundleDirs().size())
+    }
+
+    def void "test: find bundle dirs of bundle added after previous lookup"() {
+        def index = RequireJsIndex.instance(myFixture.project)
+
+        assertEquals([], index.findBundleDirs("oroui") as List)
+
+        myFixture.addFileToProject("vendor/Oro/Bundle/UIBundle/OroUIBundle.php", "<?php\nnamespace Oro\\Bundle\\UIBundle;\n\nclass OroUIBundle extends Bundle {}\n")
+
+        assertEquals(["UIBundle"], index.findBundleDirs("oroui").collect { it.name })
+    }
+}
@@ -0,0 +1,132 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes
+
+import com.intellij.testFramework.PlatformTestUtil
+import com.intellij.testFramework.fixtures.LightPlatformCodeInsightFixtureTestCase
+import com.intellij.util.indexing.FileContent
+import com.jetbrains.php.lang.psi.PhpFile
+import com.oroplatform.idea.oroplatform.settings.OroPlatformSettings
+import com.oroplatform.idea.oroplatform.symfony.Route
+
+class RouteDumpReaderTest extends LightPlatformCodeInsightFixtureTestCase {
+    def routes = [
+        "'_wdt' => array (  0 =>   array (    0 => 'token',  ),  1 =>   array (    '_controller' => 'web_profiler.controller.profiler:toolbarAction',  ),  2 =>   array (  ),  3 =>   array (    0 =>     array (      0 => 'variable',      1 => '/',      2 => '[^/]++',      3 => 'token',    ),    1 =>     array (      0 => 'text',      1 => '/_wdt',    ),  ),  4 =>   array (  ),  5 =>   array (  ),)",
+        "'oro_user_view' => array (  0 =>   array (    0 => 'id',  ),  1 =>   array (    '_controller' => 'Oro\\\\Bundle\\\\UserBundle\\\\Controller\\\\UserController::viewAction',  ),  2 =>   array (    'id' => '\\\\d+',    '_method' => 'GET|post',  ),  3 =>   array (    0 =>     array (      0 => 'variable',      1 => '/',      2 => '\\\\d+',      3 => 'id',    ),    1 =>     array (      0 => 'text',      1 => '/user/view',    ),  ),  4 =>   array (  ),  5 =>   array (  ),)",
+        "'oro_user_index' => array (  0 =>   array (  ),  1 =>   array (    '_format' => 'html',    '_controller' => 'Oro\\\\Bundle\\\\UserBundle\\\\Controller\\\\UserController::indexAction',  ),  2 =>   array (  ),  3 =>   array (    0 =>     array (      0 => 'text',      1 => '/user',    ),  ),  4 =>   array (  ),  5 =>   array (  ),)",
+        "'no_controller' => array (  0 =>   array (  ),  1 =>   array (  ),  2 =>   array (  ),  3 =>   array (  ),  4 =>   array (  ),  5 =>   array (  ),)",
+    ]
+
+    def void "test: read the same routes as psi indexer from symfony >=2.8 dump"() {
+        assertSameRoutes(
+            """
+            |<?php
+            |
+            |use Symfony\\Component\\Routing\\RequestContext;
+            |
+            |class appDevUrlGenerator extends Symfony\\Component\\Routing\\Generator\\UrlGenerator
+            |{
+            |    private static \$declaredRoutes;
+            |
+            |    public function __construct(RequestContext \$context, LoggerInterface \$logger = null)
+            |    {
+            |        \$this->context = \$context;
+            |        if (null === self::\$declaredRoutes) {
+            |            self::\$declaredRoutes = array(
+            |        ${routes.join(",\n        ")},
+            |    );
+            |        }
+            |    }
+            |
+            |    public function generate(\$name, \$parameters = array(), \$referenceType = self::ABSOLUTE_PATH)
+            |    {
+            |        if (!isset(self::\$declaredRoutes[\$name])) {
+            |            throw new RouteNotFoundException();
+            |        }
+            |        list(\$variables, \$defaults) = self::\$declaredRoutes[\$name];
+            |    }
+            |}
+            """.stripMargin().trim()
+        )
+    }
+
+    def void "test: read the same routes as psi indexer from symfony <2.8 dump"() {
+        assertSameRoutes(
+            """
+            |<?php
+            |
+            |class appDevUrlGenerator extends Symfony\\Component\\Routing\\Generator\\UrlGenerator
+            |{
+            |    private static \$declaredRoutes = array(
+            |        ${routes.join(",\n        ")},
+            |    );
+            |}
+            """.stripMargin().trim()
+        )
+    }
+
+    def void "test: read route path, methods and controller"() {
+        def index = [:]
+
+        assertTrue(RouteDumpReader.read("<?php self::\$declaredRoutes = array(${routes.join(",")});", { name, route -> index[name] = route }))
+        assertEquals([
+            "_wdt": null,
+            "oro_user_view": new Route("Oro\\Bundle\\UserBundle\\Controller\\UserController", "viewAction", "/user/view/{id}", ["GET", "POST"]),
+            "oro_user_index": new Route("Oro\\Bundle\\UserBundle\\Controller\\UserController", "indexAction", "/user", []),
+        ], index)
+    }
+
+    def void "test: give up on content exposed differently by psi"() {
+        [
+            "<?php self::\$declaredRoutes = array('a' => array(1 => array('_controller' => \"A\\\\B::c\")));",
+            "<?php self::\$declaredRoutes = array('a' => array(1 => array('_controller' => A::B)));",
+            "<?php self::\$declaredRoutes = \$this->load();",
+            "<?php self::\$declaredRoutes = array('a' => array(1 => array('_controller' => 'A::b')) . 'c');",
+        ].each {
+            assertFalse(it, RouteDumpReader.read(it, { name, route -> }))
+        }
+    }
+
+    def void "test: stream indexer falls back to psi indexer"() {
+        OroPlatformSettings.getInstance(project).setPluginEnabled(true)
+        def contents = "<?php\nclass appDevUrlGenerator {\n    private static \$declaredRoutes = array(\n        'a' => array(1 => array('_controller' => \"A::b\\x41\")),\n        ${routes[2]},\n    );\n}\n"
+        def file = myFixture.configureByText("appDevUrlGenerator.php", contents) as PhpFile
+        def fileContent = [getContentAsText: { contents }, getPsiFile: { file }, getProject: { project }] as FileContent
+
+        def index = new RouteFileBasedIndex().indexer.map(fileContent)
+
+        assertEquals(new RouteFileBasedIndex.RoutePsiIndexer().map(file), index)
+        assertEquals(["a", "oro_user_index"] as Set, index.keySet())
+    }
+
+    def void "test: indexing throughput"() {
+        def manyRoutes = (1..20000).collect { routes[1].replace("oro_user_view", "oro_route_$it") }.join(",\n        ")
+        def contents = "<?php\nclass appDevUrlGenerator {\n    private static \$declaredRoutes = array(\n        $manyRoutes,\n    );\n}\n"
+
+        PlatformTestUtil.startPerformanceTest("url generator indexing", 5000, {
+            5.times {
+                def count = 0
+                assertTrue(RouteDumpReader.read(contents, { name, route -> count++ }))
+                assertEquals(20000, count)
+            }
+        }).cpuBound().assertTiming()
+    }
+
+    def void "test: read offsets of route names"() {
+        def contents = "<?php self::\$declaredRoutes = array(${routes.join(",")});"
+        def offsets = [:]
+
+        assertTrue(RouteDumpReader.read(contents, { name, route -> }, { name, offset -> offsets[name] = offset }))
+        assertEquals(["_wdt", "oro_user_view", "oro_user_index"].collectEntries { [(it): contents.indexOf("'$it' =>")] }, offsets)
+    }
+
+    private def assertSameRoutes(String contents) {
+        def file = myFixture.configureByText("appDevUrlGenerator.php", contents) as PhpFile
+        def streamed = [:]
+        def streamedOffsets = [:]
+        def psiOffsets = [:]
+
+        assertTrue(RouteDumpReader.read(contents, { name, route -> streamed[name] = route }, { name, offset -> streamedOffsets[name] = offset }))
+        assertEquals(new RouteFileBasedIndex.RoutePsiIndexer().map(file, psiOffsets), streamed)
+        assertEquals(psiOffsets, streamedOffsets)
+        assertEquals(3, streamed.size())
+    }
+}
@@ -0,0 +1,65 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes
+
+import com.oroplatform.idea.oroplatform.intellij.codeAssist.TestCase
+
+class ServiceClassesIndexTest extends TestCase {
+    @Override
+    String fileName() {
+        return "Resources/config/services.yml"
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp()
+
+        myFixture.addFileToProject("Resources/config/services.yml",
+            """
+            |parameters:
+            |  some.class: Oro\\AcmeBundle\\ParameterService
+            |services:
+            |  direct_service:
+            |    class: Oro\\AcmeBundle\\DirectService
+            |    tags:
+            |      - { name: form.type, alias: direct }
+            |  parameter_service:
+            |    class: '%some.class%'
+            |  linking_service:
+            |    tags:
+            |      - { name: oro_service_link, service: direct_service }
+            """.stripMargin()
+        )
+        myFixture.addFileToProject("Resources/config/other.xml",
+            """
+            |<?xml version="1.0" ?>
+            |<container>
+            |  <services>
+            |    <service id="other_parameter_service" class="%some.class%"/>
+            |  </services>
+            |</container>
+            """.stripMargin()
+        )
+    }
+
+    def void "test: find services by class name"() {
+        assertEquals(["direct_service", "linking_service"], serviceIds("\\Oro\\AcmeBundle\\DirectService"))
+    }
+
+    def void "test: find services by class name from parameters"() {
+        assertEquals(["other_parameter_service", "parameter_service"], serviceIds("Oro\\AcmeBundle\\ParameterService"))
+    }
+
+    def void "test: find service tags"() {
+        def service = ServicesIndex.instance(myFixture.project).findServicesByClass("Oro\\AcmeBundle\\DirectService")
+            .find { it.id == "direct_service" }
+
+        assertEquals(["form.type"], service.tags.collect { it.name })
+    }
+
+    def void "test: find no services for unknown class"() {
+        assertEquals([], serviceIds("Oro\\AcmeBundle\\Unknown"))
+    }
+
+    private def serviceIds(String className) {
+        ServicesIndex.instance(myFixture.project).findServicesByClass(className).collect { it.id }.unique().sort()
+    }
+}
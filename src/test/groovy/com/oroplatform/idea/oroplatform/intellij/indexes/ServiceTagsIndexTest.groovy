@@ -0,0 +1,126 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes
+
+import com.oroplatform.idea.oroplatform.intellij.codeAssist.TestCase
+
+class ServiceTagsIndexTest extends TestCase {
+    @Override
+    String fileName() {
+        return "Resources/config/services.yml"
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp()
+
+        myFixture.addFileToProject("Resources/config/services.yml",
+            """
+            |services:
+            |  yml_service:
+            |    class: Oro\\AcmeBundle\\YmlService
+            |    tags:
+            |      - { name: form.type, alias: yml_alias }
+            |      - { name: validator.constraint_validator, alias: yml_validator }
+            |  multi_alias_service:
+            |    class: Oro\\AcmeBundle\\MultiAliasService
+            |    tags:
+            |      - { name: form.type, alias: "first_alias|second_alias" }
+            |  linking_service:
+            |    tags:
+            |      - { name: form.type, alias: linking_alias }
+            |      - { name: oro_service_link, service: yml_service }
+            |  untagged_service:
+            |    class: Oro\\AcmeBundle\\UntaggedService
+            """.stripMargin()
+        )
+        myFixture.addFileToProject("Resources/config/services.xml",
+            """
+            |<?xml version="1.0" ?>
+            |<container>
+            |  <services>
+            |    <service id="xml_service" class="Oro\\AcmeBundle\\XmlService">
+            |      <tag name="form.type" alias="xml_alias"/>
+            |      <tag name="validator.constraint_validator" alias="xml_validator"/>
+            |    </service>
+            |  </services>
+            |</container>
+            """.stripMargin()
+        )
+        myFixture.addFileToProject("classes.php",
+            """
+            |<?php
+            |namespace Oro\\AcmeBundle;
+            |class YmlService {}
+            |class MultiAliasService {}
+            |class XmlService {}
+            |class UntaggedService {}
+            """.stripMargin()
+        )
+    }
+
+    def void "test: find aliases of tags declared in xml and yml"() {
+        assertEquals(["first_alias", "linking_alias", "second_alias", "xml_alias", "yml_alias"], aliases("form.type"))
+    }
+
+    def void "test: find services by each of their tags"() {
+        assertEquals(["xml_validator", "yml_validator"], aliases("validator.constraint_validator"))
+        assertEquals(["xml_service", "yml_service"], serviceIds("validator.constraint_validator"))
+        assertEquals(["linking_service", "multi_alias_service", "xml_service", "yml_service"], serviceIds("form.type"))
+    }
+
+    def void "test: find no services for unknown tag"() {
+        assertEquals([], aliases("unknown"))
+    }
+
+    def void "test: find alias classes"() {
+        assertEquals(["\\Oro\\AcmeBundle\\XmlService"], aliasClasses("form.type", "xml_alias"))
+        assertEquals(["\\Oro\\AcmeBundle\\MultiAliasService"], aliasClasses("form.type", "second_alias"))
+        assertEquals(["\\Oro\\AcmeBundle\\YmlService"], aliasClasses("validator.constraint_validator", "yml_validator"))
+        assertEquals([], aliasClasses("validator.constraint_validator", "yml_alias"))
+    }
+
+    def void "test: find alias classes of linked services"() {
+        assertEquals(["\\Oro\\AcmeBundle\\YmlService"], aliasClasses("form.type", "linking_alias"))
+    }
+
+    def void "test: linked services keep alias of linking service"() {
+        def services = ServicesIndex.instance(myFixture.project).getServiceAliasesByTag("form.type")
+            .findAll { it.alias == "linking_alias" }
+            .collect { it.service.id }
+            .unique().sort()
+
+        assertEquals(["linking_service", "yml_service"], services)
+    }
+
+    def void "test: update tags of changed file"() {
+        def file = myFixture.findFileInTempDir("Resources/config/services.xml")
+
+        myFixture.saveText(file,
+            """
+            |<?xml version="1.0" ?>
+            |<container>
+            |  <services>
+            |    <service id="xml_service" class="Oro\\AcmeBundle\\XmlService">
+            |      <tag name="form.type" alias="changed_alias"/>
+            |    </service>
+            |  </services>
+            |</container>
+            """.stripMargin()
+        )
+
+        assertEquals(["yml_validator"], aliases("validator.constraint_validator"))
+        assertEquals(["\\Oro\\AcmeBundle\\XmlService"], aliasClasses("form.type", "changed_alias"))
+        assertEquals([], aliasClasses("form.type", "xml_alias"))
+    }
+
+    private def aliases(String tagName) {
+        ServicesIndex.instance(myFixture.project).getServiceAliasesByTag(tagName).collect { it.alias }.unique().sort()
+    }
+
+    private def serviceIds(String tagName) {
+        ServicesIndex.instance(myFixture.project).getServiceAliasesByTag(tagName).collect { it.service.id }.unique().sort()
+    }
+
+    private def aliasClasses(String tagName, String alias) {
+        ServicesIndex.instance(myFixture.project).getServiceAliasClasses(tagName, alias).collect { it.FQN }.unique().sort()
+    }
+}
@@ -0,0 +1,194 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes
+
+import com.intellij.openapi.command.WriteCommandAction
+import com.intellij.psi.PsiDocumentManager
+import com.oroplatform.idea.oroplatform.intellij.codeAssist.TestCase
+import com.oroplatform.idea.oroplatform.symfony.Service
+import com.oroplatform.idea.oroplatform.symfony.ServiceClassName
+import com.oroplatform.idea.oroplatform.symfony.Tag
+
+class ServicesGraphTest extends TestCase {
+    @Override
+    String fileName() {
+        return "Resources/config/services.yml"
+    }
+
+    def void "test: follow service links"() {
+        myFixture.addFileToProject("Resources/config/services.yml",
+            """
+            |services:
+            |  some_service:
+            |    tags:
+            |      - { name: oro_service_link, service: linked_service }
+            |  linked_service:
+            |    class: Oro\\AcmeBundle\\LinkedService
+            """.stripMargin()
+        )
+
+        assertEquals(["Oro\\AcmeBundle\\LinkedService"], classNames("some_service"))
+    }
+
+    def void "test: substitute parameter class names"() {
+        myFixture.addFileToProject("Resources/config/services.yml",
+            """
+            |parameters:
+            |  some.class: Oro\\AcmeBundle\\SomeService
+            |services:
+            |  some_service:
+            |    class: '%some.class%'
+            """.stripMargin()
+        )
+
+        assertEquals(["Oro\\AcmeBundle\\SomeService"], classNames("some_service"))
+    }
+
+    def void "test: update services depending on changed file"() {
+        myFixture.addFileToProject("Resources/config/services.yml",
+            """
+            |services:
+            |  some_service:
+            |    tags:
+            |      - { name: oro_service_link, service: linked_service }
+            """.stripMargin()
+        )
+        def linkedServices = myFixture.addFileToProject("Resources/config/linked.yml",
+            """
+            |services:
+            |  linked_service:
+            |    class: Oro\\AcmeBundle\\LinkedService
+            """.stripMargin()
+        )
+
+        assertEquals(["Oro\\AcmeBundle\\LinkedService"], classNames("some_service"))
+
+        myFixture.saveText(linkedServices.virtualFile,
+            """
+            |services:
+            |  linked_service:
+            |    class: Oro\\AcmeBundle\\ChangedService
+            """.stripMargin()
+        )
+
+        assertEquals(["Oro\\AcmeBundle\\ChangedService"], classNames("some_service"))
+    }
+
+    def void "test: resolve services again after linked service changed"() {
+        def linkedServices = myFixture.addFileToProject("Resources/config/linked.yml",
+            """
+            |services:
+            |  linked_service:
+            |    class: Oro\\AcmeBundle\\LinkedService
+            """.stripMargin()
+        )
+        def service = new Service("some_service", [new Tag([name: "oro_service_link", service: "linked_service"])], null)
+
+        assertEquals(["Oro\\AcmeBundle\\LinkedService"], classNames(ServicesGraph.getInstance(myFixture.project).resolve(service)))
+        assertEquals(["Oro\\AcmeBundle\\LinkedService"], classNames(ServicesGraph.getInstance(myFixture.project).resolve(service)))
+
+        myFixture.saveText(linkedServices.virtualFile,
+            """
+            |services:
+            |  linked_service:
+            |    class: Oro\\AcmeBundle\\ChangedService
+            """.stripMargin()
+        )
+
+        assertEquals(["Oro\\AcmeBundle\\ChangedService"], classNames(ServicesGraph.getInstance(myFixture.project).resolve(service)))
+    }
+
+    def void "test: update services defined by edited document"() {
+        myFixture.addFileToProject("Resources/config/services.yml",
+            """
+            |services:
+            |  some_service:
+            |    tags:
+            |      - { name: oro_service_link, service: linked_service }
+            """.stripMargin()
+        )
+        configureByText("Resources/config/linked.yml",
+            """
+            |services:
+            |  other_service:
+            |    class: Oro\\AcmeBundle\\OtherService
+            """.stripMargin()
+        )
+
+        assertEquals([], classNames("some_service"))
+
+        WriteCommandAction.runWriteCommandAction(project) {
+            myFixture.editor.document.setText(
+                """
+                |services:
+                |  linked_service:
+                |    class: Oro\\AcmeBundle\\LinkedService
+                """.stripMargin()
+            )
+            PsiDocumentManager.getInstance(project).commitAllDocuments()
+        }
+
+        assertEquals(["Oro\\AcmeBundle\\LinkedService"], classNames("some_service"))
+    }
+
+    def void "test: update services of removed and moved directories"() {
+        myFixture.addFileToProject("Resources/config/services.yml",
+            """
+            |services:
+            |  some_service:
+            |    tags:
+            |      - { name: oro_service_link, service: linked_service }
+            """.stripMargin()
+        )
+        def linkedServices = myFixture.addFileToProject("Linked/Resources/config/linked.yml",
+            """
+            |services:
+            |  linked_service:
+            |    class: Oro\\AcmeBundle\\LinkedService
+            """.stripMargin()
+        )
+        def linkedDir = linkedServices.virtualFile.parent.parent.parent
+        def otherDir = myFixture.tempDirFixture.findOrCreateDir("Other")
+
+        assertEquals(["Oro\\AcmeBundle\\LinkedService"], classNames("some_service"))
+
+        WriteCommandAction.runWriteCommandAction(project) { linkedDir.move(this, otherDir) }
+
+        assertEquals(["Oro\\AcmeBundle\\LinkedService"], classNames("some_service"))
+
+        WriteCommandAction.runWriteCommandAction(project) { linkedDir.delete(this) }
+
+        assertEquals([], classNames("some_service"))
+    }
+
+    def void "test: find services of created directory"() {
+        myFixture.addFileToProject("Resources/config/services.yml",
+            """
+            |services:
+            |  some_service:
+            |    tags:
+            |      - { name: oro_service_link, service: linked_service }
+            """.stripMargin()
+        )
+
+        assertEquals([], classNames("some_service"))
+
+        myFixture.addFileToProject("Linked/Resources/config/linked.yml",
+            """
+            |services:
+            |  linked_service:
+            |    class: Oro\\AcmeBundle\\LinkedService
+            """.stripMargin()
+        )
+
+        assertEquals(["Oro\\AcmeBundle\\LinkedService"], classNames("some_service"))
+    }
+
+    private def classNames(String id) {
+        classNames(ServicesGraph.getInstance(myFixture.project).getServices(id))
+    }
+
+    private static def classNames(Collection<Service> services) {
+        services
+            .collectMany { it.className.map { ServiceClassName className -> [className.className] }.orElse([]) }
+            .unique()
+    }
+}
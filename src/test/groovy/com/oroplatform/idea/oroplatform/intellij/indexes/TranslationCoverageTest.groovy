@@ -0,0 +1,57 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes
+
+import org.junit.Test
+
+import static org.junit.Assert.*
+
+class TranslationCoverageTest {
+    def coverage = TranslationCoverage.of([
+        "en": ["oro.user.label", "oro.user.plural", "oro.email.label"],
+        "pl": ["oro.user.label", "oro.old.label"],
+        "de": ["oro.user.label", "oro.user.plural", "oro.email.label"],
+    ])
+
+    @Test
+    def void "should find keys missing in locale"() {
+        assertEquals(["oro.email.label", "oro.user.plural"], coverage.getMissingKeys("pl"))
+        assertEquals([], coverage.getMissingKeys("de"))
+        assertEquals(["oro.email.label", "oro.user.label", "oro.user.plural"], coverage.getMissingKeys("fr"))
+    }
+
+    @Test
+    def void "should find locales without key"() {
+        assertEquals(["pl"], coverage.getMissingLocales("oro.user.plural"))
+        assertEquals([], coverage.getMissingLocales("oro.user.label"))
+    }
+
+    @Test
+    def void "should find keys missing in base locale"() {
+        assertEquals(["oro.old.label"], coverage.getUnusedKeys("pl"))
+        assertEquals([], coverage.getUnusedKeys("en"))
+        assertEquals([], TranslationCoverage.of(["pl": ["oro.user.label"]]).getUnusedKeys("pl"))
+    }
+
+    @Test
+    def void "should count keys of locales"() {
+        assertEquals(4, coverage.size())
+        assertEquals(["de", "en", "pl"], coverage.getLocales() as List)
+        assertEquals(2, coverage.countKeys("pl"))
+        assertEquals(0, coverage.countKeys("fr"))
+        assertTrue(coverage.hasKey("pl", "oro.old.label"))
+        assertFalse(coverage.hasKey("en", "oro.old.label"))
+        assertFalse(coverage.hasKey("en", "unknown"))
+    }
+
+    @Test
+    def void "should find the same keys as set operations"() {
+        def random = new Random(1)
+        def all = (1..2000).collect { "key${random.nextInt(3000)}".toString() }
+        def keysByLocale = ["en", "pl", "de", "fr"].collectEntries { [(it): all.findAll { random.nextInt(4) > 0 } as Set] }
+        def randomCoverage = TranslationCoverage.of(keysByLocale)
+
+        keysByLocale.each { locale, keys ->
+            assertEquals((keysByLocale["en"] - keys).sort(), randomCoverage.getMissingKeys(locale))
+            assertEquals((keys - keysByLocale["en"]).sort(), randomCoverage.getUnusedKeys(locale))
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes
+
+import com.intellij.psi.search.GlobalSearchScope
+import com.intellij.util.indexing.FileBasedIndex
+import com.oroplatform.idea.oroplatform.intellij.codeAssist.TestCase
+import com.oroplatform.idea.oroplatform.symfony.TranslatedMessage
+import com.oroplatform.idea.oroplatform.symfony.Translation
+
+class TranslationIndexTest extends TestCase {
+    @Override
+    String fileName() {
+        return "Resources/translations/messages.en.yml"
+    }
+
+    def void "test: find translation elements in all files"() {
+        myFixture.addFileToProject("Acme/Resources/translations/messages.en.yml", "oro:\n  user:\n    label: User\n    plural: [Users, Many users]\n")
+        myFixture.addFileToProject("Other/Resources/translations/validators.en.yml", "oro.user.label: Other user\n")
+
+        assertEquals(["Other user", "User"], texts(TranslationIndex.instance(myFixture.project).findTranslationElements("oro.user.label")))
+        assertEquals(["Many users", "Users"], texts(TranslationIndex.instance(myFixture.project).findTranslationElements("oro.user.plural")))
+        assertEquals([], texts(TranslationIndex.instance(myFixture.project).findTranslationElements("oro.user")))
+    }
+
+    def void "test: index domain, locale and offsets of translations"() {
+        def contents = "oro:\n  user: |\n    User\n  other: Other\n"
+        def file = myFixture.addFileToProject("Acme/Resources/translations/jsmessages.en.yml", contents)
+
+        assertEquals(
+            [new Translation("jsmessages", "en", [contents.indexOf("|")])],
+            FileBasedIndex.getInstance().getValues(TranslationFileBasedIndex.KEY, "oro.user", GlobalSearchScope.fileScope(file))
+        )
+        assertEquals(
+            [new Translation("jsmessages", "en", [contents.indexOf("Other")])],
+            FileBasedIndex.getInstance().getValues(TranslationFileBasedIndex.KEY, "oro.other", GlobalSearchScope.fileScope(file))
+        )
+    }
+
+    def void "test: build translation coverage by domains"() {
+        myFixture.addFileToProject("Acme/Resources/translations/messages.en.yml", "oro.user.label: User\noro.user.plural: Users\n")
+        myFixture.addFileToProject("Acme/Resources/translations/messages.de.yml", "oro.user.plural: Benutzer\n")
+        myFixture.addFileToProject("Acme/Resources/translations/validators.de.yml", "oro.user.label: Benutzer\n")
+        myFixture.addFileToProject("Acme/Resources/translations/oro.workflow.en.yml", "oro.user.label: User\n")
+
+        def index = TranslationIndex.instance(myFixture.project)
+
+        assertEquals(["messages", "oro.workflow", "validators"], index.getTranslationCoverages().keySet() as List)
+        assertEquals(["oro.user.label"], index.getTranslationCoverage("messages").getMissingKeys("de"))
+        assertEquals(["en"], index.getTranslationCoverage("oro.workflow").getLocales() as List)
+        assertEquals(0, index.getTranslationCoverage("unknown").size())
+    }
+
+    def void "test: find translated messages in catalogues of all locales"() {
+        def catalogueEn = "\$catalogueEn = new MessageCatalogue('en', array('messages' => array('oro.user.label' => 'User')));"
+        myFixture.addFileToProject("app/cache/dev/translations/catalogue.en.abc.php", "<?php\n$catalogueEn\n")
+        myFixture.addFileToProject(
+            "app/cache/dev/translations/catalogue.pl.abc.php",
+            "<?php\n\$catalogue = new MessageCatalogue('pl', array('messages' => array('oro.user.label' => 'U\u017cytkownik')));\n$catalogueEn\n"
+        )
+
+        assertEquals(
+            [new TranslatedMessage("en", "messages", "User"), new TranslatedMessage("pl", "messages", "U\u017cytkownik")] as Set,
+            TranslationIndex.instance(myFixture.project).findTranslatedMessages("oro.user.label") as Set
+        )
+        assertEquals(2, TranslationIndex.instance(myFixture.project).findTranslatedMessages("oro.user.label").size())
+        assertEquals(["messages"] as Set, TranslationIndex.instance(myFixture.project).findDomains() as Set)
+    }
+
+    def void "test: find translated messages again after catalogues change"() {
+        def catalogue = myFixture.addFileToProject(
+            "app/cache/dev/translations/catalogue.en.abc.php",
+            "<?php\n\$catalogue = new MessageCatalogue('en', array('messages' => array('oro.user.label' => 'User')));\n"
+        )
+
+        assertEquals([new TranslatedMessage("en", "messages", "User")], TranslationIndex.instance(myFixture.project).findTranslatedMessages("oro.user.label").toList())
+
+        myFixture.saveText(catalogue.virtualFile, "<?php\n\$catalogue = new MessageCatalogue('en', array('messages' => array('oro.user.label' => 'Changed user')));\n")
+
+        assertEquals([new TranslatedMessage("en", "messages", "Changed user")], TranslationIndex.instance(myFixture.project).findTranslatedMessages("oro.user.label").toList())
+    }
+
+    private static def texts(elements) {
+        elements.collect { it.textValue }.sort()
+    }
+}
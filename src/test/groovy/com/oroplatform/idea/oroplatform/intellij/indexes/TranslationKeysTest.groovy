@@ -0,0 +1,39 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes
+
+import org.junit.Test
+
+import static org.junit.Assert.*
+
+class TranslationKeysTest {
+    def keys = TranslationKeys.of(["oro.user.label", "oro.user", "oro.email.label", "acme.user.label", "oro.user.plural", "oro.users"])
+
+    @Test
+    def void "should find keys with prefix in order"() {
+        assertEquals(["oro.user", "oro.user.label", "oro.user.plural", "oro.users"], keys.withPrefix("oro.user", 10))
+        assertEquals(["oro.user.label", "oro.user.plural"], keys.withPrefix("oro.user.", 10))
+        assertEquals(6, keys.withPrefix("", 10).size())
+        assertEquals([], keys.withPrefix("oro.z", 10))
+        assertEquals([], keys.withPrefix("zzz", 10))
+    }
+
+    @Test
+    def void "should limit found keys"() {
+        assertEquals(["oro.email.label", "oro.user"], keys.withPrefix("oro.", 2))
+        assertEquals(5, keys.withPrefix("oro.", 10).size())
+        assertEquals([], keys.withPrefix("oro.z", 2))
+    }
+
+    @Test
+    def void "should find the same keys as filtering"() {
+        def random = new Random(1)
+        def all = (1..2000).collect { (0..random.nextInt(4)).collect { "abc"[random.nextInt(3)] }.join(".") }.unique()
+        def translationKeys = TranslationKeys.of(all)
+
+        all.each { key ->
+            (0..key.length()).each { length ->
+                def prefix = key.substring(0, length)
+                assertEquals(all.findAll { it.startsWith(prefix) }.sort(), translationKeys.withPrefix(prefix, Integer.MAX_VALUE))
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes
+
+import org.junit.Test
+
+import static org.junit.Assert.*
+
+class VarExportScannerTest {
+
+    @Test
+    def void "should read quoted strings"() {
+        def scanner = new VarExportScanner(" 'it\\'s \\\\ \\n' \"double\" \"escaped\\n\"")
+
+        assertEquals("it's \\ \\n", scanner.readString())
+        assertEquals("double", scanner.readString())
+        assertNull(scanner.readString())
+    }
+
+    @Test
+    def void "should not read unterminated strings"() {
+        assertNull(new VarExportScanner("'unterminated").readString())
+        assertNull(new VarExportScanner("  ").readString())
+    }
+
+    @Test
+    def void "should read array starts"() {
+        def scanner = new VarExportScanner(" array ( [ arrayValue")
+
+        assertEquals(')' as char, scanner.readArrayStart())
+        assertEquals(']' as char, scanner.readArrayStart())
+        assertEquals(0 as char, scanner.readArrayStart())
+        assertEquals("arrayValue", scanner.readConstant())
+    }
+
+    @Test
+    def void "should read integers and constants"() {
+        def scanner = new VarExportScanner(" -12 34 true 'a'")
+
+        assertEquals("-12", scanner.readInteger())
+        assertEquals("34", scanner.readInteger())
+        assertNull(scanner.readInteger())
+        assertEquals("true", scanner.readConstant())
+        assertNull(scanner.readConstant())
+        assertEquals("a", scanner.readString())
+    }
+
+    @Test
+    def void "should skip tokens and seek"() {
+        def scanner = new VarExportScanner("x = array() => , x = [")
+
+        assertTrue(scanner.seek("x"))
+        assertTrue(scanner.skip('=' as char))
+        assertFalse(scanner.skip('=' as char))
+        assertEquals(')' as char, scanner.readArrayStart())
+        assertTrue(scanner.skip(')' as char))
+        assertTrue(scanner.skip("=>"))
+        assertFalse(scanner.skip("=>"))
+        assertTrue(scanner.skip(','))
+        scanner.skipWhitespaces()
+        assertEquals(17, scanner.position)
+        assertTrue(scanner.seek("x"))
+        assertFalse(scanner.seek("x"))
+        assertTrue(scanner.skip("="))
+        assertEquals(']' as char, scanner.readArrayStart())
+    }
+}
@@ -0,0 +1,110 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes.services
+
+import com.intellij.psi.xml.XmlFile
+import com.intellij.testFramework.PlatformTestUtil
+import com.intellij.testFramework.fixtures.LightPlatformCodeInsightFixtureTestCase
+import com.intellij.util.indexing.FileContent
+
+class XmlContainerReaderTest extends LightPlatformCodeInsightFixtureTestCase {
+
+    def void "test: read the same services as psi indexer"() {
+        assertSameServices(
+            """
+            |<?xml version="1.0" ?>
+            |<container xmlns="http://symfony.com/schema/dic/services">
+            |  <services>
+            |    <!-- comment -->
+            |    <service id="service1" class="Oro\\AcmeBundle\\Service1">
+            |      <argument type="service" id="service2"/>
+            |      <tag name="form.type" alias="some_alias|other_alias"/>
+            |      <tag name="kernel.event_listener" event="some.event" method="onEvent" priority="10"/>
+            |    </service>
+            |    <service id="service2" class="%some.class%" public="false"/>
+            |    <service id="service3">
+            |      <tag name="oro_service_link" service="service1"/>
+            |    </service>
+            |    <service id="service4" class="Oro\\AcmeBundle\\Service4">
+            |      <argument type="service">
+            |        <service class="Oro\\AcmeBundle\\Inline">
+            |          <tag name="inline.tag"/>
+            |        </service>
+            |      </argument>
+            |    </service>
+            |  </services>
+            |</container>
+            """.stripMargin().trim()
+        )
+    }
+
+    def void "test: read the same parameters as psi indexer"() {
+        assertSameParameters(
+            """
+            |<?xml version="1.0" ?>
+            |<container xmlns="http://symfony.com/schema/dic/services">
+            |  <parameters>
+            |    <parameter key="some.class">Oro\\AcmeBundle\\SomeClass</parameter>
+            |    <parameter key="empty"/>
+            |    <parameter key="spaces">  value  </parameter>
+            |    <parameter>no key</parameter>
+            |  </parameters>
+            |</container>
+            """.stripMargin().trim()
+        )
+    }
+
+    def void "test: read nothing from unrelated xml"() {
+        assertSameServices("<routes><route id='some'/></routes>")
+        assertSameParameters("<routes><route id='some'/></routes>")
+    }
+
+    def void "test: give up on content exposed differently by psi"() {
+        [
+            "<container><parameters><parameter key='a'>a &amp; b</parameter></parameters></container>",
+            "<container><parameters><parameter key='a'><![CDATA[value]]></parameter></parameters></container>",
+            "<container><parameters><parameter key='a' type='collection'><parameter>b</parameter></parameter></parameters></container>",
+            "<container><parameters><parameter key='a'>a<!-- comment --></parameter></parameters></container>",
+            "<container><parameters><parameter key='a'>a</parameter>",
+        ].each {
+            assertFalse(it, XmlContainerReader.readParameters(it.bytes, [:]))
+        }
+    }
+
+    def void "test: stream indexer falls back to psi indexer"() {
+        def contents = "<container><parameters><parameter key='a' type='collection'><parameter key='b'>c</parameter></parameter></parameters></container>"
+        def file = myFixture.configureByText("services.xml", contents) as XmlFile
+        def fileContent = [getContent: { contents.bytes }, getPsiFile: { file }] as FileContent
+
+        assertEquals(["a": "<parameter key='b'>c</parameter>", "b": "c"], new ParameterXmlStreamIndexer().map(fileContent))
+    }
+
+    def void "test: indexing throughput"() {
+        def services = (1..2000).collect {
+            """<service id="service$it" class="Oro\\AcmeBundle\\Service$it"><argument type="service" id="other$it"/><tag name="form.type" alias="alias$it"/></service>"""
+        }.join("\n")
+        def contents = """<?xml version="1.0" ?>\n<container xmlns="http://symfony.com/schema/dic/services"><services>$services</services></container>""".bytes
+
+        PlatformTestUtil.startPerformanceTest("xml services indexing", 2000, {
+            10.times {
+                def index = [:]
+                assertTrue(XmlContainerReader.readServices(contents, index))
+                assertEquals(2000, index.size())
+            }
+        }).cpuBound().assertTiming()
+    }
+
+    private def assertSameServices(String contents) {
+        def file = myFixture.configureByText("services.xml", contents) as XmlFile
+        def streamed = [:]
+
+        assertTrue(XmlContainerReader.readServices(contents.bytes, streamed))
+        assertEquals(new ServiceXmlIndexer().map(file).keySet(), streamed.keySet())
+    }
+
+    private def assertSameParameters(String contents) {
+        def file = myFixture.configureByText("services.xml", contents) as XmlFile
+        def streamed = [:]
+
+        assertTrue(XmlContainerReader.readParameters(contents.bytes, streamed))
+        assertEquals(new ParameterXmlIndexer().map(file), streamed)
+    }
+}
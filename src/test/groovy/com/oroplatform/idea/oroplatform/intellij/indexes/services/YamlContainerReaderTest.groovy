@@ -0,0 +1,108 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes.services
+
+import com.intellij.testFramework.PlatformTestUtil
+import com.intellij.testFramework.fixtures.LightPlatformCodeInsightFixtureTestCase
+import com.intellij.util.indexing.FileContent
+import org.jetbrains.yaml.psi.YAMLFile
+
+class YamlContainerReaderTest extends LightPlatformCodeInsightFixtureTestCase {
+
+    def void "test: read the same services as psi indexer"() {
+        assertSameServices(
+            """
+            |# comment
+            |services:
+            |    service1:
+            |        class: Oro\\AcmeBundle\\Service1
+            |        arguments: [@service2, '@service3']
+            |        tags:
+            |            - { name: form.type, alias: "some_alias|other_alias" }
+            |            - name: kernel.event_listener
+            |              event: some.event
+            |              priority: 10
+            |    service2:
+            |        class: %some.class%
+            |        public: false
+            |    service3:
+            |        tags: [{ name: oro_service_link, service: service1 }]
+            |    service4:
+            |        class:
+            |    service5: ~
+            """.stripMargin().trim()
+        )
+    }
+
+    def void "test: read the same parameters as psi indexer"() {
+        assertSameParameters(
+            """
+            |parameters:
+            |    some.class: Oro\\AcmeBundle\\SomeClass
+            |    empty:
+            |    quoted: 'it''s'
+            |    double_quoted: "value"
+            |services:
+            |    service1: ~
+            """.stripMargin().trim()
+        )
+    }
+
+    def void "test: read nothing from unrelated yaml"() {
+        assertSameServices("oro_some:\n    services: []\n")
+        assertSameParameters("- parameters\n")
+        assertSameServices("")
+    }
+
+    def void "test: give up on content exposed differently by psi"() {
+        [
+            "parameters:\n    a: [b, c]\n",
+            "parameters:\n    a: { b: c }\n",
+            "parameters:\n    a: &anchor b\n",
+            "parameters:\n    a: |\n        b\n",
+            "parameters:\n    a: \"b\\nc\"\n",
+            "parameters:\n    a: b\n---\nparameters:\n    c: d\n",
+        ].each {
+            assertFalse(it, YamlContainerReader.readParameters(it, [:]))
+        }
+
+        assertFalse(YamlContainerReader.readServices("services:\n    a:\n        tags: [{ name: b, c: [d] }]\n", [:]))
+    }
+
+    def void "test: stream indexer falls back to psi indexer"() {
+        def contents = "parameters:\n    a: &anchor b\n    c: d\n"
+        def file = myFixture.configureByText("services.yml", contents) as YAMLFile
+        def fileContent = [getContentAsText: { contents }, getPsiFile: { file }] as FileContent
+
+        assertEquals(new ParameterYmlIndexer().map(file), new ParameterYmlStreamIndexer().map(fileContent))
+    }
+
+    def void "test: indexing throughput"() {
+        def services = (1..2000).collect {
+            "    service$it:\n        class: Oro\\AcmeBundle\\Service$it\n        arguments: ['@other$it']\n        tags:\n            - { name: form.type, alias: alias$it }\n"
+        }.join("")
+        def contents = "services:\n$services"
+
+        PlatformTestUtil.startPerformanceTest("yaml services indexing", 2000, {
+            10.times {
+                def index = [:]
+                assertTrue(YamlContainerReader.readServices(contents, index))
+                assertEquals(2000, index.size())
+            }
+        }).cpuBound().assertTiming()
+    }
+
+    private def assertSameServices(String contents) {
+        def file = myFixture.configureByText("services.yml", contents) as YAMLFile
+        def streamed = [:]
+
+        assertTrue(YamlContainerReader.readServices(contents, streamed))
+        assertEquals(new ServiceYamlIndexer().map(file).keySet(), streamed.keySet())
+    }
+
+    private def assertSameParameters(String contents) {
+        def file = myFixture.configureByText("services.yml", contents) as YAMLFile
+        def streamed = [:]
+
+        assertTrue(YamlContainerReader.readParameters(contents, streamed))
+        assertEquals(new ParameterYmlIndexer().map(file), streamed)
+    }
+}
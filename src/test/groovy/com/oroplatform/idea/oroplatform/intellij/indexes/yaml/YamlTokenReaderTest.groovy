@@ -0,0 +1,110 @@
+package com.oroplatform.idea.oroplatform.intellij.indexes.yaml
+
+import com.intellij.testFramework.fixtures.LightPlatformCodeInsightFixtureTestCase
+import com.oroplatform.idea.oroplatform.intellij.codeAssist.yml.YamlScalarVisitor
+import org.jetbrains.yaml.psi.*
+
+class YamlTokenReaderTest extends LightPlatformCodeInsightFixtureTestCase {
+    def random = new Random(1)
+    def keys = ["a", "b", "'c d'", "e.f"]
+    def scalars = ["x", "'y z'", "\"w\"", "%param%", "@service", "'it''s'", "1"]
+
+    def void "test: read the same tree as psi"() {
+        [
+            "a: 1\nb:\n  c: x\n  d: 'y''z'\ne: \"q\"\n",
+            "a:\n- x\n- y\nb: 1",
+            "# comment\na:\n  - b: 1 # comment\n    c: 2\n  - d\n  -\n  - - n\n    - m\nz: {k: v, l: [1, 2, {o: p}], m: }\n",
+            "---\nimports:\n    - { resource: 'oro/some.yml' }\n",
+            "layout:\n  actions:\n    - '@add':\n        id: block\n        parentId: root\n",
+            "a:\n  b:\nc: ~\n",
+            "",
+            "scalar",
+        ].each { assertSameTree(it) }
+    }
+
+    def void "test: read the same tree as psi for random files"() {
+        100.times {
+            assertSameTree(render(randomMapping(3), 0).join("\n"))
+        }
+    }
+
+    def void "test: give up on constructs exposed differently by psi"() {
+        [
+            "a: &anchor 1\nb: *anchor\n",
+            "a: !php/const:SOME 1\n",
+            "a: |\n  text\n",
+            "a: >\n  text\n",
+            "a: some\n  multiline\n",
+            "a: \"escaped\\n\"\n",
+            "? complex\n: key\n",
+            "a: 1\n---\nb: 2\n",
+            "a:\n\tb: 1\n",
+        ].each {
+            assertNull(it, YamlTokenReader.read(it))
+        }
+    }
+
+    def void "test: visit the same scalars as psi visitor"() {
+        def contents = "en:\n  some:\n    label: Label\n    list: [a, b]\n  other: { label: Other }\nroot: value\n"
+        def file = myFixture.configureByText("messages.en.yml", contents)
+        def expected = []
+        def actual = []
+
+        file.accept(new YamlScalarVisitor({ path, scalar -> expected << [path, scalar.textValue, scalar.textOffset]; null }))
+        YamlNodes.visitScalars(YamlTokenReader.read(contents), { path, node -> actual << [path, node.text, node.offset] })
+
+        assertEquals(expected, actual)
+    }
+
+    private def assertSameTree(String contents) {
+        def file = myFixture.configureByText("some.yml", contents) as YAMLFile
+        def roots = YamlTokenReader.read(contents)
+
+        assertNotNull(contents, roots)
+        assertEquals(contents, file.documents.collect { it.topLevelValue }.findAll { it != null }.collect { psiTree(it) }, roots.collect { nodeTree(it) })
+    }
+
+    private static def psiTree(YAMLValue value) {
+        if(value instanceof YAMLMapping) return value.keyValues.collect { [it.keyText, it.key.textOffset, it.value == null ? null : psiTree(it.value)] }
+        if(value instanceof YAMLSequence) return value.items.findAll { it.value != null }.collect { psiTree(it.value) }
+        [(value as YAMLScalar).textValue, value.textOffset]
+    }
+
+    private static def nodeTree(YamlNode node) {
+        if(node.kind == YamlNode.Kind.MAPPING) return node.entries.collect { [it.key, it.keyOffset, it.value == null ? null : nodeTree(it.value)] }
+        if(node.kind == YamlNode.Kind.SEQUENCE) return node.items.collect { nodeTree(it) }
+        [node.text, node.offset]
+    }
+
+    private def randomValue(int depth) {
+        def type = depth == 0 ? 0 : random.nextInt(4)
+        type == 0 ? scalars[random.nextInt(scalars.size())] : type == 1 ? randomMapping(depth - 1) : type == 2 ? randomSequence(depth - 1) :
+            "[${(0..random.nextInt(3)).collect { scalars[random.nextInt(scalars.size())] }.join(", ")}]".toString()
+    }
+
+    private def randomMapping(int depth) {
+        def shuffled = new ArrayList(keys)
+        Collections.shuffle(shuffled, random)
+        shuffled.take(1 + random.nextInt(keys.size())).collectEntries { [(it): randomValue(depth)] }
+    }
+
+    private def randomSequence(int depth) {
+        (0..random.nextInt(3)).collect { random.nextBoolean() || depth == 0 ? scalars[random.nextInt(scalars.size())] : randomMapping(depth) }
+    }
+
+    private static List<String> render(value, int indent) {
+        def pad = " " * indent
+
+        if(value instanceof Map) {
+            value.collectMany { key, child ->
+                child instanceof String ? ["$pad$key: $child".toString()] : ["$pad$key:".toString()] + render(child, indent + 2)
+            }
+        } else {
+            value.collectMany { item ->
+                if(item instanceof String) return ["$pad- $item".toString()]
+                def lines = render(item, indent + 2)
+                ["$pad- ${lines[0].substring(indent + 2)}".toString()] + lines.drop(1)
+            }
+        }
+    }
+}
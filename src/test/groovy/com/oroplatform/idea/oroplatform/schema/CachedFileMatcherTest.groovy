@@ -0,0 +1,41 @@
+package com.oroplatform.idea.oroplatform.schema
+
+import com.intellij.openapi.command.WriteCommandAction
+import com.intellij.psi.PsiDocumentManager
+import com.oroplatform.idea.oroplatform.intellij.codeAssist.TestCase
+
+class CachedFileMatcherTest extends TestCase {
+    @Override
+    String fileName() {
+        return "Resources/config/workflow.yml"
+    }
+
+    def void "test: remember matching result"() {
+        def calls = 0
+        def matcher = new CachedFileMatcher({ calls++; true } as FileMatcher)
+        def file = myFixture.addFileToProject("Resources/config/oro/some.yml", "")
+
+        assertTrue(matcher.matches(file))
+        assertTrue(matcher.matches(file))
+        assertEquals(1, calls)
+    }
+
+    def void "test: forget matching result when imports change"() {
+        def matcher = new CachedFileMatcher(new ImportedFileMatcher("workflow.yml", "Resources/config/workflow.yml"))
+        def imported = myFixture.addFileToProject("Resources/config/oro/imported.yml", "")
+
+        assertFalse(matcher.matches(imported))
+
+        def root = myFixture.addFileToProject("Resources/config/workflow.yml", "imports:\n  - { resource: 'oro/imported.yml' }")
+
+        assertTrue(matcher.matches(imported))
+
+        WriteCommandAction.runWriteCommandAction(project) {
+            def document = PsiDocumentManager.getInstance(project).getDocument(root)
+            document.setText("imports:\n  - { resource: 'oro/other.yml' }")
+            PsiDocumentManager.getInstance(project).commitDocument(document)
+        }
+
+        assertFalse(matcher.matches(imported))
+    }
+}
@@ -0,0 +1,86 @@
+package com.oroplatform.idea.oroplatform.schema
+
+import com.intellij.testFramework.PlatformTestUtil
+import com.oroplatform.idea.oroplatform.intellij.codeAssist.TestCase
+import com.oroplatform.idea.oroplatform.intellij.indexes.ImportsModificationTracker
+
+class FilePathPatternSetTest extends TestCase {
+    @Override
+    String fileName() {
+        return "Resources/config/acl.yml"
+    }
+
+    def patterns = [
+        SchemasV1.FilePathPatterns.ACL,
+        SchemasV1.FilePathPatterns.API,
+        SchemasV1.FilePathPatterns.LAYOUT_UPDATE,
+        SchemasV1.FilePathPatterns.THEME,
+        SchemasV1.FilePathPatterns.ASSETS,
+        SchemasV2.FilePathPatterns.NAVIGATION,
+    ]
+
+    def paths = [
+        "Resources/config/acl.yml",
+        "Resources/config/oro/api.yml",
+        "Resources/config/oro/navigation.yml",
+        "Resources/views/layouts/default/theme.yml",
+        "Resources/views/layouts/default/config/assets.yml",
+        "Resources/views/layouts/default/page/update.yml",
+        "Resources/config/services.yml",
+    ]
+
+    def void "test: match the same files as single patterns"() {
+        def set = new FilePathPatternSet(patterns)
+        def files = paths.collect { myFixture.addFileToProject("Acme$it", "") }
+
+        patterns.each { pattern ->
+            def matcher = set.matcher(pattern)
+            def singleMatcher = new FilePathMatcher(pattern)
+
+            files.each { file ->
+                assertEquals("$pattern: ${file.virtualFile.path}".toString(), singleMatcher.matches(file), matcher.matches(file))
+            }
+        }
+    }
+
+    def void "test: match all patterns at once"() {
+        def set = new FilePathPatternSet(patterns)
+        def file = myFixture.addFileToProject("Acme/Resources/views/layouts/default/theme.yml", "")
+
+        assertEquals([SchemasV1.FilePathPatterns.LAYOUT_UPDATE, SchemasV1.FilePathPatterns.THEME] as Set, set.match(file) as Set)
+    }
+
+    def void "test: reject patterns out of the set"() {
+        try {
+            new FilePathPatternSet(patterns).matcher("Resources/config/other.yml")
+            fail()
+        } catch (IllegalArgumentException ignored) {
+        }
+    }
+
+    def void "test: schema file set contains all schema file path patterns"() {
+        schemaPatterns().each { FilePathPatternSet.schemaFile(it) }
+    }
+
+    def void "test: schema files are matched quickly"() {
+        def matchers = schemaPatterns().collect { FilePathPatternSet.schemaFile(it) }
+        def files = (1..200).collect { i -> myFixture.addFileToProject("Acme$i/${paths[i % paths.size()]}", "") }
+        def expected = files.count { !it.virtualFile.path.endsWith("services.yml") }
+
+        PlatformTestUtil.startPerformanceTest("schema file path matching", 2000, {
+            20.times {
+                //as after imports change, matched patterns are forgotten
+                ImportsModificationTracker.getInstance(myFixture.project).incModificationCount()
+
+                def matched = files.count { file -> matchers.any { it.matches(file) } }
+                assertEquals(expected, matched)
+            }
+        }).cpuBound().assertTiming()
+    }
+
+    private static def schemaPatterns() {
+        [SchemasV1.FilePathPatterns, SchemasV2.FilePathPatterns].collectMany { cls ->
+            cls.declaredFields.findAll { it.type == String }.collect { it.get(null) as String }
+        }.unique()
+    }
+}